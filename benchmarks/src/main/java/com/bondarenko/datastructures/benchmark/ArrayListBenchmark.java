@@ -0,0 +1,159 @@
+package com.bondarenko.datastructures.benchmark;
+
+import com.bondarenko.datastructures.list.ArrayList;
+import com.bondarenko.datastructures.list.CircularArrayList;
+import com.bondarenko.datastructures.list.GapBufferList;
+import com.bondarenko.datastructures.list.IndexedArrayList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayListBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"NUMBER", "STRING"})
+    private ElementType elementType;
+
+    private Object[] elements;
+    private int[] indexes;
+    private ArrayList<Object> list;
+    private java.util.ArrayList<Object> jdkList;
+    private CircularArrayList<Object> circularList;
+    private GapBufferList<Object> gapBufferList;
+
+    @Setup
+    public void setUp() {
+        elements = KeyDistribution.SEQUENTIAL.generate(elementType, size);
+        indexes = new Random(size).ints(size, 0, size).toArray();
+        list = new ArrayList<>();
+        jdkList = new java.util.ArrayList<>();
+        for (Object element : elements) {
+            list.add(element);
+            jdkList.add(element);
+        }
+        circularList = new CircularArrayList<>();
+        gapBufferList = new GapBufferList<>();
+        for (Object element : elements) {
+            circularList.add(element);
+            gapBufferList.add(element);
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Object> add() {
+        ArrayList<Object> result = new ArrayList<>();
+        for (Object element : elements) {
+            result.add(element);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Object> jdkAdd() {
+        java.util.ArrayList<Object> result = new java.util.ArrayList<>();
+        for (Object element : elements) {
+            result.add(element);
+        }
+        return result;
+    }
+
+    // contains() before every add, a linear scan makes it quadratic
+    @Benchmark
+    public ArrayList<Object> deduplicatingAdd() {
+        return addAbsent(new ArrayList<>());
+    }
+
+    @Benchmark
+    public ArrayList<Object> indexedDeduplicatingAdd() {
+        return addAbsent(new IndexedArrayList<>());
+    }
+
+    private ArrayList<Object> addAbsent(ArrayList<Object> result) {
+        for (int index : indexes) {
+            Object element = elements[index];
+            if (!result.contains(element)) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        for (int index : indexes) {
+            blackhole.consume(list.get(index));
+        }
+    }
+
+    @Benchmark
+    public void jdkGet(Blackhole blackhole) {
+        for (int index : indexes) {
+            blackhole.consume(jdkList.get(index));
+        }
+    }
+
+    @Benchmark
+    public Object removeAndAddToTheHead() {
+        Object value = list.remove(0);
+        list.add(value, 0);
+        return value;
+    }
+
+    @Benchmark
+    public Object jdkRemoveAndAddToTheHead() {
+        Object value = jdkList.remove(0);
+        jdkList.add(0, value);
+        return value;
+    }
+
+    @Benchmark
+    public Object removeAndAddToTheEnd() {
+        Object value = list.remove(list.size() - 1);
+        list.add(value);
+        return value;
+    }
+
+    @Benchmark
+    public Object jdkRemoveAndAddToTheEnd() {
+        Object value = jdkList.remove(jdkList.size() - 1);
+        jdkList.add(value);
+        return value;
+    }
+
+    // a queue: push to the tail, pop from the head
+    @Benchmark
+    public Object addToTheEndAndRemoveFromTheHead() {
+        list.add(list.get(0));
+        return list.remove(0);
+    }
+
+    @Benchmark
+    public Object circularAddToTheEndAndRemoveFromTheHead() {
+        circularList.add(circularList.get(0));
+        return circularList.remove(0);
+    }
+
+    // an editor: type and delete a character in the middle
+    @Benchmark
+    public Object addAndRemoveInTheMiddle() {
+        int middle = list.size() / 2;
+        list.add(elements[0], middle);
+        return list.remove(middle);
+    }
+
+    @Benchmark
+    public Object gapBufferAddAndRemoveInTheMiddle() {
+        int middle = gapBufferList.size() / 2;
+        gapBufferList.add(elements[0], middle);
+        return gapBufferList.remove(middle);
+    }
+}
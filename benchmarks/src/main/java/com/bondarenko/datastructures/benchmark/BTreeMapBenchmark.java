@@ -0,0 +1,85 @@
+package com.bondarenko.datastructures.benchmark;
+
+import com.bondarenko.datastructures.map.BTreeMap;
+import com.bondarenko.datastructures.map.Map;
+import com.bondarenko.datastructures.map.MapCursor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+// time-series style range queries: a random window of rangeLength consecutive timestamps per invocation
+// run with -prof gc: the iterator allocates an Entry per key, the cursor and forEach allocate per query only
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BTreeMapBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"10", "1000"})
+    private int rangeLength;
+
+    private BTreeMap<Long, Long> bTreeMap;
+    private TreeMap<Long, Long> jdkTreeMap;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        bTreeMap = new BTreeMap<>();
+        jdkTreeMap = new TreeMap<>();
+        for (long i = 0; i < size; i++) {
+            bTreeMap.put(i * 10, i);
+            jdkTreeMap.put(i * 10, i);
+        }
+        random = new Random(42);
+    }
+
+    @Benchmark
+    public void bTreeMapRange(Blackhole blackhole) {
+        long from = nextFrom();
+        bTreeMap.subMap(from, from + rangeLength * 10L).forEach((key, value) -> blackhole.consume(value));
+    }
+
+    @Benchmark
+    public void bTreeMapRangeCursor(Blackhole blackhole) {
+        long from = nextFrom();
+        MapCursor<Long, Long> cursor = bTreeMap.subMap(from, from + rangeLength * 10L).cursor();
+        while (cursor.advance()) {
+            blackhole.consume(cursor.value());
+        }
+    }
+
+    @Benchmark
+    public void bTreeMapRangeIterator(Blackhole blackhole) {
+        long from = nextFrom();
+        for (Map.Entry<Long, Long> entry : bTreeMap.subMap(from, from + rangeLength * 10L)) {
+            blackhole.consume(entry.getValue());
+        }
+    }
+
+    @Benchmark
+    public void jdkTreeMapRange(Blackhole blackhole) {
+        long from = nextFrom();
+        jdkTreeMap.subMap(from, from + rangeLength * 10L).forEach((key, value) -> blackhole.consume(value));
+    }
+
+    @Benchmark
+    public Long bTreeMapFloorKey() {
+        return bTreeMap.floorKey(nextFrom() + 5);
+    }
+
+    @Benchmark
+    public Long jdkTreeMapFloorKey() {
+        return jdkTreeMap.floorKey(nextFrom() + 5);
+    }
+
+    private long nextFrom() {
+        return random.nextInt(size - rangeLength) * 10L;
+    }
+}
@@ -0,0 +1,138 @@
+package com.bondarenko.datastructures.benchmark;
+
+import com.bondarenko.datastructures.map.ConcurrentHashMap;
+import com.bondarenko.datastructures.map.HashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// run with ScalingRunner to get the 1..N threads curve, or with -t <threads> for a single point
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentHashMapBenchmark {
+    @Param({"100000"})
+    private int size;
+
+    @Param({"CONCURRENT_HASH_MAP", "LOCKED_HASH_MAP", "JDK_CONCURRENT_HASH_MAP"})
+    private MapType mapType;
+
+    @Param({"90"})
+    private int readPercent;
+
+    private Integer[] keys;
+    private SharedMap map;
+
+    @Setup
+    public void setUp() {
+        keys = new Integer[size * 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i;
+        }
+        map = mapType.create();
+        for (int i = 0; i < size; i++) {
+            map.put(keys[i], keys[i]);
+        }
+    }
+
+    @Benchmark
+    public Object get() {
+        return map.get(keys[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    // readPercent of the operations are gets, the rest alternate put and remove over twice the key range
+    @Benchmark
+    public Object mixed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = keys[random.nextInt(keys.length)];
+        int operation = random.nextInt(100);
+        if (operation < readPercent) {
+            return map.get(key);
+        }
+        return (operation & 1) == 0 ? map.put(key, key) : map.remove(key);
+    }
+
+    public enum MapType {
+        CONCURRENT_HASH_MAP {
+            @Override
+            SharedMap create() {
+                ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>();
+                return new SharedMap() {
+                    @Override
+                    public Object get(Integer key) {
+                        return map.get(key);
+                    }
+
+                    @Override
+                    public Object put(Integer key, Integer value) {
+                        return map.put(key, value);
+                    }
+
+                    @Override
+                    public Object remove(Integer key) {
+                        return map.remove(key);
+                    }
+                };
+            }
+        },
+        // what callers do today: HashMap behind one global lock
+        LOCKED_HASH_MAP {
+            @Override
+            SharedMap create() {
+                HashMap<Integer, Integer> map = new HashMap<>();
+                return new SharedMap() {
+                    @Override
+                    public synchronized Object get(Integer key) {
+                        return map.get(key);
+                    }
+
+                    @Override
+                    public synchronized Object put(Integer key, Integer value) {
+                        return map.put(key, value);
+                    }
+
+                    @Override
+                    public synchronized Object remove(Integer key) {
+                        return map.remove(key);
+                    }
+                };
+            }
+        },
+        JDK_CONCURRENT_HASH_MAP {
+            @Override
+            SharedMap create() {
+                java.util.concurrent.ConcurrentHashMap<Integer, Integer> map = new java.util.concurrent.ConcurrentHashMap<>();
+                return new SharedMap() {
+                    @Override
+                    public Object get(Integer key) {
+                        return map.get(key);
+                    }
+
+                    @Override
+                    public Object put(Integer key, Integer value) {
+                        return map.put(key, value);
+                    }
+
+                    @Override
+                    public Object remove(Integer key) {
+                        return map.remove(key);
+                    }
+                };
+            }
+        };
+
+        abstract SharedMap create();
+    }
+
+    interface SharedMap {
+        Object get(Integer key);
+
+        Object put(Integer key, Integer value);
+
+        Object remove(Integer key);
+    }
+}
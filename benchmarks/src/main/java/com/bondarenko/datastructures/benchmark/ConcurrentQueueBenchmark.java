@@ -0,0 +1,179 @@
+package com.bondarenko.datastructures.benchmark;
+
+import com.bondarenko.datastructures.list.ArrayList;
+import com.bondarenko.datastructures.list.ConcurrentLinkedDeque;
+import com.bondarenko.datastructures.list.ConcurrentLinkedQueue;
+import com.bondarenko.datastructures.list.LinkedList;
+import com.bondarenko.datastructures.list.List;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// the ingest stage: 16 producers offer while 8 consumers poll one value at a time or drain batches,
+// a consumer call takes up to two values or a batch, so consumers keep up and the queue stays short
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Group)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentQueueBenchmark {
+    private static final Integer VALUE = 42;
+
+    @Param({"CONCURRENT_LINKED_QUEUE", "CONCURRENT_LINKED_DEQUE", "LOCKED_LINKED_LIST", "JDK_CONCURRENT_LINKED_QUEUE"})
+    private QueueType queueType;
+
+    @Param({"64"})
+    private int batchSize;
+
+    private SharedQueue queue;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        queue = queueType.create();
+    }
+
+    @State(Scope.Thread)
+    public static class Batch {
+        private final List<Integer> values = new ArrayList<>();
+    }
+
+    @Benchmark
+    @Group("poll")
+    @GroupThreads(16)
+    public boolean pollOffer() {
+        return queue.offer(VALUE);
+    }
+
+    @Benchmark
+    @Group("poll")
+    @GroupThreads(8)
+    public Object pollConsume() {
+        Object value = queue.poll();
+        return value == null ? null : queue.poll();
+    }
+
+    @Benchmark
+    @Group("drain")
+    @GroupThreads(16)
+    public boolean drainOffer() {
+        return queue.offer(VALUE);
+    }
+
+    @Benchmark
+    @Group("drain")
+    @GroupThreads(8)
+    public int drainConsume(Batch batch) {
+        batch.values.clear();
+        return queue.drainTo(batch.values, batchSize);
+    }
+
+    public enum QueueType {
+        CONCURRENT_LINKED_QUEUE {
+            @Override
+            SharedQueue create() {
+                ConcurrentLinkedQueue<Integer> queue = new ConcurrentLinkedQueue<>();
+                return new SharedQueue() {
+                    @Override
+                    public boolean offer(Integer value) {
+                        return queue.offer(value);
+                    }
+
+                    @Override
+                    public Object poll() {
+                        return queue.poll();
+                    }
+
+                    @Override
+                    public int drainTo(List<Integer> target, int maxValues) {
+                        return queue.drainTo(target, maxValues);
+                    }
+                };
+            }
+        },
+        CONCURRENT_LINKED_DEQUE {
+            @Override
+            SharedQueue create() {
+                ConcurrentLinkedDeque<Integer> deque = new ConcurrentLinkedDeque<>();
+                return new SharedQueue() {
+                    @Override
+                    public boolean offer(Integer value) {
+                        return deque.offerLast(value);
+                    }
+
+                    @Override
+                    public Object poll() {
+                        return deque.pollFirst();
+                    }
+
+                    @Override
+                    public int drainTo(List<Integer> target, int maxValues) {
+                        return deque.drainTo(target, maxValues);
+                    }
+                };
+            }
+        },
+        // what callers do today: LinkedList behind one global lock
+        LOCKED_LINKED_LIST {
+            @Override
+            SharedQueue create() {
+                LinkedList<Integer> list = new LinkedList<>();
+                return new SharedQueue() {
+                    @Override
+                    public synchronized boolean offer(Integer value) {
+                        return list.offerLast(value);
+                    }
+
+                    @Override
+                    public synchronized Object poll() {
+                        return list.pollFirst();
+                    }
+
+                    @Override
+                    public synchronized int drainTo(List<Integer> target, int maxValues) {
+                        return list.drainTo(target, maxValues);
+                    }
+                };
+            }
+        },
+        // has no drainTo, the batch is polled value by value
+        JDK_CONCURRENT_LINKED_QUEUE {
+            @Override
+            SharedQueue create() {
+                java.util.concurrent.ConcurrentLinkedQueue<Integer> queue = new java.util.concurrent.ConcurrentLinkedQueue<>();
+                return new SharedQueue() {
+                    @Override
+                    public boolean offer(Integer value) {
+                        return queue.offer(value);
+                    }
+
+                    @Override
+                    public Object poll() {
+                        return queue.poll();
+                    }
+
+                    @Override
+                    public int drainTo(List<Integer> target, int maxValues) {
+                        int count = 0;
+                        Integer value;
+                        while (count < maxValues && (value = queue.poll()) != null) {
+                            target.add(value);
+                            count++;
+                        }
+                        return count;
+                    }
+                };
+            }
+        };
+
+        abstract SharedQueue create();
+    }
+
+    interface SharedQueue {
+        boolean offer(Integer value);
+
+        Object poll();
+
+        int drainTo(List<Integer> target, int maxValues);
+    }
+}
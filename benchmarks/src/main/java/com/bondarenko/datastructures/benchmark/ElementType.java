@@ -0,0 +1,6 @@
+package com.bondarenko.datastructures.benchmark;
+
+public enum ElementType {
+    NUMBER,
+    STRING
+}
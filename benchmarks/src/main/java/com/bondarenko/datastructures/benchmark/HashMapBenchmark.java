@@ -0,0 +1,153 @@
+package com.bondarenko.datastructures.benchmark;
+
+import com.bondarenko.datastructures.map.HashMap;
+import com.bondarenko.datastructures.map.Map;
+import com.bondarenko.datastructures.map.MapCursor;
+import com.bondarenko.datastructures.map.OpenAddressingHashMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashMapBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "COLLIDING"})
+    private KeyDistribution keyDistribution;
+
+    @Param({"NUMBER", "STRING"})
+    private ElementType elementType;
+
+    private Object[] keys;
+    private Object[] missingKeys;
+    private Map<Object, Object> hashMap;
+    private Map<Object, Object> statsHashMap;
+    private Map<Object, Object> openAddressingHashMap;
+    private java.util.HashMap<Object, Object> jdkHashMap;
+    private MapCursor<Object, Object> cursor;
+
+    @Setup
+    public void setUp() {
+        Object[] generated = keyDistribution.generate(elementType, size * 2);
+        keys = new Object[size];
+        missingKeys = new Object[size];
+        System.arraycopy(generated, 0, keys, 0, size);
+        System.arraycopy(generated, size, missingKeys, 0, size);
+        hashMap = fill(new HashMap<>());
+        HashMap<Object, Object> withStats = new HashMap<>();
+        withStats.enableStats();
+        statsHashMap = fill(withStats);
+        openAddressingHashMap = fill(new OpenAddressingHashMap<>());
+        jdkHashMap = new java.util.HashMap<>();
+        for (Object key : keys) {
+            jdkHashMap.put(key, key);
+        }
+        cursor = hashMap.cursor();
+    }
+
+    // a fresh map per invocation, so every growCapacity() on the way to size is measured too
+    @Benchmark
+    public Map<Object, Object> hashMapPut() {
+        return fill(new HashMap<>());
+    }
+
+    @Benchmark
+    public Map<Object, Object> openAddressingHashMapPut() {
+        return fill(new OpenAddressingHashMap<>());
+    }
+
+    @Benchmark
+    public java.util.HashMap<Object, Object> jdkPut() {
+        java.util.HashMap<Object, Object> map = new java.util.HashMap<>();
+        for (Object key : keys) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public void hashMapGet(Blackhole blackhole) {
+        get(hashMap, keys, blackhole);
+    }
+
+    // hashMapGet pays one null check for disabled stats, this one counts every hit
+    @Benchmark
+    public void hashMapGetWithStats(Blackhole blackhole) {
+        get(statsHashMap, keys, blackhole);
+    }
+
+    @Benchmark
+    public void openAddressingHashMapGet(Blackhole blackhole) {
+        get(openAddressingHashMap, keys, blackhole);
+    }
+
+    @Benchmark
+    public void jdkGet(Blackhole blackhole) {
+        for (Object key : keys) {
+            blackhole.consume(jdkHashMap.get(key));
+        }
+    }
+
+    @Benchmark
+    public void hashMapGetMissing(Blackhole blackhole) {
+        get(hashMap, missingKeys, blackhole);
+    }
+
+    @Benchmark
+    public void openAddressingHashMapGetMissing(Blackhole blackhole) {
+        get(openAddressingHashMap, missingKeys, blackhole);
+    }
+
+    @Benchmark
+    public void jdkGetMissing(Blackhole blackhole) {
+        for (Object key : missingKeys) {
+            blackhole.consume(jdkHashMap.get(key));
+        }
+    }
+
+    // the iterator allocates an iterator per bucket, forEach and a reused cursor do not
+    @Benchmark
+    public void hashMapIterate(Blackhole blackhole) {
+        for (Map.Entry<Object, Object> entry : hashMap) {
+            blackhole.consume(entry.getValue());
+        }
+    }
+
+    @Benchmark
+    public void hashMapForEach(Blackhole blackhole) {
+        hashMap.forEach((key, value) -> blackhole.consume(value));
+    }
+
+    @Benchmark
+    public void hashMapCursor(Blackhole blackhole) {
+        cursor.reset();
+        while (cursor.advance()) {
+            blackhole.consume(cursor.value());
+        }
+    }
+
+    @Benchmark
+    public void jdkForEach(Blackhole blackhole) {
+        jdkHashMap.forEach((key, value) -> blackhole.consume(value));
+    }
+
+    private Map<Object, Object> fill(Map<Object, Object> map) {
+        for (Object key : keys) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    private static void get(Map<Object, Object> map, Object[] keys, Blackhole blackhole) {
+        for (Object key : keys) {
+            blackhole.consume(map.get(key));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.bondarenko.datastructures.benchmark;
+
+import com.bondarenko.datastructures.map.HashMap;
+import com.bondarenko.datastructures.map.Map;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// hash flooding: one request carries parameterCount parameter names that all share a hashCode(),
+// so without tree buckets parsing it into a map is O(n^2) and every lookup is O(n)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashMapCollisionBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int parameterCount;
+
+    @Param({"COLLIDING", "RANDOM"})
+    private KeyDistribution keyDistribution;
+
+    private Object[] names;
+    private Map<Object, Object> hashMap;
+    private java.util.HashMap<Object, Object> jdkHashMap;
+
+    @Setup
+    public void setUp() {
+        names = keyDistribution.generate(ElementType.STRING, parameterCount);
+        hashMap = parseRequest();
+        jdkHashMap = new java.util.HashMap<>();
+        for (Object name : names) {
+            jdkHashMap.put(name, name);
+        }
+    }
+
+    @Benchmark
+    public Map<Object, Object> hashMapParseRequest() {
+        return parseRequest();
+    }
+
+    @Benchmark
+    public java.util.HashMap<Object, Object> jdkParseRequest() {
+        java.util.HashMap<Object, Object> map = new java.util.HashMap<>();
+        for (Object name : names) {
+            map.put(name, name);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public void hashMapGet(Blackhole blackhole) {
+        for (Object name : names) {
+            blackhole.consume(hashMap.get(name));
+        }
+    }
+
+    @Benchmark
+    public void jdkGet(Blackhole blackhole) {
+        for (Object name : names) {
+            blackhole.consume(jdkHashMap.get(name));
+        }
+    }
+
+    private Map<Object, Object> parseRequest() {
+        Map<Object, Object> map = new HashMap<>();
+        for (Object name : names) {
+            map.put(name, name);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,33 @@
+package com.bondarenko.datastructures.benchmark;
+
+import com.bondarenko.datastructures.map.HashMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// latency distribution of single puts into an ever growing map, compare the p99.9 of both resize modes
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashMapResizeLatencyBenchmark {
+    @Param({"false", "true"})
+    private boolean incrementalResize;
+
+    private HashMap<Integer, Integer> map;
+    private int nextKey;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        map = new HashMap<>(16, 2.5, 0.75, incrementalResize);
+        nextKey = 0;
+    }
+
+    @Benchmark
+    public Integer put() {
+        Integer key = nextKey++;
+        return map.put(key, key);
+    }
+}
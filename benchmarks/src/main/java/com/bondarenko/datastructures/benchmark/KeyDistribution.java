@@ -0,0 +1,49 @@
+package com.bondarenko.datastructures.benchmark;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public enum KeyDistribution {
+    SEQUENTIAL,
+    RANDOM,
+    // every key has the same hashCode(): numbers are longs like (k << 32) | k,
+    // strings are built from the "Aa"/"BB" blocks which hash equally
+    COLLIDING;
+
+    private static final long SEED = 42;
+
+    public Object[] generate(ElementType elementType, int size) {
+        Object[] keys = new Object[size];
+        Random random = new Random(SEED);
+        Set<Object> unique = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            Object key;
+            do {
+                key = generate(elementType, i, random);
+            } while (!unique.add(key));
+            keys[i] = key;
+        }
+        return keys;
+    }
+
+    private Object generate(ElementType elementType, int index, Random random) {
+        switch (this) {
+            case SEQUENTIAL:
+                return elementType == ElementType.NUMBER ? (Object) (long) index : "key" + index;
+            case RANDOM:
+                long value = random.nextLong();
+                return elementType == ElementType.NUMBER ? (Object) value : Long.toHexString(value);
+            default:
+                return elementType == ElementType.NUMBER ? (Object) (((long) index << 32) | index) : collidingString(index);
+        }
+    }
+
+    private static String collidingString(int index) {
+        StringBuilder builder = new StringBuilder();
+        for (int bit = 0; bit < 20; bit++) {
+            builder.append((index >>> bit & 1) == 0 ? "Aa" : "BB");
+        }
+        return builder.toString();
+    }
+}
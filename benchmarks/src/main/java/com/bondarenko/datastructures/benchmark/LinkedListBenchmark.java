@@ -0,0 +1,94 @@
+package com.bondarenko.datastructures.benchmark;
+
+import com.bondarenko.datastructures.list.LinkedList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkedListBenchmark {
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"NUMBER", "STRING"})
+    private ElementType elementType;
+
+    private int[] indexes;
+    private LinkedList<Object> list;
+    private java.util.LinkedList<Object> jdkList;
+
+    @Setup
+    public void setUp() {
+        Object[] elements = KeyDistribution.SEQUENTIAL.generate(elementType, size);
+        indexes = new Random(size).ints(size, 0, size).toArray();
+        list = new LinkedList<>();
+        jdkList = new java.util.LinkedList<>();
+        for (Object element : elements) {
+            list.add(element);
+            jdkList.add(element);
+        }
+    }
+
+    @Benchmark
+    public void getByRandomIndex(Blackhole blackhole) {
+        for (int index : indexes) {
+            blackhole.consume(list.get(index));
+        }
+    }
+
+    @Benchmark
+    public void jdkGetByRandomIndex(Blackhole blackhole) {
+        for (int index : indexes) {
+            blackhole.consume(jdkList.get(index));
+        }
+    }
+
+    @Benchmark
+    public void getBySequentialIndex(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(list.get(i));
+        }
+    }
+
+    @Benchmark
+    public void jdkGetBySequentialIndex(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(jdkList.get(i));
+        }
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Object value : list) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void jdkIterate(Blackhole blackhole) {
+        for (Object value : jdkList) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public Object removeAndAddToTheHead() {
+        Object value = list.remove(0);
+        list.add(value, 0);
+        return value;
+    }
+
+    @Benchmark
+    public Object jdkRemoveAndAddToTheHead() {
+        Object value = jdkList.remove(0);
+        jdkList.add(0, value);
+        return value;
+    }
+}
@@ -0,0 +1,85 @@
+package com.bondarenko.datastructures.benchmark;
+
+import com.bondarenko.datastructures.map.HashMap;
+import com.bondarenko.datastructures.map.PersistentHashMap;
+import com.bondarenko.datastructures.map.TransientHashMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// publishing a changed snapshot: a new version of a persistent map against a copy of a mutable one
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistentHashMapBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Object[] keys;
+    private PersistentHashMap<Object, Object> persistentMap;
+    private HashMap<Object, Object> hashMap;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        keys = KeyDistribution.RANDOM.generate(ElementType.NUMBER, size);
+        TransientHashMap<Object, Object> transientMap = new TransientHashMap<>();
+        hashMap = new HashMap<>();
+        for (Object key : keys) {
+            transientMap.put(key, key);
+            hashMap.put(key, key);
+        }
+        persistentMap = transientMap.persistent();
+    }
+
+    @Benchmark
+    public PersistentHashMap<Object, Object> persistentWith() {
+        Object key = keys[next++ % size];
+        return persistentMap.with(key, next);
+    }
+
+    @Benchmark
+    public HashMap<Object, Object> copyAndPut() {
+        HashMap<Object, Object> copy = new HashMap<>();
+        hashMap.forEach(copy::put);
+        Object key = keys[next++ % size];
+        copy.put(key, next);
+        return copy;
+    }
+
+    @Benchmark
+    public PersistentHashMap<Object, Object> transientLoad() {
+        TransientHashMap<Object, Object> transientMap = new TransientHashMap<>();
+        for (Object key : keys) {
+            transientMap.put(key, key);
+        }
+        return transientMap.persistent();
+    }
+
+    @Benchmark
+    public PersistentHashMap<Object, Object> persistentLoad() {
+        PersistentHashMap<Object, Object> map = PersistentHashMap.empty();
+        for (Object key : keys) {
+            map = map.with(key, key);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public void persistentGet(Blackhole blackhole) {
+        for (Object key : keys) {
+            blackhole.consume(persistentMap.get(key));
+        }
+    }
+
+    @Benchmark
+    public void hashMapGet(Blackhole blackhole) {
+        for (Object key : keys) {
+            blackhole.consume(hashMap.get(key));
+        }
+    }
+}
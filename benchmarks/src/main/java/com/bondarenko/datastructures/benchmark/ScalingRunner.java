@@ -0,0 +1,30 @@
+package com.bondarenko.datastructures.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// runs a benchmark with 1, 2, 4 ... up to the number of cores threads, one JSON result file per thread count
+// java -cp benchmarks/target/benchmarks.jar com.bondarenko.datastructures.benchmark.ScalingRunner [benchmark regexp] [result dir]
+public class ScalingRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ConcurrentHashMapBenchmark.class.getSimpleName();
+        String resultDirectory = args.length > 1 ? args[1] : "target";
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; ; threads = Math.min(threads * 2, cores)) {
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(resultDirectory + "/jmh-scaling-" + threads + "-threads.json")
+                    .build();
+            new Runner(options).run();
+            if (threads == cores) {
+                break;
+            }
+        }
+    }
+}
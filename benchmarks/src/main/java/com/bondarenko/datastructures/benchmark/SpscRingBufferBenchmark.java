@@ -0,0 +1,206 @@
+package com.bondarenko.datastructures.benchmark;
+
+import com.bondarenko.datastructures.list.ArrayList;
+import com.bondarenko.datastructures.list.ConcurrentLinkedQueue;
+import com.bondarenko.datastructures.list.List;
+import com.bondarenko.datastructures.list.SpscRingBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// thread to thread handoff: one producer and one consumer, one value or a batch per call,
+// run with -prof gc to check that the ring buffer allocates nothing per value
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Group)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpscRingBufferBenchmark {
+    @Param({"SPSC_RING_BUFFER", "CONCURRENT_LINKED_QUEUE", "JDK_ARRAY_BLOCKING_QUEUE"})
+    private QueueType queueType;
+
+    @Param({"1024"})
+    private int capacity;
+
+    @Param({"64"})
+    private int batchSize;
+
+    private Handoff handoff;
+    private Integer[] batch;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        handoff = queueType.create(capacity);
+        batch = new Integer[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            batch[i] = i;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Sink {
+        private Consumer<Integer> consumer;
+
+        @Setup
+        public void setUp(Blackhole blackhole) {
+            consumer = blackhole::consume;
+        }
+    }
+
+    @Benchmark
+    @Group("single")
+    @GroupThreads(1)
+    public boolean singleOffer() {
+        return handoff.offer(42);
+    }
+
+    @Benchmark
+    @Group("single")
+    @GroupThreads(1)
+    public Object singlePoll() {
+        return handoff.poll();
+    }
+
+    @Benchmark
+    @Group("batch")
+    @GroupThreads(1)
+    public int batchOffer() {
+        return handoff.offerBatch(batch);
+    }
+
+    @Benchmark
+    @Group("batch")
+    @GroupThreads(1)
+    public int batchDrain(Sink sink) {
+        return handoff.drain(sink.consumer, batchSize);
+    }
+
+    public enum QueueType {
+        SPSC_RING_BUFFER {
+            @Override
+            Handoff create(int capacity) {
+                SpscRingBuffer<Integer> ringBuffer = new SpscRingBuffer<>(capacity);
+                return new Handoff() {
+                    @Override
+                    public boolean offer(Integer value) {
+                        return ringBuffer.offer(value);
+                    }
+
+                    @Override
+                    public Object poll() {
+                        return ringBuffer.poll();
+                    }
+
+                    @Override
+                    public int offerBatch(Integer[] values) {
+                        return ringBuffer.offerBatch(values);
+                    }
+
+                    @Override
+                    public int drain(Consumer<Integer> consumer, int limit) {
+                        return ringBuffer.drain(consumer, limit);
+                    }
+                };
+            }
+        },
+        // unbounded, a counter bounds it to capacity as a linked blocking queue would, so the queue can not grow
+        // without limit while the producer outruns the consumer
+        CONCURRENT_LINKED_QUEUE {
+            @Override
+            Handoff create(int capacity) {
+                ConcurrentLinkedQueue<Integer> queue = new ConcurrentLinkedQueue<>();
+                AtomicInteger size = new AtomicInteger();
+                return new Handoff() {
+                    @Override
+                    public boolean offer(Integer value) {
+                        if (size.get() >= capacity) {
+                            return false;
+                        }
+                        size.incrementAndGet();
+                        return queue.offer(value);
+                    }
+
+                    @Override
+                    public Object poll() {
+                        Integer value = queue.poll();
+                        if (value != null) {
+                            size.decrementAndGet();
+                        }
+                        return value;
+                    }
+
+                    @Override
+                    public int offerBatch(Integer[] values) {
+                        int count = 0;
+                        while (count < values.length && offer(values[count])) {
+                            count++;
+                        }
+                        return count;
+                    }
+
+                    @Override
+                    public int drain(Consumer<Integer> consumer, int limit) {
+                        List<Integer> batch = new ArrayList<>();
+                        int count = queue.drainTo(batch, limit);
+                        size.addAndGet(-count);
+                        batch.forEach(consumer);
+                        return count;
+                    }
+                };
+            }
+        },
+        JDK_ARRAY_BLOCKING_QUEUE {
+            @Override
+            Handoff create(int capacity) {
+                java.util.concurrent.ArrayBlockingQueue<Integer> queue = new java.util.concurrent.ArrayBlockingQueue<>(capacity);
+                return new Handoff() {
+                    @Override
+                    public boolean offer(Integer value) {
+                        return queue.offer(value);
+                    }
+
+                    @Override
+                    public Object poll() {
+                        return queue.poll();
+                    }
+
+                    @Override
+                    public int offerBatch(Integer[] values) {
+                        int count = 0;
+                        while (count < values.length && queue.offer(values[count])) {
+                            count++;
+                        }
+                        return count;
+                    }
+
+                    @Override
+                    public int drain(Consumer<Integer> consumer, int limit) {
+                        int count = 0;
+                        Integer value;
+                        while (count < limit && (value = queue.poll()) != null) {
+                            consumer.accept(value);
+                            count++;
+                        }
+                        return count;
+                    }
+                };
+            }
+        };
+
+        abstract Handoff create(int capacity);
+    }
+
+    interface Handoff {
+        boolean offer(Integer value);
+
+        Object poll();
+
+        int offerBatch(Integer[] values);
+
+        int drain(Consumer<Integer> consumer, int limit);
+    }
+}
@@ -0,0 +1,51 @@
+package com.bondarenko.datastructures;
+
+// how a backing array changes its capacity, shared by ArrayList and HashMap
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    // the capacity to grow to from capacity, at least minCapacity
+    int grow(int capacity, int minCapacity);
+
+    // the capacity to shrink to when only size cells are used, capacity itself keeps the array as it is
+    // shrinking below a quarter down to twice the size leaves room both ways,
+    // so add/remove around one size does not reallocate every time
+    default int shrink(int capacity, int size) {
+        return size < capacity / 4 ? size * 2 : capacity;
+    }
+
+    // capacity * factor, the default of ArrayList and HashMap with factor 2.5
+    static GrowthPolicy multiplicative(double factor) {
+        if (factor <= 1) {
+            throw new IllegalArgumentException("Growth factor " + factor + " must be greater than 1");
+        }
+        return (capacity, minCapacity) -> clamp(Math.max((long) (capacity * factor), minCapacity));
+    }
+
+    // capacity + increment, memory overhead is bounded but adding n values costs O(n * n / increment)
+    static GrowthPolicy additive(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Increment " + increment + " must be positive");
+        }
+        return (capacity, minCapacity) -> clamp(Math.max((long) capacity + increment, minCapacity));
+    }
+
+    // multiplicative while capacity is small, then never more than maxChunk cells at once,
+    // so a huge array does not double its footprint on one add
+    static GrowthPolicy cappedChunk(double factor, int maxChunk) {
+        if (factor <= 1) {
+            throw new IllegalArgumentException("Growth factor " + factor + " must be greater than 1");
+        }
+        if (maxChunk <= 0) {
+            throw new IllegalArgumentException("Max chunk " + maxChunk + " must be positive");
+        }
+        return (capacity, minCapacity) -> {
+            long chunk = Math.min(Math.max((long) (capacity * (factor - 1)), 1), maxChunk);
+            return clamp(Math.max(capacity + chunk, minCapacity));
+        };
+    }
+
+    private static int clamp(long capacity) {
+        return (int) Math.min(capacity, Integer.MAX_VALUE);
+    }
+}
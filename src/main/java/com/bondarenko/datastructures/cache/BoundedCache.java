@@ -0,0 +1,285 @@
+package com.bondarenko.datastructures.cache;
+
+import com.bondarenko.datastructures.map.HashMap;
+
+import java.util.Objects;
+
+// the HashMap finds the node of a key and the node itself is linked into an access order queue,
+// so moving an entry on access and picking a victim are O(1) without searching any list
+public class BoundedCache<K, V> implements Cache<K, V> {
+    private static final double WINDOW_SHARE = 0.01;
+    private static final double PROTECTED_SHARE = 0.8;
+
+    private final HashMap<K, Node<K, V>> nodes = new HashMap<>();
+    private final NodeQueue<K, V> window = new NodeQueue<>(QueueType.WINDOW);
+    private final NodeQueue<K, V> probation = new NodeQueue<>(QueueType.PROBATION);
+    private final NodeQueue<K, V> protectedQueue = new NodeQueue<>(QueueType.PROTECTED);
+    private final FrequencySketch sketch;
+
+    private final EvictionPolicy policy;
+    private final Weigher<? super K, ? super V> weigher;
+    private final long maximumWeight;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public BoundedCache(long maximumSize) {
+        this(maximumSize, EvictionPolicy.W_TINY_LFU);
+    }
+
+    public BoundedCache(long maximumSize, EvictionPolicy policy) {
+        this(maximumSize, policy, (key, value) -> 1);
+    }
+
+    public BoundedCache(long maximumWeight, EvictionPolicy policy, Weigher<? super K, ? super V> weigher) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Maximum weight " + maximumWeight + " must not be negative");
+        }
+        this.maximumWeight = maximumWeight;
+        this.policy = Objects.requireNonNull(policy);
+        this.weigher = Objects.requireNonNull(weigher);
+        this.windowMaximum = policy == EvictionPolicy.W_TINY_LFU
+                ? maximumWeight - (long) (maximumWeight * (1 - WINDOW_SHARE))
+                : 0;
+        this.protectedMaximum = policy == EvictionPolicy.LRU
+                ? 0
+                : (long) ((maximumWeight - windowMaximum) * PROTECTED_SHARE);
+        this.sketch = policy == EvictionPolicy.W_TINY_LFU ? new FrequencySketch() : null;
+    }
+
+    @Override
+    public V get(K key) {
+        recordAccess(key);
+        Node<K, V> node = nodes.get(key);
+        if (node == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        onAccess(node);
+        return node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight " + weight + " must not be negative");
+        }
+        recordAccess(key);
+        Node<K, V> node = nodes.get(key);
+        if (weight > maximumWeight) {
+            // an entry heavier than the whole cache is evicted at once, the other entries are not touched
+            evictionCount++;
+            if (node == null) {
+                return null;
+            }
+            queueOf(node).remove(node);
+            nodes.remove(key);
+            return node.value;
+        }
+        if (node != null) {
+            V oldValue = node.value;
+            node.value = value;
+            queueOf(node).weight += weight - node.weight;
+            node.weight = weight;
+            onAccess(node);
+            evict();
+            return oldValue;
+        }
+        node = new Node<>(key, value, weight);
+        nodes.put(key, node);
+        if (policy == EvictionPolicy.W_TINY_LFU) {
+            sketch.ensureCapacity(nodes.size());
+            window.addLast(node);
+        } else {
+            probation.addLast(node);
+        }
+        evict();
+        return null;
+    }
+
+    @Override
+    public V remove(K key) {
+        Node<K, V> node = nodes.remove(key);
+        if (node == null) {
+            return null;
+        }
+        queueOf(node).remove(node);
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return nodes.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    @Override
+    public long weightedSize() {
+        return window.weight + probation.weight + protectedQueue.weight;
+    }
+
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(hitCount, missCount, evictionCount);
+    }
+
+    private void recordAccess(K key) {
+        if (sketch != null) {
+            sketch.increment(Objects.hashCode(key));
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.queue == QueueType.PROBATION && policy != EvictionPolicy.LRU) {
+            // the second access promotes the entry out of probation
+            probation.remove(node);
+            protectedQueue.addLast(node);
+            demoteProtected();
+        } else {
+            queueOf(node).moveToLast(node);
+        }
+    }
+
+    private void demoteProtected() {
+        while (protectedQueue.weight > protectedMaximum && protectedQueue.first != null) {
+            Node<K, V> node = protectedQueue.first;
+            protectedQueue.remove(node);
+            probation.addLast(node);
+        }
+    }
+
+    private void evict() {
+        if (policy == EvictionPolicy.W_TINY_LFU) {
+            while (window.weight > windowMaximum) {
+                Node<K, V> candidate = window.first;
+                window.remove(candidate);
+                probation.addLast(candidate);
+                admit(candidate);
+            }
+        }
+        demoteProtected();
+        while (weightedSize() > maximumWeight) {
+            evict(victim());
+        }
+    }
+
+    // the candidate from the window either wins against the main victims or is evicted itself
+    private void admit(Node<K, V> candidate) {
+        int candidateFrequency = sketch.frequency(Objects.hashCode(candidate.key));
+        while (weightedSize() > maximumWeight) {
+            Node<K, V> victim = probation.first != candidate ? probation.first : protectedQueue.first;
+            if (victim == null || candidateFrequency <= sketch.frequency(Objects.hashCode(victim.key))) {
+                evict(candidate);
+                return;
+            }
+            evict(victim);
+        }
+    }
+
+    private Node<K, V> victim() {
+        if (probation.first != null) {
+            return probation.first;
+        }
+        if (protectedQueue.first != null) {
+            return protectedQueue.first;
+        }
+        return window.first;
+    }
+
+    private void evict(Node<K, V> node) {
+        queueOf(node).remove(node);
+        nodes.remove(node.key);
+        evictionCount++;
+    }
+
+    private NodeQueue<K, V> queueOf(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW:
+                return window;
+            case PROBATION:
+                return probation;
+            default:
+                return protectedQueue;
+        }
+    }
+
+    private enum QueueType {
+        WINDOW, PROBATION, PROTECTED
+    }
+
+    // doubly linked list of nodes from the least to the most recently used, keeps the sum of their weights
+    private static class NodeQueue<K, V> {
+        private final QueueType type;
+        private Node<K, V> first;
+        private Node<K, V> last;
+        private long weight;
+
+        private NodeQueue(QueueType type) {
+            this.type = type;
+        }
+
+        private void addLast(Node<K, V> node) {
+            node.queue = type;
+            node.prev = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            weight += node.weight;
+        }
+
+        private void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = node.next = null;
+            weight -= node.weight;
+        }
+
+        private void moveToLast(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+    }
+
+    private static class Node<K, V> {
+        private final K key;
+        private V value;
+        private int weight;
+        private QueueType queue;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
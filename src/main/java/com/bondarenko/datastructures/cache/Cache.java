@@ -0,0 +1,23 @@
+package com.bondarenko.datastructures.cache;
+
+public interface Cache<K, V> {
+
+    // null when the key is absent, counted as a miss
+    V get(K key);
+
+    // may evict other entries, or the new one, to stay within the maximum weight
+    V put(K key, V value);
+
+    V remove(K key);
+
+    boolean containsKey(K key);
+
+    int size();
+
+    boolean isEmpty();
+
+    // sum of the weights of all entries, equals size() when no Weigher is given
+    long weightedSize();
+
+    CacheStats stats();
+}
@@ -0,0 +1,12 @@
+package com.bondarenko.datastructures.cache;
+
+public enum EvictionPolicy {
+    // evicts the least recently used entry
+    LRU,
+    // new entries start in a probation segment and move to a protected segment on the second access,
+    // so a single scan can not flush entries used more than once
+    SEGMENTED_LRU,
+    // a small LRU window in front of a segmented LRU, an entry leaving the window replaces
+    // the main victim only if it was used more often, as a frequency sketch estimates
+    W_TINY_LFU
+}
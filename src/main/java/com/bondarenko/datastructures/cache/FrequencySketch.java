@@ -0,0 +1,99 @@
+package com.bondarenko.datastructures.cache;
+
+// count-min sketch of 4-bit counters, 16 counters packed into every long
+// once the number of increments reaches ten times the table size all counters are halved,
+// so the sketch forgets old popularity and keeps up with a changing workload
+class FrequencySketch {
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MAXIMUM_TABLE_SIZE = 1 << 24;
+
+    private long[] table = new long[16];
+    private int sampleSize = 10 * table.length;
+    private int size;
+
+    // grows the table to the number of entries the cache holds, the counts are kept:
+    // an index into the larger table keeps the low bits of the old index, so every copy of the old table
+    // answers the same counts, the extra collisions fade with the next resets
+    void ensureCapacity(int maximumSize) {
+        if (maximumSize <= table.length) {
+            return;
+        }
+        int tableSize = Math.min(tableSizeFor(maximumSize), MAXIMUM_TABLE_SIZE);
+        if (tableSize > table.length) {
+            long[] newTable = new long[tableSize];
+            for (int i = 0; i < tableSize; i += table.length) {
+                System.arraycopy(table, 0, newTable, i, table.length);
+            }
+            table = newTable;
+            sampleSize = 10 * tableSize;
+        }
+    }
+
+    int frequency(int hashCode) {
+        int hash = spread(hashCode);
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    void increment(int hashCode) {
+        int hash = spread(hashCode);
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        int oddCounters = 0;
+        for (int i = 0; i < table.length; i++) {
+            oddCounters += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size >>> 1) - (oddCounters >>> 2);
+    }
+
+    private int indexOf(int hash, int i) {
+        long value = (hash + SEEDS[i]) * SEEDS[i];
+        value += value >>> 32;
+        return (int) value & (table.length - 1);
+    }
+
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity <= 16) {
+            return 16;
+        }
+        if (capacity >= 1 << 30) {
+            return 1 << 30;
+        }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
@@ -0,0 +1,8 @@
+package com.bondarenko.datastructures.cache;
+
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    // must not be negative, the cache keeps the sum of weights within its maximum weight
+    int weigh(K key, V value);
+}
@@ -1,9 +1,16 @@
 package com.bondarenko.datastructures.list;
 
+import com.bondarenko.datastructures.GrowthPolicy;
+
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.StringJoiner;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public class ArrayList<T> implements List<T> {
     private static final int DEFAULT_INITIAL_CAPACITY = 10;
@@ -11,7 +18,9 @@ public class ArrayList<T> implements List<T> {
     private T[] array;
     private int size;
 
-    private double loadFactor;
+    private final GrowthPolicy growthPolicy;
+    // removals shrink the array by growthPolicy, but never below the initial capacity
+    private final int minimumCapacity;
 
     public ArrayList() {
         this(DEFAULT_INITIAL_CAPACITY, DEFAULT_GROWTH_FACTOR);
@@ -21,9 +30,14 @@ public class ArrayList<T> implements List<T> {
         this(initialCapacity, DEFAULT_GROWTH_FACTOR);
     }
 
-    @SuppressWarnings("unchecked")
     public ArrayList(int initialCapacity, double loadFactor) {
-        this.loadFactor = loadFactor < 1 ? DEFAULT_GROWTH_FACTOR : loadFactor;
+        this(initialCapacity, GrowthPolicy.multiplicative(loadFactor <= 1 ? DEFAULT_GROWTH_FACTOR : loadFactor));
+    }
+
+    @SuppressWarnings("unchecked")
+    public ArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+        this.minimumCapacity = initialCapacity;
         this.array = (T[]) new Object[initialCapacity];
     }
 
@@ -35,12 +49,65 @@ public class ArrayList<T> implements List<T> {
     @Override
     public void add(T value, int index) {
         validateIndexForAdd(index);
-        ensureCapacity();
+        ensureCapacity(size + 1);
         System.arraycopy(array, index, array, index + 1, size - index);
         array[index] = value;
         size++;
     }
 
+    @Override
+    public void addAll(T[] values, int index) {
+        validateIndexForAdd(index);
+        int count = values.length;
+        ensureCapacity(size + count);
+        System.arraycopy(array, index, array, index + count, size - index);
+        System.arraycopy(values, 0, array, index, count);
+        size += count;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addAll(Collection<? extends T> values, int index) {
+        addAll((T[]) values.toArray(), index);
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        validateRange(fromIndex, toIndex);
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(array, newSize, size, null);
+        size = newSize;
+        shrinkIfNeeded();
+    }
+
+    // one pass that slides kept values down, if filter throws the unvisited tail is kept as it is
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        int write = 0;
+        int read = 0;
+        try {
+            for (; read < size; read++) {
+                T value = array[read];
+                if (!filter.test(value)) {
+                    array[write++] = value;
+                }
+            }
+        } finally {
+            System.arraycopy(array, read, array, write, size - read);
+            int newSize = write + size - read;
+            Arrays.fill(array, newSize, size, null);
+            size = newSize;
+            shrinkIfNeeded();
+        }
+        return write != read;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(array, size, Object[].class);
+    }
+
     @Override
     public T remove(int index) {
         validateIndex(index);
@@ -48,6 +115,7 @@ public class ArrayList<T> implements List<T> {
         System.arraycopy(array, index + 1, array, index, size - index - 1);
         array[size - 1] = null;
         size--;
+        shrinkIfNeeded();
         return value;
     }
 
@@ -97,10 +165,22 @@ public class ArrayList<T> implements List<T> {
 
     @Override
     public void clear() {
-        for (int i = 0; i < size; i++) {
-            array[i] = null;
+        if (array.length > minimumCapacity && growthPolicy.shrink(array.length, 0) < array.length) {
+            size = 0;
+            resize(minimumCapacity);
+        } else {
+            for (int i = 0; i < size; i++) {
+                array[i] = null;
+            }
+            size = 0;
+        }
+    }
+
+    // shrinks the array to exactly size values
+    public void trimToSize() {
+        if (size < array.length) {
+            resize(size);
         }
-        size = 0;
     }
 
     @Override
@@ -129,15 +209,32 @@ public class ArrayList<T> implements List<T> {
         }
     }
 
-    private void ensureCapacity() {
-        if (size == getCapacity()) {
-            @SuppressWarnings("unchecked")
-            T[] newArray = (T[]) new Object[(int) (size * loadFactor)];
-            System.arraycopy(array, 0, newArray, 0, size);
-            array = newArray;
+    private void validateRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + "," + toIndex + ") must be within [ " + 0 + "," + size + "]");
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > getCapacity()) {
+            resize(Math.max(growthPolicy.grow(getCapacity(), minCapacity), minCapacity));
+        }
+    }
+
+    private void shrinkIfNeeded() {
+        int capacity = Math.max(growthPolicy.shrink(array.length, size), minimumCapacity);
+        if (capacity < array.length) {
+            resize(Math.max(capacity, size));
         }
     }
 
+    private void resize(int capacity) {
+        @SuppressWarnings("unchecked")
+        T[] newArray = (T[]) new Object[capacity];
+        System.arraycopy(array, 0, newArray, 0, size);
+        array = newArray;
+    }
+
     int getCapacity() {
         return array.length;
     }
@@ -147,6 +244,72 @@ public class ArrayList<T> implements List<T> {
         return new ArrayListIterator();
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayListSpliterator(0, -1);
+    }
+
+    // halves its index range on every split, the size is bound on first use
+    private class ArrayListSpliterator implements Spliterator<T> {
+        private int index;
+        private int fence;
+
+        private ArrayListSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int high = getFence();
+            int low = index;
+            int middle = (low + high) >>> 1;
+            if (low >= middle) {
+                return null;
+            }
+            index = middle;
+            return new ArrayListSpliterator(low, middle);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (index < getFence()) {
+                action.accept(array[index++]);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            T[] values = array;
+            int high = getFence();
+            for (int i = index; i < high; i++) {
+                action.accept(values[i]);
+            }
+            index = high;
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
     private class ArrayListIterator implements Iterator<T> {
         private int index;
         private boolean remove;
@@ -171,8 +334,7 @@ public class ArrayList<T> implements List<T> {
                 throw new IllegalStateException("Method next() has not called before remove");
             }
             remove = false;
-            array[index] = null;
-            size--;
+            ArrayList.this.remove(--index);
         }
     }
 }
@@ -0,0 +1,221 @@
+package com.bondarenko.datastructures.list;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+// ArrayList over a ring buffer, as ArrayDeque is: values start at head and wrap around the end of the array,
+// add/remove at both ends are O(1), in the middle the shorter side is shifted, get/set stay O(1)
+public class CircularArrayList<T> implements List<T> {
+    private static final int DEFAULT_INITIAL_CAPACITY = 10;
+    private static final double DEFAULT_GROWTH_FACTOR = 2.5;
+    private T[] array;
+    private int head;
+    private int size;
+
+    private double loadFactor;
+
+    public CircularArrayList() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_GROWTH_FACTOR);
+    }
+
+    public CircularArrayList(int initialCapacity) {
+        this(initialCapacity, DEFAULT_GROWTH_FACTOR);
+    }
+
+    @SuppressWarnings("unchecked")
+    public CircularArrayList(int initialCapacity, double loadFactor) {
+        this.loadFactor = loadFactor < 1 ? DEFAULT_GROWTH_FACTOR : loadFactor;
+        this.array = (T[]) new Object[Math.max(initialCapacity, 1)];
+    }
+
+    @Override
+    public void add(T value) {
+        add(value, size);
+    }
+
+    @Override
+    public void add(T value, int index) {
+        validateIndexForAdd(index);
+        ensureCapacity(size + 1);
+        if (index < size - index) {
+            // the values before index move one cell to the left
+            head = physicalIndex(array.length - 1);
+            for (int i = 0; i < index; i++) {
+                array[physicalIndex(i)] = array[physicalIndex(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                array[physicalIndex(i)] = array[physicalIndex(i - 1)];
+            }
+        }
+        array[physicalIndex(index)] = value;
+        size++;
+    }
+
+    @Override
+    public T remove(int index) {
+        validateIndex(index);
+        T value = array[physicalIndex(index)];
+        if (index < size - index) {
+            for (int i = index; i > 0; i--) {
+                array[physicalIndex(i)] = array[physicalIndex(i - 1)];
+            }
+            array[head] = null;
+            head = physicalIndex(1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                array[physicalIndex(i)] = array[physicalIndex(i + 1)];
+            }
+            array[physicalIndex(size - 1)] = null;
+        }
+        size--;
+        return value;
+    }
+
+    @Override
+    public T get(int index) {
+        validateIndex(index);
+        return array[physicalIndex(index)];
+    }
+
+    @Override
+    public T set(T value, int index) {
+        validateIndex(index);
+        int physicalIndex = physicalIndex(index);
+        T oldValue = array[physicalIndex];
+        array[physicalIndex] = value;
+        return oldValue;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        return indexOf(value) != -1;
+    }
+
+    @Override
+    public int indexOf(T value) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(array[physicalIndex(i)], value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(T value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(array[physicalIndex(i)], value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            array[physicalIndex(i)] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int firstPart = Math.min(size, array.length - head);
+        System.arraycopy(array, head, result, 0, firstPart);
+        System.arraycopy(array, 0, result, firstPart, size - firstPart);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(",", "[", "]");
+        for (T value : this) {
+            stringJoiner.add(String.valueOf(value));
+        }
+        return stringJoiner.toString();
+    }
+
+    int getCapacity() {
+        return array.length;
+    }
+
+    // index may be up to array.length, so one subtraction is enough instead of %
+    private int physicalIndex(int index) {
+        int physicalIndex = head + index;
+        return physicalIndex >= array.length ? physicalIndex - array.length : physicalIndex;
+    }
+
+    private void validateIndex(int index) {
+        if (index > size - 1 || index < 0) {
+            throw new IndexOutOfBoundsException("Index " + index + " must be between [ " + 0 + "," + (size - 1) + "]");
+        }
+    }
+
+    private void validateIndexForAdd(int index) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index " + index + " must be between [ " + 0 + "," + size + "]");
+        }
+    }
+
+    // the new array starts with the head again
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            @SuppressWarnings("unchecked")
+            T[] newArray = (T[]) new Object[Math.max((int) (array.length * loadFactor), minCapacity)];
+            int firstPart = Math.min(size, array.length - head);
+            System.arraycopy(array, head, newArray, 0, firstPart);
+            System.arraycopy(array, 0, newArray, firstPart, size - firstPart);
+            array = newArray;
+            head = 0;
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new CircularArrayListIterator();
+    }
+
+    private class CircularArrayListIterator implements Iterator<T> {
+        private int index;
+        private boolean remove;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            remove = true;
+            return array[physicalIndex(index++)];
+        }
+
+        @Override
+        public void remove() {
+            if (!remove) {
+                throw new IllegalStateException("Method next() has not called before remove");
+            }
+            remove = false;
+            CircularArrayList.this.remove(--index);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.bondarenko.datastructures.list;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+// fixed-width binary form of a value, every value takes exactly width() bytes
+public interface Codec<T> {
+
+    int width();
+
+    // writes value into width() bytes starting at offset, absolute, the buffer position is not used
+    void write(T value, ByteBuffer buffer, int offset);
+
+    T read(ByteBuffer buffer, int offset);
+
+    static Codec<Integer> ofInt() {
+        return new Codec<>() {
+            @Override
+            public int width() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void write(Integer value, ByteBuffer buffer, int offset) {
+                buffer.putInt(offset, Objects.requireNonNull(value, "Int codec does not take null values"));
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer, int offset) {
+                return buffer.getInt(offset);
+            }
+        };
+    }
+
+    static Codec<Long> ofLong() {
+        return new Codec<>() {
+            @Override
+            public int width() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void write(Long value, ByteBuffer buffer, int offset) {
+                buffer.putLong(offset, Objects.requireNonNull(value, "Long codec does not take null values"));
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer, int offset) {
+                return buffer.getLong(offset);
+            }
+        };
+    }
+}
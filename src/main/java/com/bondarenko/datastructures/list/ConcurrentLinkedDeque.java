@@ -0,0 +1,331 @@
+package com.bondarenko.datastructures.list;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+// lock-free unbounded deque of Maged Michael: a doubly linked list whose first node, last node
+// and push status sit together in one immutable anchor that every push and poll replaces with one CAS
+// a push CASes in an anchor marked as unstable with the new node linked only one way,
+// any thread that meets an unstable anchor links the node back to its neighbour and marks the anchor stable,
+// pushes and polls wait for a stable anchor, so within a stable anchor all links are consistent
+// both ends share the anchor, values flow first to last without locks but do not scale with the number of threads
+// the way ConcurrentLinkedQueue does
+// null values are not allowed, poll returns null for an empty deque
+public class ConcurrentLinkedDeque<T> implements Deque<T> {
+    private static final int STABLE = 0;
+    private static final int FIRST_PUSH = 1;
+    private static final int LAST_PUSH = 2;
+
+    private static final VarHandle ANCHOR;
+    private static final VarHandle PREV;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            ANCHOR = lookup.findVarHandle(ConcurrentLinkedDeque.class, "anchor", Anchor.class);
+            PREV = lookup.findVarHandle(Node.class, "prev", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Anchor<T> anchor = new Anchor<>(null, null, STABLE);
+
+    @Override
+    public boolean offerFirst(T value) {
+        Node<T> newNode = newNode(value);
+        while (true) {
+            Anchor<T> current = anchor;
+            if (current.first == null) {
+                if (ANCHOR.compareAndSet(this, current, new Anchor<>(newNode, newNode, STABLE))) {
+                    return true;
+                }
+            } else if (current.status == STABLE) {
+                newNode.next = current.first;
+                Anchor<T> pushed = new Anchor<>(newNode, current.last, FIRST_PUSH);
+                if (ANCHOR.compareAndSet(this, current, pushed)) {
+                    stabilize(pushed);
+                    return true;
+                }
+            } else {
+                stabilize(current);
+            }
+        }
+    }
+
+    @Override
+    public boolean offerLast(T value) {
+        Node<T> newNode = newNode(value);
+        while (true) {
+            Anchor<T> current = anchor;
+            if (current.last == null) {
+                if (ANCHOR.compareAndSet(this, current, new Anchor<>(newNode, newNode, STABLE))) {
+                    return true;
+                }
+            } else if (current.status == STABLE) {
+                newNode.prev = current.last;
+                Anchor<T> pushed = new Anchor<>(current.first, newNode, LAST_PUSH);
+                if (ANCHOR.compareAndSet(this, current, pushed)) {
+                    stabilize(pushed);
+                    return true;
+                }
+            } else {
+                stabilize(current);
+            }
+        }
+    }
+
+    public void add(T value) {
+        offerLast(value);
+    }
+
+    @Override
+    public T pollFirst() {
+        while (true) {
+            Anchor<T> current = anchor;
+            if (current.first == null) {
+                return null;
+            }
+            if (current.first == current.last) {
+                if (ANCHOR.compareAndSet(this, current, new Anchor<>(null, null, STABLE))) {
+                    return current.first.value;
+                }
+            } else if (current.status == STABLE) {
+                if (ANCHOR.compareAndSet(this, current, new Anchor<>(current.first.next, current.last, STABLE))) {
+                    return current.first.value;
+                }
+            } else {
+                stabilize(current);
+            }
+        }
+    }
+
+    @Override
+    public T pollLast() {
+        while (true) {
+            Anchor<T> current = anchor;
+            if (current.last == null) {
+                return null;
+            }
+            if (current.first == current.last) {
+                if (ANCHOR.compareAndSet(this, current, new Anchor<>(null, null, STABLE))) {
+                    return current.last.value;
+                }
+            } else if (current.status == STABLE) {
+                if (ANCHOR.compareAndSet(this, current, new Anchor<>(current.first, current.last.prev, STABLE))) {
+                    return current.last.value;
+                }
+            } else {
+                stabilize(current);
+            }
+        }
+    }
+
+    // up to maxValues nodes from the first end are taken with one CAS of the anchor
+    @Override
+    public int drainTo(List<? super T> target, int maxValues) {
+        Objects.requireNonNull(target);
+        if (maxValues <= 0) {
+            return 0;
+        }
+        while (true) {
+            Anchor<T> current = anchor;
+            if (current.first == null) {
+                return 0;
+            }
+            if (current.status != STABLE) {
+                stabilize(current);
+                continue;
+            }
+            Node<T> node = current.first;
+            int count = 1;
+            while (count < maxValues && node != current.last) {
+                node = node.next;
+                count++;
+            }
+            Anchor<T> rest = node == current.last
+                    ? new Anchor<>(null, null, STABLE)
+                    : new Anchor<>(node.next, current.last, STABLE);
+            if (ANCHOR.compareAndSet(this, current, rest)) {
+                for (Node<T> taken = current.first; ; taken = taken.next) {
+                    target.add(taken.value);
+                    if (taken == node) {
+                        break;
+                    }
+                }
+                return count;
+            }
+        }
+    }
+
+    @Override
+    public T peekFirst() {
+        Node<T> first = anchor.first;
+        return first == null ? null : first.value;
+    }
+
+    @Override
+    public T peekLast() {
+        Node<T> last = anchor.last;
+        return last == null ? null : last.value;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        if (value == null) {
+            return false;
+        }
+        for (T current : this) {
+            if (value.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        anchor = new Anchor<>(null, null, STABLE);
+    }
+
+    // O(size), the count can be stale as soon as it is returned
+    @Override
+    public int size() {
+        int size = 0;
+        for (Iterator<T> iterator = iterator(); iterator.hasNext(); iterator.next()) {
+            size++;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return anchor.first == null;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(",", "[", "]");
+        for (T value : this) {
+            stringJoiner.add(String.valueOf(value));
+        }
+        return stringJoiner.toString();
+    }
+
+    private static <T> Node<T> newNode(T value) {
+        return new Node<>(Objects.requireNonNull(value, "Deque does not take null values"));
+    }
+
+    private void stabilize(Anchor<T> current) {
+        if (current.status == LAST_PUSH) {
+            stabilizeLast(current);
+        } else if (current.status == FIRST_PUSH) {
+            stabilizeFirst(current);
+        }
+    }
+
+    // links the node before the pushed last node forward to it, the anchor check makes sure prev is still in the deque
+    private void stabilizeLast(Anchor<T> current) {
+        Node<T> prev = current.last.prev;
+        if (anchor != current) {
+            return;
+        }
+        Node<T> prevNext = prev.next;
+        if (prevNext != current.last) {
+            if (anchor != current || !NEXT.compareAndSet(prev, prevNext, current.last)) {
+                return;
+            }
+        }
+        ANCHOR.compareAndSet(this, current, new Anchor<>(current.first, current.last, STABLE));
+    }
+
+    private void stabilizeFirst(Anchor<T> current) {
+        Node<T> next = current.first.next;
+        if (anchor != current) {
+            return;
+        }
+        Node<T> nextPrev = next.prev;
+        if (nextPrev != current.first) {
+            if (anchor != current || !PREV.compareAndSet(next, nextPrev, current.first)) {
+                return;
+            }
+        }
+        ANCHOR.compareAndSet(this, current, new Anchor<>(current.first, current.last, STABLE));
+    }
+
+    private Anchor<T> stableAnchor() {
+        while (true) {
+            Anchor<T> current = anchor;
+            if (current.status == STABLE) {
+                return current;
+            }
+            stabilize(current);
+        }
+    }
+
+    // walks the nodes of a stable anchor from first to last, it does not throw because of concurrent changes,
+    // values polled meanwhile may still show up, and if the last node is polled and another one pushed
+    // the walk follows the new link instead
+    @Override
+    public Iterator<T> iterator() {
+        return new ConcurrentLinkedDequeIterator(stableAnchor());
+    }
+
+    private class ConcurrentLinkedDequeIterator implements Iterator<T> {
+        private final Node<T> last;
+        private Node<T> node;
+
+        private ConcurrentLinkedDequeIterator(Anchor<T> start) {
+            this.last = start.last;
+            this.node = start.first;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return node != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            T value = node.value;
+            node = node == last ? null : node.next;
+            return value;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Iterator of ConcurrentLinkedDeque can not remove, use pollFirst or pollLast");
+        }
+    }
+
+    private static class Anchor<T> {
+        private final Node<T> first;
+        private final Node<T> last;
+        private final int status;
+
+        private Anchor(Node<T> first, Node<T> last, int status) {
+            this.first = first;
+            this.last = last;
+            this.status = status;
+        }
+    }
+
+    private static class Node<T> {
+        private final T value;
+        private volatile Node<T> prev;
+        private volatile Node<T> next;
+
+        private Node(T value) {
+            this.value = value;
+        }
+    }
+}
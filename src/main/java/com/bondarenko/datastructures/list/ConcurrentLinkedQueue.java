@@ -0,0 +1,263 @@
+package com.bondarenko.datastructures.list;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+// lock-free unbounded queue of Michael and Scott: a singly linked list behind a dummy head node,
+// offer links a node after the last one with one CAS, poll moves head to the next node with one CAS,
+// so producers and consumers only meet when the queue is about empty
+// tail may lag one node behind the last node, every thread that sees it lagging moves it on before going further
+// the node head points to is the dummy, its value was already taken
+// null values are not allowed, poll returns null for an empty queue
+// size and contains walk the nodes, the iterator is weakly consistent: it never throws because of concurrent changes
+// and sees the values that stay in the queue while it walks
+public class ConcurrentLinkedQueue<T> implements Queue<T> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentLinkedQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentLinkedQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<T> head;
+    private volatile Node<T> tail;
+
+    public ConcurrentLinkedQueue() {
+        head = tail = new Node<>(null);
+    }
+
+    @Override
+    public boolean offer(T value) {
+        Objects.requireNonNull(value, "Queue does not take null values");
+        Node<T> newNode = new Node<>(value);
+        while (true) {
+            Node<T> last = tail;
+            Node<T> next = last.next;
+            if (last != tail) {
+                continue;
+            }
+            if (next == null) {
+                if (NEXT.compareAndSet(last, null, newNode)) {
+                    // fails only if another thread has already moved tail on
+                    TAIL.compareAndSet(this, last, newNode);
+                    return true;
+                }
+            } else {
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    public void add(T value) {
+        offer(value);
+    }
+
+    @Override
+    public T poll() {
+        while (true) {
+            Node<T> first = head;
+            Node<T> last = tail;
+            Node<T> next = first.next;
+            if (first != head) {
+                continue;
+            }
+            if (next == null) {
+                return null;
+            }
+            if (first == last) {
+                // head never passes tail
+                TAIL.compareAndSet(this, last, next);
+                continue;
+            }
+            T value = next.value;
+            if (HEAD.compareAndSet(this, first, next)) {
+                // next is the dummy now, only the thread that moved head onto it clears it
+                next.value = null;
+                return value;
+            }
+        }
+    }
+
+    // the nodes up to maxValues or up to the node tail pointed to are taken with one CAS of head,
+    // consumers pay one contended CAS per batch instead of one per value
+    @Override
+    public int drainTo(List<? super T> target, int maxValues) {
+        Objects.requireNonNull(target);
+        if (maxValues <= 0) {
+            return 0;
+        }
+        while (true) {
+            Node<T> first = head;
+            Node<T> last = tail;
+            Node<T> next = first.next;
+            if (first != head) {
+                continue;
+            }
+            if (next == null) {
+                return 0;
+            }
+            if (first == last) {
+                TAIL.compareAndSet(this, last, next);
+                continue;
+            }
+            Node<T> newHead = next;
+            int count = 1;
+            while (count < maxValues && newHead != last && newHead.next != null) {
+                newHead = newHead.next;
+                count++;
+            }
+            if (HEAD.compareAndSet(this, first, newHead)) {
+                // the taken nodes are unreachable from head now, no other thread reads or clears their values
+                for (Node<T> node = next; ; node = node.next) {
+                    target.add(node.value);
+                    if (node == newHead) {
+                        break;
+                    }
+                }
+                newHead.value = null;
+                return count;
+            }
+        }
+    }
+
+    @Override
+    public T peek() {
+        while (true) {
+            Node<T> first = head;
+            Node<T> next = first.next;
+            if (next == null) {
+                return null;
+            }
+            T value = next.value;
+            // a null value means next has been polled meanwhile
+            if (value != null && first == head) {
+                return value;
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(T value) {
+        if (value == null) {
+            return false;
+        }
+        for (Node<T> node = head.next; node != null; node = node.next) {
+            if (value.equals(node.value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // moves head onto the last node, values offered meanwhile stay behind it
+    @Override
+    public void clear() {
+        while (true) {
+            Node<T> first = head;
+            Node<T> last = tail;
+            Node<T> next = last.next;
+            if (next != null) {
+                TAIL.compareAndSet(this, last, next);
+            } else if (first == last) {
+                return;
+            } else if (HEAD.compareAndSet(this, first, last)) {
+                last.value = null;
+                return;
+            }
+        }
+    }
+
+    // O(size), the count can be stale as soon as it is returned
+    @Override
+    public int size() {
+        int size = 0;
+        for (Node<T> node = head.next; node != null; node = node.next) {
+            if (node.value != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(",", "[", "]");
+        for (T value : this) {
+            stringJoiner.add(String.valueOf(value));
+        }
+        return stringJoiner.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ConcurrentLinkedQueueIterator();
+    }
+
+    // reads the next value ahead, so hasNext and next agree whatever other threads do meanwhile
+    private class ConcurrentLinkedQueueIterator implements Iterator<T> {
+        private Node<T> node;
+        private T nextValue;
+
+        private ConcurrentLinkedQueueIterator() {
+            node = head;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextValue != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            T value = nextValue;
+            advance();
+            return value;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Iterator of ConcurrentLinkedQueue can not remove, use poll");
+        }
+
+        // nodes polled meanwhile have null values and are skipped
+        private void advance() {
+            nextValue = null;
+            while (nextValue == null && node != null) {
+                node = node.next;
+                if (node != null) {
+                    nextValue = node.value;
+                }
+            }
+        }
+    }
+
+    private static class Node<T> {
+        private volatile T value;
+        private volatile Node<T> next;
+
+        private Node(T value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.bondarenko.datastructures.list;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.StringJoiner;
+import java.util.function.Predicate;
+
+// every change copies the array under a lock and publishes the copy with one volatile write,
+// readers never lock and an iterator walks the array it started with, whatever writers do meanwhile
+// fits read-mostly lists, a change costs O(size)
+public class CopyOnWriteArrayList<T> implements List<T> {
+    private final Object lock = new Object();
+    private volatile Object[] array;
+
+    public CopyOnWriteArrayList() {
+        array = new Object[0];
+    }
+
+    public CopyOnWriteArrayList(T[] values) {
+        array = Arrays.copyOf(values, values.length, Object[].class);
+    }
+
+    @Override
+    public void add(T value) {
+        synchronized (lock) {
+            Object[] values = array;
+            Object[] newValues = Arrays.copyOf(values, values.length + 1);
+            newValues[values.length] = value;
+            array = newValues;
+        }
+    }
+
+    @Override
+    public void add(T value, int index) {
+        insert(new Object[]{value}, index);
+    }
+
+    @Override
+    public void addAll(T[] values) {
+        append(values);
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> values) {
+        append(values.toArray());
+    }
+
+    @Override
+    public void addAll(T[] values, int index) {
+        insert(values, index);
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> values, int index) {
+        insert(values.toArray(), index);
+    }
+
+    @Override
+    public T remove(int index) {
+        synchronized (lock) {
+            Object[] values = array;
+            validateIndex(index, values.length);
+            T value = valueAt(values, index);
+            Object[] newValues = new Object[values.length - 1];
+            System.arraycopy(values, 0, newValues, 0, index);
+            System.arraycopy(values, index + 1, newValues, index, values.length - index - 1);
+            array = newValues;
+            return value;
+        }
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        synchronized (lock) {
+            Object[] values = array;
+            if (fromIndex < 0 || toIndex > values.length || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("Range [" + fromIndex + "," + toIndex + ") must be within [ " + 0 + "," + values.length + "]");
+            }
+            Object[] newValues = new Object[values.length - (toIndex - fromIndex)];
+            System.arraycopy(values, 0, newValues, 0, fromIndex);
+            System.arraycopy(values, toIndex, newValues, fromIndex, values.length - toIndex);
+            array = newValues;
+        }
+    }
+
+    // the filter sees one snapshot, nothing is published if it throws
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        synchronized (lock) {
+            Object[] values = array;
+            Object[] kept = new Object[values.length];
+            int count = 0;
+            for (Object value : values) {
+                @SuppressWarnings("unchecked")
+                T typedValue = (T) value;
+                if (!filter.test(typedValue)) {
+                    kept[count++] = value;
+                }
+            }
+            if (count == values.length) {
+                return false;
+            }
+            array = Arrays.copyOf(kept, count);
+            return true;
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        Object[] values = array;
+        validateIndex(index, values.length);
+        return valueAt(values, index);
+    }
+
+    @Override
+    public T set(T value, int index) {
+        synchronized (lock) {
+            Object[] values = array;
+            validateIndex(index, values.length);
+            T oldValue = valueAt(values, index);
+            Object[] newValues = values.clone();
+            newValues[index] = value;
+            array = newValues;
+            return oldValue;
+        }
+    }
+
+    @Override
+    public boolean contains(T value) {
+        return indexOf(value) != -1;
+    }
+
+    @Override
+    public int indexOf(T value) {
+        Object[] values = array;
+        for (int i = 0; i < values.length; i++) {
+            if (Objects.equals(values[i], value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(T value) {
+        Object[] values = array;
+        for (int i = values.length - 1; i >= 0; i--) {
+            if (Objects.equals(values[i], value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            array = new Object[0];
+        }
+    }
+
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return array.clone();
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(",", "[", "]");
+        for (T value : this) {
+            stringJoiner.add(String.valueOf(value));
+        }
+        return stringJoiner.toString();
+    }
+
+    // the end is read under the lock, so a concurrent add can not slip between reading the size and appending
+    private void append(Object[] added) {
+        synchronized (lock) {
+            Object[] values = array;
+            Object[] newValues = Arrays.copyOf(values, values.length + added.length);
+            System.arraycopy(added, 0, newValues, values.length, added.length);
+            array = newValues;
+        }
+    }
+
+    private void insert(Object[] added, int index) {
+        synchronized (lock) {
+            Object[] values = array;
+            if (index > values.length || index < 0) {
+                throw new IndexOutOfBoundsException("Index " + index + " must be between [ " + 0 + "," + values.length + "]");
+            }
+            Object[] newValues = new Object[values.length + added.length];
+            System.arraycopy(values, 0, newValues, 0, index);
+            System.arraycopy(added, 0, newValues, index, added.length);
+            System.arraycopy(values, index, newValues, index + added.length, values.length - index);
+            array = newValues;
+        }
+    }
+
+    private static void validateIndex(int index, int size) {
+        if (index > size - 1 || index < 0) {
+            throw new IndexOutOfBoundsException("Index " + index + " must be between [ " + 0 + "," + (size - 1) + "]");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T valueAt(Object[] values, int index) {
+        return (T) values[index];
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new SnapshotIterator<>(array);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(array, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    // a snapshot can not be changed, removal goes through the list
+    private static class SnapshotIterator<T> implements Iterator<T> {
+        private final Object[] snapshot;
+        private int index;
+
+        private SnapshotIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < snapshot.length;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            return valueAt(snapshot, index++);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Iterator of CopyOnWriteArrayList walks a snapshot and can not remove");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.bondarenko.datastructures.list;
+
+// a queue open at both ends, used as a queue it takes values at the last end and gives them from the first
+public interface Deque<T> extends Queue<T> {
+
+    // false if the deque can not take value
+    boolean offerFirst(T value);
+
+    boolean offerLast(T value);
+
+    // null if the deque is empty
+    T pollFirst();
+
+    T pollLast();
+
+    T peekFirst();
+
+    T peekLast();
+
+    @Override
+    default boolean offer(T value) {
+        return offerLast(value);
+    }
+
+    @Override
+    default T poll() {
+        return pollFirst();
+    }
+
+    @Override
+    default T peek() {
+        return peekFirst();
+    }
+}
@@ -0,0 +1,44 @@
+package com.bondarenko.datastructures.list;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+// frees a direct buffer right away instead of waiting for the GC to collect it
+// sun.misc.Unsafe.invokeCleaner is looked up by name, so the build does not depend on an internal API,
+// on a JVM without it free does nothing and the memory is returned when the buffer is collected
+final class DirectMemory {
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private DirectMemory() {
+    }
+
+    // buffer must come from ByteBuffer.allocateDirect and must not be used afterwards
+    static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Direct buffer can not be freed", e);
+        }
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            MethodHandle invokeCleaner = MethodHandles.lookup().findVirtual(unsafeClass, "invokeCleaner",
+                    MethodType.methodType(void.class, ByteBuffer.class));
+            return invokeCleaner.bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
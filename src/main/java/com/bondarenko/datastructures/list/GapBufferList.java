@@ -0,0 +1,219 @@
+package com.bondarenko.datastructures.list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+// ArrayList with a gap of free cells at the last edit position, as text editors keep their buffer:
+// [A, B, _, _, _, C, D] gapStart = 2, gapEnd = 5
+// add/remove move the gap to index first, which copies only the values between the old and the new position,
+// so edits near the previous one are amortised O(1), get/set stay O(1)
+public class GapBufferList<T> implements List<T> {
+    private static final int DEFAULT_INITIAL_CAPACITY = 10;
+    private static final double DEFAULT_GROWTH_FACTOR = 2.5;
+    private T[] array;
+    private int gapStart;
+    private int gapEnd;
+
+    private double loadFactor;
+
+    public GapBufferList() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_GROWTH_FACTOR);
+    }
+
+    public GapBufferList(int initialCapacity) {
+        this(initialCapacity, DEFAULT_GROWTH_FACTOR);
+    }
+
+    @SuppressWarnings("unchecked")
+    public GapBufferList(int initialCapacity, double loadFactor) {
+        this.loadFactor = loadFactor < 1 ? DEFAULT_GROWTH_FACTOR : loadFactor;
+        this.array = (T[]) new Object[initialCapacity];
+        this.gapEnd = initialCapacity;
+    }
+
+    @Override
+    public void add(T value) {
+        add(value, size());
+    }
+
+    @Override
+    public void add(T value, int index) {
+        validateIndexForAdd(index);
+        ensureCapacity(size() + 1);
+        moveGap(index);
+        array[gapStart++] = value;
+    }
+
+    @Override
+    public T remove(int index) {
+        validateIndex(index);
+        moveGap(index);
+        T value = array[gapEnd];
+        array[gapEnd++] = null;
+        return value;
+    }
+
+    @Override
+    public T get(int index) {
+        validateIndex(index);
+        return array[physicalIndex(index)];
+    }
+
+    @Override
+    public T set(T value, int index) {
+        validateIndex(index);
+        int physicalIndex = physicalIndex(index);
+        T oldValue = array[physicalIndex];
+        array[physicalIndex] = value;
+        return oldValue;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        return indexOf(value) != -1;
+    }
+
+    @Override
+    public int indexOf(T value) {
+        for (int i = 0; i < size(); i++) {
+            if (Objects.equals(array[physicalIndex(i)], value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(T value) {
+        for (int i = size() - 1; i >= 0; i--) {
+            if (Objects.equals(array[physicalIndex(i)], value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(array, null);
+        gapStart = 0;
+        gapEnd = array.length;
+    }
+
+    @Override
+    public int size() {
+        return array.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size()];
+        System.arraycopy(array, 0, result, 0, gapStart);
+        System.arraycopy(array, gapEnd, result, gapStart, array.length - gapEnd);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(",", "[", "]");
+        for (T value : this) {
+            stringJoiner.add(String.valueOf(value));
+        }
+        return stringJoiner.toString();
+    }
+
+    int getCapacity() {
+        return array.length;
+    }
+
+    int getGapStart() {
+        return gapStart;
+    }
+
+    private int physicalIndex(int index) {
+        return index < gapStart ? index : index + gapEnd - gapStart;
+    }
+
+    // the values between index and the gap jump over it, the cells they leave become part of the gap
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(array, index, array, gapEnd - count, count);
+            Arrays.fill(array, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(array, gapEnd, array, gapStart, count);
+            Arrays.fill(array, Math.max(gapEnd, index), gapEnd + count, null);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    private void validateIndex(int index) {
+        if (index > size() - 1 || index < 0) {
+            throw new IndexOutOfBoundsException("Index " + index + " must be between [ " + 0 + "," + (size() - 1) + "]");
+        }
+    }
+
+    private void validateIndexForAdd(int index) {
+        if (index > size() || index < 0) {
+            throw new IndexOutOfBoundsException("Index " + index + " must be between [ " + 0 + "," + size() + "]");
+        }
+    }
+
+    // the gap stays where it is and takes all the new cells
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            @SuppressWarnings("unchecked")
+            T[] newArray = (T[]) new Object[Math.max((int) (array.length * loadFactor), minCapacity)];
+            int tail = array.length - gapEnd;
+            System.arraycopy(array, 0, newArray, 0, gapStart);
+            System.arraycopy(array, gapEnd, newArray, newArray.length - tail, tail);
+            array = newArray;
+            gapEnd = newArray.length - tail;
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new GapBufferListIterator();
+    }
+
+    private class GapBufferListIterator implements Iterator<T> {
+        private int index;
+        private boolean remove;
+
+        @Override
+        public boolean hasNext() {
+            return index < size();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            remove = true;
+            return array[physicalIndex(index++)];
+        }
+
+        @Override
+        public void remove() {
+            if (!remove) {
+                throw new IllegalStateException("Method next() has not called before remove");
+            }
+            remove = false;
+            GapBufferList.this.remove(--index);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.bondarenko.datastructures.list;
+
+import com.bondarenko.datastructures.map.HashMap;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+// ArrayList with a value -> positions hash index, so contains/indexOf/lastIndexOf are expected O(1)
+// the index is built on the first lookup and kept up to date by appends, set() and removal of the last value,
+// a change that shifts positions drops it, the next lookup builds it again in O(size) as the shift itself costs
+public class IndexedArrayList<T> extends ArrayList<T> {
+    private HashMap<T, Positions> positionIndex;
+
+    public IndexedArrayList() {
+    }
+
+    public IndexedArrayList(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    public IndexedArrayList(int initialCapacity, double loadFactor) {
+        super(initialCapacity, loadFactor);
+    }
+
+    @Override
+    public void add(T value, int index) {
+        boolean append = index == size();
+        super.add(value, index);
+        if (positionIndex != null) {
+            if (append) {
+                addPosition(value, index);
+            } else {
+                positionIndex = null;
+            }
+        }
+    }
+
+    @Override
+    public void addAll(T[] values, int index) {
+        boolean append = index == size();
+        super.addAll(values, index);
+        if (positionIndex != null) {
+            if (append) {
+                for (T value : values) {
+                    addPosition(value, index++);
+                }
+            } else {
+                positionIndex = null;
+            }
+        }
+    }
+
+    @Override
+    public T remove(int index) {
+        boolean last = index == size() - 1;
+        T value = super.remove(index);
+        if (positionIndex != null) {
+            if (last) {
+                removePosition(value, index);
+            } else {
+                positionIndex = null;
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        super.removeRange(fromIndex, toIndex);
+        if (fromIndex < toIndex) {
+            positionIndex = null;
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        try {
+            return super.removeIf(filter);
+        } finally {
+            // if filter throws some values may already be gone
+            positionIndex = null;
+        }
+    }
+
+    @Override
+    public T set(T value, int index) {
+        T oldValue = super.set(value, index);
+        if (positionIndex != null) {
+            removePosition(oldValue, index);
+            addPosition(value, index);
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        positionIndex = null;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        return getPositionIndex().containsKey(value);
+    }
+
+    @Override
+    public int indexOf(T value) {
+        Positions positions = getPositionIndex().get(value);
+        return positions == null ? -1 : positions.first();
+    }
+
+    @Override
+    public int lastIndexOf(T value) {
+        Positions positions = getPositionIndex().get(value);
+        return positions == null ? -1 : positions.last();
+    }
+
+    boolean isIndexed() {
+        return positionIndex != null;
+    }
+
+    private HashMap<T, Positions> getPositionIndex() {
+        if (positionIndex == null) {
+            positionIndex = new HashMap<>();
+            for (int i = 0; i < size(); i++) {
+                addPosition(get(i), i);
+            }
+        }
+        return positionIndex;
+    }
+
+    private void addPosition(T value, int position) {
+        Positions positions = positionIndex.get(value);
+        if (positions == null) {
+            positionIndex.put(value, new Positions(position));
+        } else {
+            positions.add(position);
+        }
+    }
+
+    private void removePosition(T value, int position) {
+        Positions positions = positionIndex.get(value);
+        positions.remove(position);
+        if (positions.count == 0) {
+            positionIndex.remove(value);
+        }
+    }
+
+    // ascending positions of one value, most values have a single one
+    private static class Positions {
+        private int[] positions;
+        private int count;
+
+        private Positions(int position) {
+            positions = new int[]{position};
+            count = 1;
+        }
+
+        private int first() {
+            return positions[0];
+        }
+
+        private int last() {
+            return positions[count - 1];
+        }
+
+        private void add(int position) {
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            int index = count == 0 || position > last() ? count : -Arrays.binarySearch(positions, 0, count, position) - 1;
+            System.arraycopy(positions, index, positions, index + 1, count - index);
+            positions[index] = position;
+            count++;
+        }
+
+        private void remove(int position) {
+            int index = Arrays.binarySearch(positions, 0, count, position);
+            System.arraycopy(positions, index + 1, positions, index, count - index - 1);
+            count--;
+        }
+    }
+}
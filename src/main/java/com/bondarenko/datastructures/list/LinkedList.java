@@ -1,15 +1,24 @@
 package com.bondarenko.datastructures.list;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.StringJoiner;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
-public class LinkedList<T> implements List<T> {
+public class LinkedList<T> implements List<T>, Deque<T> {
     private Node<T> first;
     private Node<T> last;
     private int size;
 
+    // the last node reached by index, so get(i) right after get(i + k) or get(i - k) walks only k nodes
+    private Node<T> finger;
+    private int fingerIndex;
+
     @Override
     public void add(T value) {
         add(value, size);
@@ -32,19 +41,164 @@ public class LinkedList<T> implements List<T> {
         } else {
             Node<T> node = getNode(index);
             newNode.prev = node.prev;
-            node.prev.next = node;
+            newNode.next = node;
+            node.prev.next = newNode;
+            node.prev = newNode;
+        }
+        if (finger != null && index <= fingerIndex) {
+            fingerIndex++;
         }
         size++;
     }
 
+    // links the new values into a chain first and splices it in with one walk to index
+    @Override
+    public void addAll(T[] values, int index) {
+        validateIndexForAdd(index);
+        if (values.length == 0) {
+            return;
+        }
+        Node<T> chainFirst = new Node<>(values[0]);
+        Node<T> chainLast = chainFirst;
+        for (int i = 1; i < values.length; i++) {
+            Node<T> newNode = new Node<>(values[i]);
+            newNode.prev = chainLast;
+            chainLast.next = newNode;
+            chainLast = newNode;
+        }
+        Node<T> next = index == size ? null : getNode(index);
+        Node<T> prev = next == null ? last : next.prev;
+        chainFirst.prev = prev;
+        chainLast.next = next;
+        if (prev == null) {
+            first = chainFirst;
+        } else {
+            prev.next = chainFirst;
+        }
+        if (next == null) {
+            last = chainLast;
+        } else {
+            next.prev = chainLast;
+        }
+        if (finger != null && index <= fingerIndex) {
+            fingerIndex += values.length;
+        }
+        size += values.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addAll(Collection<? extends T> values, int index) {
+        addAll((T[]) values.toArray(), index);
+    }
+
+    // cuts the whole segment out with one relink
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + "," + toIndex + ") must be within [ " + 0 + "," + size + "]");
+        }
+        int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+        Node<T> prev = fromIndex == 0 ? null : getNode(fromIndex - 1);
+        Node<T> next = toIndex == size ? null : getNode(toIndex);
+        if (prev == null) {
+            first = next;
+        } else {
+            prev.next = next;
+        }
+        if (next == null) {
+            last = prev;
+        } else {
+            next.prev = prev;
+        }
+        if (finger != null) {
+            if (fingerIndex >= toIndex) {
+                fingerIndex -= count;
+            } else if (fingerIndex >= fromIndex) {
+                finger = null;
+            }
+        }
+        size -= count;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        int oldSize = size;
+        int index = 0;
+        for (Node<T> current = first; current != null; current = current.next) {
+            if (filter.test(current.value)) {
+                removeNode(current, index);
+            } else {
+                index++;
+            }
+        }
+        return size != oldSize;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int index = 0;
+        for (Node<T> current = first; current != null; current = current.next) {
+            result[index++] = current.value;
+        }
+        return result;
+    }
+
     @Override
     public T remove(int index) {
         validateIndex(index);
         Node<T> current = getNode(index);
-        removeNode(current);
+        removeNode(current, index);
         return current.value;
     }
 
+    @Override
+    public boolean offerFirst(T value) {
+        add(value, 0);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(T value) {
+        add(value, size);
+        return true;
+    }
+
+    @Override
+    public T pollFirst() {
+        return size == 0 ? null : remove(0);
+    }
+
+    @Override
+    public T pollLast() {
+        return size == 0 ? null : remove(size - 1);
+    }
+
+    @Override
+    public T peekFirst() {
+        return size == 0 ? null : first.value;
+    }
+
+    @Override
+    public T peekLast() {
+        return size == 0 ? null : last.value;
+    }
+
+    // counted by size, not by a null from poll(), this list takes null values
+    @Override
+    public int drainTo(List<? super T> target, int maxValues) {
+        Objects.requireNonNull(target);
+        int count = Math.max(0, Math.min(maxValues, size));
+        for (int i = 0; i < count; i++) {
+            target.add(remove(0));
+        }
+        return count;
+    }
+
     @Override
     public T get(int index) {
         validateIndex(index);
@@ -86,7 +240,7 @@ public class LinkedList<T> implements List<T> {
 
     @Override
     public void clear() {
-        first = last = null;
+        first = last = finger = null;
         size = 0;
     }
 
@@ -119,9 +273,86 @@ public class LinkedList<T> implements List<T> {
         return new LinkedListIterator();
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return new LinkedListSpliterator();
+    }
+
+    // nodes can not be split by index, so every split copies the next batch into an array,
+    // the batch grows with each split to keep the per-task overhead small
+    private class LinkedListSpliterator implements Spliterator<T> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+        private Node<T> current;
+        private int remaining = -1;
+        private int batch;
+
+        private int getRemaining() {
+            if (remaining < 0) {
+                current = first;
+                remaining = size;
+            }
+            return remaining;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int count = getRemaining();
+            if (count <= 1) {
+                return null;
+            }
+            int length = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), count);
+            Object[] values = new Object[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = current.value;
+                current = current.next;
+            }
+            batch = length;
+            remaining -= length;
+            return Spliterators.spliterator(values, 0, length, Spliterator.ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (getRemaining() > 0) {
+                T value = current.value;
+                current = current.next;
+                remaining--;
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int count = getRemaining();
+            Node<T> node = current;
+            current = null;
+            remaining = 0;
+            for (int i = 0; i < count; i++) {
+                action.accept(node.value);
+                node = node.next;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getRemaining();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
     private class LinkedListIterator implements Iterator<T> {
         private Node<T> current = first;
-        private boolean remove;
+        private Node<T> lastReturned;
+        private int index;
 
         @Override
         public boolean hasNext() {
@@ -133,44 +364,62 @@ public class LinkedList<T> implements List<T> {
             if (!hasNext()) {
                 throw new NoSuchElementException("Next element is not exist");
             }
-            T value = current.value;
+            lastReturned = current;
             current = current.next;
-            remove = true;
-            return value;
+            index++;
+            return lastReturned.value;
         }
 
         @Override
         public void remove() {
-            if (!remove) {
+            if (lastReturned == null) {
                 throw new IllegalStateException("The method next() not used previously");
             }
-            removeNode(current);
-            remove=false;
+            removeNode(lastReturned, --index);
+            lastReturned = null;
         }
     }
 
+    // starts from whichever of first, last and finger is closest to index
     private Node<T> getNode(int index) {
         Node<T> current;
-        if (index < size / 2) {
+        int currentIndex;
+        if (index < size - 1 - index) {
             current = first;
-            for (int i = 0; i < index; i++) {
-                current = current.next;
-            }
+            currentIndex = 0;
         } else {
             current = last;
-            for (int i = size - 1; i > index; i--) {
-                current = current.prev;
-            }
+            currentIndex = size - 1;
+        }
+        if (finger != null && Math.abs(index - fingerIndex) < Math.abs(index - currentIndex)) {
+            current = finger;
+            currentIndex = fingerIndex;
+        }
+        while (currentIndex < index) {
+            current = current.next;
+            currentIndex++;
+        }
+        while (currentIndex > index) {
+            current = current.prev;
+            currentIndex--;
         }
+        finger = current;
+        fingerIndex = index;
         return current;
     }
 
-    private void removeNode(Node<T> node) {
+    private void removeNode(Node<T> node, int index) {
+        if (node == finger) {
+            // the next node takes over the same index
+            finger = node.next;
+        } else if (finger != null && index < fingerIndex) {
+            fingerIndex--;
+        }
         if (size == 1) {
             first = last = null;
         } else if (node == first) {
-            first.prev = null;
             first = node.next;
+            first.prev = null;
         } else if (node == last) {
             last = node.prev;
             last.next = null;
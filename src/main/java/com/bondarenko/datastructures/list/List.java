@@ -1,5 +1,13 @@
 package com.bondarenko.datastructures.list;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public interface List<T> extends Iterable<T> {
 
     // add value to the end of the list
@@ -44,4 +52,82 @@ public interface List<T> extends Iterable<T> {
 
     // [A, B, C]
     String toString();
+
+    // the defaults below work through the single-value methods,
+    // implementations replace them with one copy or one splice
+
+    // add values to the end of the list
+    default void addAll(T[] values) {
+        addAll(values, size());
+    }
+
+    default void addAll(Collection<? extends T> values) {
+        addAll(values, size());
+    }
+
+    // [A, B, C] addAll([D, E], 1) -> [A, D, E, B, C]
+    // we can add values by index between [0, size]
+    // otherwise throw new IndexOutOfBoundsException
+    default void addAll(T[] values, int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " must be between [ " + 0 + "," + size() + "]");
+        }
+        for (T value : values) {
+            add(value, index++);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    default void addAll(Collection<? extends T> values, int index) {
+        addAll((T[]) values.toArray(), index);
+    }
+
+    // [A, B, C, D] removeRange(1, 3) -> [A, D]
+    // fromIndex inclusive, toIndex exclusive, 0 <= fromIndex <= toIndex <= size
+    // otherwise throw new IndexOutOfBoundsException
+    default void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + "," + toIndex + ") must be within [ " + 0 + "," + size() + "]");
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            remove(fromIndex);
+        }
+    }
+
+    // true if any value was removed
+    default boolean removeIf(Predicate<? super T> filter) {
+        boolean removed = false;
+        Iterator<T> iterator = iterator();
+        while (iterator.hasNext()) {
+            if (filter.test(iterator.next())) {
+                iterator.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    default Object[] toArray() {
+        Object[] result = new Object[size()];
+        int index = 0;
+        for (T value : this) {
+            result[index++] = value;
+        }
+        return result;
+    }
+
+    // without a size the default Iterable spliterator can not split evenly,
+    // implementations with random access or cheap traversal replace it
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,170 @@
+package com.bondarenko.datastructures.list;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.StringJoiner;
+
+// ArrayList for long values without boxing every element into Long
+public class LongArrayList {
+    private static final int DEFAULT_INITIAL_CAPACITY = 10;
+    private static final double DEFAULT_GROWTH_FACTOR = 2.5;
+    private long[] array;
+    private int size;
+
+    private double loadFactor;
+
+    public LongArrayList() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_GROWTH_FACTOR);
+    }
+
+    public LongArrayList(int initialCapacity) {
+        this(initialCapacity, DEFAULT_GROWTH_FACTOR);
+    }
+
+    public LongArrayList(int initialCapacity, double loadFactor) {
+        this.loadFactor = loadFactor < 1 ? DEFAULT_GROWTH_FACTOR : loadFactor;
+        this.array = new long[initialCapacity];
+    }
+
+    public void add(long value) {
+        ensureCapacity(size + 1);
+        array[size++] = value;
+    }
+
+    public void add(long value, int index) {
+        validateIndexForAdd(index);
+        ensureCapacity(size + 1);
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        size++;
+    }
+
+    public void addAll(long[] values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, array, size, values.length);
+        size += values.length;
+    }
+
+    public long remove(int index) {
+        validateIndex(index);
+        long value = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return value;
+    }
+
+    public long get(int index) {
+        validateIndex(index);
+        return array[index];
+    }
+
+    public long set(long value, int index) {
+        validateIndex(index);
+        long oldValue = array[index];
+        array[index] = value;
+        return oldValue;
+    }
+
+    public boolean contains(long value) {
+        return indexOf(value) != -1;
+    }
+
+    public int indexOf(long value) {
+        for (int i = 0; i < size; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int lastIndexOf(long value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < size; i++) {
+            stringJoiner.add(String.valueOf(array[i]));
+        }
+        return stringJoiner.toString();
+    }
+
+    private void validateIndex(int index) {
+        if (index > size - 1 || index < 0) {
+            throw new IndexOutOfBoundsException("Index " + index + " must be between [ " + 0 + "," + (size - 1) + "]");
+        }
+    }
+
+    private void validateIndexForAdd(int index) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index " + index + " must be between [ " + 0 + "," + size + "]");
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            int newCapacity = Math.max((int) (array.length * loadFactor), minCapacity);
+            array = Arrays.copyOf(array, newCapacity);
+        }
+    }
+
+    int getCapacity() {
+        return array.length;
+    }
+
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongArrayListIterator();
+    }
+
+    private class LongArrayListIterator implements PrimitiveIterator.OfLong {
+        private int index;
+        private boolean remove;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            remove = true;
+            return array[index++];
+        }
+
+        @Override
+        public void remove() {
+            if (!remove) {
+                throw new IllegalStateException("Method next() has not called before remove");
+            }
+            remove = false;
+            LongArrayList.this.remove(--index);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.bondarenko.datastructures.list;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+// ArrayList whose values live in direct memory as codec.width() bytes each,
+// so the GC sees a few buffers instead of one object per value
+// the values are split over chunks of a power of two values each, so index >>> chunkShift finds the chunk
+// and a value never crosses a chunk boundary, capacity is not limited by the size of one buffer
+// a small list has one chunk that grows like ArrayList until it is full, after that whole chunks are added
+// and nothing is copied on growth
+public class OffHeapArrayList<T> implements List<T>, AutoCloseable {
+    private static final int DEFAULT_INITIAL_CAPACITY = 10;
+    private static final double DEFAULT_GROWTH_FACTOR = 2.5;
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 24;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final Codec<T> codec;
+    private final int width;
+    private final int chunkCapacity;
+    private final int chunkShift;
+    private final int chunkMask;
+    private ByteBuffer[] chunks;
+    private int chunkCount;
+    private int capacity;
+    private int size;
+
+    private double loadFactor;
+
+    public OffHeapArrayList(Codec<T> codec) {
+        this(codec, DEFAULT_INITIAL_CAPACITY, DEFAULT_GROWTH_FACTOR);
+    }
+
+    public OffHeapArrayList(Codec<T> codec, int initialCapacity) {
+        this(codec, initialCapacity, DEFAULT_GROWTH_FACTOR);
+    }
+
+    public OffHeapArrayList(Codec<T> codec, int initialCapacity, double loadFactor) {
+        this(codec, initialCapacity, loadFactor, DEFAULT_CHUNK_BYTES);
+    }
+
+    // a chunk holds the largest power of two values that fits into chunkBytes, at least one value
+    OffHeapArrayList(Codec<T> codec, int initialCapacity, double loadFactor, int chunkBytes) {
+        if (codec.width() <= 0) {
+            throw new IllegalArgumentException("Codec width " + codec.width() + " must be positive");
+        }
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Initial capacity " + initialCapacity + " must be between [ " + 0 + "," + MAX_CAPACITY + "]");
+        }
+        this.codec = codec;
+        this.width = codec.width();
+        this.chunkCapacity = width >= chunkBytes ? 1 : Integer.highestOneBit(chunkBytes / width);
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkCapacity);
+        this.chunkMask = chunkCapacity - 1;
+        this.loadFactor = loadFactor < 1 ? DEFAULT_GROWTH_FACTOR : loadFactor;
+        this.chunks = new ByteBuffer[1];
+        this.capacity = Math.min(initialCapacity, chunkCapacity);
+        chunks[chunkCount++] = allocate(capacity);
+        ensureCapacity(initialCapacity);
+    }
+
+    @Override
+    public void add(T value) {
+        add(value, size);
+    }
+
+    @Override
+    public void add(T value, int index) {
+        validateOpen();
+        validateIndexForAdd(index);
+        ensureCapacity(size + 1);
+        move(index, index + 1, size - index);
+        try {
+            codec.write(value, chunkOf(index), offsetOf(index));
+        } catch (RuntimeException e) {
+            // the codec rejected the value, shift the tail back so the list is unchanged
+            move(index + 1, index, size - index);
+            throw e;
+        }
+        size++;
+    }
+
+    @Override
+    public T remove(int index) {
+        validateOpen();
+        validateIndex(index);
+        T value = read(index);
+        move(index + 1, index, size - index - 1);
+        size--;
+        return value;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        validateOpen();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + "," + toIndex + ") must be within [ " + 0 + "," + size + "]");
+        }
+        move(toIndex, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+    }
+
+    @Override
+    public T get(int index) {
+        validateOpen();
+        validateIndex(index);
+        return read(index);
+    }
+
+    @Override
+    public T set(T value, int index) {
+        validateOpen();
+        validateIndex(index);
+        T oldValue = read(index);
+        codec.write(value, chunkOf(index), offsetOf(index));
+        return oldValue;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        return indexOf(value) != -1;
+    }
+
+    @Override
+    public int indexOf(T value) {
+        validateOpen();
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(read(i), value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(T value) {
+        validateOpen();
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(read(i), value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // nothing references the values, so clear only forgets them
+    @Override
+    public void clear() {
+        validateOpen();
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // frees the direct memory right away instead of waiting for the buffers to be collected
+    @Override
+    public void close() {
+        if (chunks != null) {
+            for (int i = 0; i < chunkCount; i++) {
+                DirectMemory.free(chunks[i]);
+            }
+            chunks = null;
+            chunkCount = 0;
+            capacity = 0;
+            size = 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(",", "[", "]");
+        for (T value : this) {
+            stringJoiner.add(String.valueOf(value));
+        }
+        return stringJoiner.toString();
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getChunkCount() {
+        return chunkCount;
+    }
+
+    private void validateOpen() {
+        if (chunks == null) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private void validateIndex(int index) {
+        if (index > size - 1 || index < 0) {
+            throw new IndexOutOfBoundsException("Index " + index + " must be between [ " + 0 + "," + (size - 1) + "]");
+        }
+    }
+
+    private void validateIndexForAdd(int index) {
+        if (index > size || index < 0) {
+            throw new IndexOutOfBoundsException("Index " + index + " must be between [ " + 0 + "," + size + "]");
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= capacity) {
+            return;
+        }
+        if (minCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("List capacity can not exceed " + MAX_CAPACITY);
+        }
+        if (capacity < chunkCapacity) {
+            // the only chunk is not full yet, it grows like the array of ArrayList
+            int newCapacity = (int) Math.min(Math.max((long) (capacity * loadFactor), minCapacity), chunkCapacity);
+            ByteBuffer newChunk = allocate(newCapacity);
+            newChunk.put(0, chunks[0], 0, size * width);
+            DirectMemory.free(chunks[0]);
+            chunks[0] = newChunk;
+            capacity = newCapacity;
+        }
+        while (capacity < minCapacity) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            }
+            chunks[chunkCount++] = allocate(chunkCapacity);
+            capacity += chunkCapacity;
+        }
+    }
+
+    private T read(int index) {
+        return codec.read(chunkOf(index), offsetOf(index));
+    }
+
+    private ByteBuffer chunkOf(int index) {
+        return chunks[index >>> chunkShift];
+    }
+
+    private int offsetOf(int index) {
+        return (index & chunkMask) * width;
+    }
+
+    // moves count values from fromIndex to toIndex piece by piece, a piece ends at a chunk boundary
+    // on either side, pieces are copied from the far end when the values move right, so overlapping ranges work
+    // within one chunk copyMemory underneath handles overlapping ranges the way System.arraycopy does
+    private void move(int fromIndex, int toIndex, int count) {
+        if (toIndex < fromIndex) {
+            int moved = 0;
+            while (moved < count) {
+                int from = fromIndex + moved;
+                int to = toIndex + moved;
+                int length = Math.min(count - moved,
+                        Math.min(chunkCapacity - (from & chunkMask), chunkCapacity - (to & chunkMask)));
+                copy(from, to, length);
+                moved += length;
+            }
+        } else {
+            int remaining = count;
+            while (remaining > 0) {
+                int fromEnd = fromIndex + remaining;
+                int toEnd = toIndex + remaining;
+                int length = Math.min(remaining,
+                        Math.min(((fromEnd - 1) & chunkMask) + 1, ((toEnd - 1) & chunkMask) + 1));
+                copy(fromEnd - length, toEnd - length, length);
+                remaining -= length;
+            }
+        }
+    }
+
+    private void copy(int fromIndex, int toIndex, int count) {
+        chunkOf(toIndex).put(offsetOf(toIndex), chunkOf(fromIndex), offsetOf(fromIndex), count * width);
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * width).order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        validateOpen();
+        return new OffHeapArrayListIterator();
+    }
+
+    private class OffHeapArrayListIterator implements Iterator<T> {
+        private int index;
+        private boolean remove;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            remove = true;
+            return get(index++);
+        }
+
+        @Override
+        public void remove() {
+            if (!remove) {
+                throw new IllegalStateException("Method next() has not called before remove");
+            }
+            remove = false;
+            OffHeapArrayList.this.remove(--index);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.bondarenko.datastructures.list;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+// immutable list as in Clojure: a 32-way trie of arrays plus a tail array of up to 32 last values,
+// append/update/removeLast return a new vector that shares all untouched arrays with this one,
+// copying only one path of O(log32 n) arrays, most appends copy the tail only
+// a vector never changes, so it can be handed to any number of threads without locks
+public class PersistentVector<T> implements List<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Node EMPTY_NODE = new Node(new Object[WIDTH]);
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    // bits of an index consumed above the leaf level
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <T> PersistentVector<T> of(T... values) {
+        PersistentVector<T> vector = empty();
+        for (T value : values) {
+            vector = vector.append(value);
+        }
+        return vector;
+    }
+
+    // a new vector with value at the end
+    public PersistentVector<T> append(T value) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = new Object[tail.length + 1];
+            System.arraycopy(tail, 0, newTail, 0, tail.length);
+            newTail[tail.length] = value;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        // the full tail moves into the trie, the root grows a level when the trie is full
+        Node tailNode = new Node(tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tailNode);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{value});
+    }
+
+    // a new vector with value at index
+    public PersistentVector<T> update(T value, int index) {
+        validateIndex(index);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = value;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, updatePath(shift, root, index, value), tail);
+    }
+
+    // a new vector without the last value
+    public PersistentVector<T> removeLast() {
+        if (size == 0) {
+            throw new IllegalStateException("Vector is empty");
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset() > 1) {
+            Object[] newTail = new Object[tail.length - 1];
+            System.arraycopy(tail, 0, newTail, 0, newTail.length);
+            return new PersistentVector<>(size - 1, shift, root, newTail);
+        }
+        // the tail is empty now, the last leaf of the trie becomes the tail
+        Object[] newTail = arrayFor(size - 2);
+        Node newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    @Override
+    public T get(int index) {
+        validateIndex(index);
+        @SuppressWarnings("unchecked")
+        T value = (T) arrayFor(index)[index & MASK];
+        return value;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        return indexOf(value) != -1;
+    }
+
+    @Override
+    public int indexOf(T value) {
+        for (int i = 0; i < size; i += WIDTH) {
+            Object[] array = arrayFor(i);
+            for (int j = 0; j < Math.min(WIDTH, size - i); j++) {
+                if (Objects.equals(array[j], value)) {
+                    return i + j;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(T value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(get(i), value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // a vector is immutable, the methods that change a list in place are not supported
+
+    @Override
+    public void add(T value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void add(T value, int index) {
+        throw unsupported();
+    }
+
+    @Override
+    public T remove(int index) {
+        throw unsupported();
+    }
+
+    @Override
+    public T set(T value, int index) {
+        throw unsupported();
+    }
+
+    @Override
+    public void clear() {
+        throw unsupported();
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(",", "[", "]");
+        for (T value : this) {
+            stringJoiner.add(String.valueOf(value));
+        }
+        return stringJoiner.toString();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("PersistentVector is immutable, use append, update or removeLast");
+    }
+
+    private void validateIndex(int index) {
+        if (index > size - 1 || index < 0) {
+            throw new IndexOutOfBoundsException("Index " + index + " must be between [ " + 0 + "," + (size - 1) + "]");
+        }
+    }
+
+    // index of the first value in the tail
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    // the leaf array holding index
+    private Object[] arrayFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    private Node pushTail(int level, Node parent, Node tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Node result = new Node(parent.array.clone());
+        Node inserted;
+        if (level == BITS) {
+            inserted = tailNode;
+        } else {
+            Node child = (Node) parent.array[subIndex];
+            inserted = child != null ? pushTail(level - BITS, child, tailNode) : newPath(level - BITS, tailNode);
+        }
+        result.array[subIndex] = inserted;
+        return result;
+    }
+
+    private static Node newPath(int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node path = new Node(new Object[WIDTH]);
+        path.array[0] = newPath(level - BITS, node);
+        return path;
+    }
+
+    private static Node updatePath(int level, Node node, int index, Object value) {
+        Node result = new Node(node.array.clone());
+        if (level == 0) {
+            result.array[index & MASK] = value;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result.array[subIndex] = updatePath(level - BITS, (Node) node.array[subIndex], index, value);
+        }
+        return result;
+    }
+
+    // null when the subtree becomes empty
+    private Node popTail(int level, Node node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node newChild = popTail(level - BITS, (Node) node.array[subIndex]);
+            if (newChild == null && subIndex == 0) {
+                return null;
+            }
+            Node result = new Node(node.array.clone());
+            result.array[subIndex] = newChild;
+            return result;
+        }
+        if (subIndex == 0) {
+            return null;
+        }
+        Node result = new Node(node.array.clone());
+        result.array[subIndex] = null;
+        return result;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new PersistentVectorIterator();
+    }
+
+    // walks one leaf array at a time
+    private class PersistentVectorIterator implements Iterator<T> {
+        private int index;
+        private Object[] array;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            if ((index & MASK) == 0) {
+                array = arrayFor(index);
+            }
+            return (T) array[index++ & MASK];
+        }
+
+        @Override
+        public void remove() {
+            throw unsupported();
+        }
+    }
+
+    private static class Node {
+        private final Object[] array;
+
+        private Node(Object[] array) {
+            this.array = array;
+        }
+    }
+}
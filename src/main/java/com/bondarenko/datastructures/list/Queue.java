@@ -0,0 +1,37 @@
+package com.bondarenko.datastructures.list;
+
+public interface Queue<T> extends Iterable<T> {
+
+    // add value to the tail of the queue
+    // false if the queue can not take it, an unbounded queue always takes it
+    boolean offer(T value);
+
+    // remove and return the head of the queue
+    // null if the queue is empty
+    T poll();
+
+    // the head of the queue without removing it
+    // null if the queue is empty
+    T peek();
+
+    boolean contains(T value);
+
+    void clear();
+
+    int size();
+
+    boolean isEmpty();
+
+    // [A, B, C] drainTo(target, 2) -> target + [A, B], queue [C]
+    // moves at most maxValues values from the head to the end of target and returns how many were moved,
+    // implementations replace it to take a whole batch at once
+    default int drainTo(List<? super T> target, int maxValues) {
+        int count = 0;
+        T value;
+        while (count < maxValues && (value = poll()) != null) {
+            target.add(value);
+            count++;
+        }
+        return count;
+    }
+}
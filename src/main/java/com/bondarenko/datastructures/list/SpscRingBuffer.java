@@ -0,0 +1,265 @@
+package com.bondarenko.datastructures.list;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+// bounded queue for exactly one producer thread and one consumer thread, in the style of the Disruptor and JCTools:
+// values live in a power of two array reused forever, so a value is found by index & mask and nothing is allocated
+// the producer owns tail and the consumer owns head, each publishes its counter with a release store
+// and reads the other one with an acquire load only when its cached copy says the buffer is full or empty
+// both counters are padded to a cache line of their own, so the two threads do not invalidate each other's line
+// on every write
+// offer, offerBatch are producer methods, poll, peek, drain, drainTo, contains, clear and the iterator
+// are consumer methods, size and isEmpty can be called from any thread
+public class SpscRingBuffer<T> implements Queue<T> {
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final Object[] buffer;
+    private final int mask;
+    private final Sequence tail = new Sequence();
+    private final Sequence head = new Sequence();
+
+    public SpscRingBuffer(int capacity) {
+        buffer = new Object[capacityFor(capacity)];
+        mask = buffer.length - 1;
+    }
+
+    // false if the buffer is full
+    @Override
+    public boolean offer(T value) {
+        Objects.requireNonNull(value, "Ring buffer does not take null values");
+        long index = tail.value;
+        if (index - tail.cache >= buffer.length) {
+            tail.cache = head.getAcquire();
+            if (index - tail.cache >= buffer.length) {
+                return false;
+            }
+        }
+        buffer[(int) index & mask] = value;
+        tail.setRelease(index + 1);
+        return true;
+    }
+
+    public int offerBatch(T[] values) {
+        return offerBatch(values, 0, values.length);
+    }
+
+    // offers values[offset, offset + length) with one release store of tail,
+    // returns how many of them fit, the rest are left to the caller
+    public int offerBatch(T[] values, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > values.length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + "," + (offset + length) + ") must be within [ " + 0 + "," + values.length + "]");
+        }
+        long index = tail.value;
+        if (index - tail.cache + length > buffer.length) {
+            tail.cache = head.getAcquire();
+        }
+        int count = (int) Math.min(length, buffer.length - (index - tail.cache));
+        for (int i = 0; i < count; i++) {
+            buffer[(int) (index + i) & mask] = Objects.requireNonNull(values[offset + i], "Ring buffer does not take null values");
+        }
+        if (count > 0) {
+            tail.setRelease(index + count);
+        }
+        return count;
+    }
+
+    @Override
+    public T poll() {
+        long index = head.value;
+        if (index >= head.cache) {
+            head.cache = tail.getAcquire();
+            if (index >= head.cache) {
+                return null;
+            }
+        }
+        int slot = (int) index & mask;
+        @SuppressWarnings("unchecked")
+        T value = (T) buffer[slot];
+        buffer[slot] = null;
+        head.setRelease(index + 1);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        long index = head.value;
+        if (index >= head.cache) {
+            head.cache = tail.getAcquire();
+            if (index >= head.cache) {
+                return null;
+            }
+        }
+        return (T) buffer[(int) index & mask];
+    }
+
+    // hands up to limit values to consumer and frees their slots with one release store of head,
+    // if consumer throws, the value it threw on and the ones after it stay in the buffer
+    public int drain(Consumer<? super T> consumer, int limit) {
+        Objects.requireNonNull(consumer);
+        long index = head.value;
+        if (index + limit > head.cache) {
+            head.cache = tail.getAcquire();
+        }
+        long available = Math.min(limit, head.cache - index);
+        int count = 0;
+        try {
+            while (count < available) {
+                int slot = (int) (index + count) & mask;
+                @SuppressWarnings("unchecked")
+                T value = (T) buffer[slot];
+                consumer.accept(value);
+                buffer[slot] = null;
+                count++;
+            }
+        } finally {
+            if (count > 0) {
+                head.setRelease(index + count);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int drainTo(List<? super T> target, int maxValues) {
+        Objects.requireNonNull(target);
+        return drain(target::add, maxValues);
+    }
+
+    @Override
+    public boolean contains(T value) {
+        if (value == null) {
+            return false;
+        }
+        for (T current : this) {
+            if (value.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        long index = head.value;
+        long end = tail.getAcquire();
+        for (long i = index; i < end; i++) {
+            buffer[(int) i & mask] = null;
+        }
+        head.cache = end;
+        head.setRelease(end);
+    }
+
+    // head is read first, so a concurrent change can only make the count too large, never negative
+    @Override
+    public int size() {
+        long first = head.getAcquire();
+        long last = tail.getAcquire();
+        return (int) Math.max(0, Math.min(last - first, buffer.length));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(",", "[", "]");
+        for (T value : this) {
+            stringJoiner.add(String.valueOf(value));
+        }
+        return stringJoiner.toString();
+    }
+
+    int getCapacity() {
+        return buffer.length;
+    }
+
+    private static int capacityFor(int capacity) {
+        if (capacity <= 2) {
+            return 2;
+        }
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    // walks the values published when it starts, the producer can not reuse their slots until the consumer polls them
+    @Override
+    public Iterator<T> iterator() {
+        return new SpscRingBufferIterator(head.value, tail.getAcquire());
+    }
+
+    private class SpscRingBufferIterator implements Iterator<T> {
+        private final long end;
+        private long index;
+
+        private SpscRingBufferIterator(long index, long end) {
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < end;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            return (T) buffer[(int) index++ & mask];
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Iterator of SpscRingBuffer can not remove, use poll");
+        }
+    }
+
+    // HotSpot lays out the fields of a superclass before the fields of its subclass,
+    // so the seven longs on each side keep value and cache on a cache line of their own
+    private static class LeftPadding {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    private static class Value extends LeftPadding {
+        // written by the owner thread only, other threads read it through getAcquire
+        long value;
+        // the owner's last seen value of the other counter
+        long cache;
+    }
+
+    private static class Sequence extends Value {
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Value.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        long p11, p12, p13, p14, p15, p16, p17;
+
+        private long getAcquire() {
+            return (long) VALUE.getAcquire(this);
+        }
+
+        // an ordered lazy write: no StoreLoad fence as a volatile write would need
+        private void setRelease(long newValue) {
+            VALUE.setRelease(this, newValue);
+        }
+    }
+}
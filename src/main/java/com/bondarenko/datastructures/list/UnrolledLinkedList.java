@@ -0,0 +1,328 @@
+package com.bondarenko.datastructures.list;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+// LinkedList that keeps up to chunkSize values in every node instead of one,
+// so a positional lookup skips whole chunks and iteration reads neighbouring array cells
+public class UnrolledLinkedList<T> implements List<T> {
+    private static final int DEFAULT_CHUNK_SIZE = 64;
+    private final int chunkSize;
+    private Node first;
+    private Node last;
+    private int size;
+
+    // result of find(index)
+    private Node foundNode;
+    private int foundOffset;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    public UnrolledLinkedList(int chunkSize) {
+        if (chunkSize < 2) {
+            throw new IllegalArgumentException("Chunk size " + chunkSize + " must be at least 2");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void add(T value) {
+        if (last == null || last.count == chunkSize) {
+            linkAfter(last, new Node());
+        }
+        last.values[last.count++] = value;
+        size++;
+    }
+
+    @Override
+    public void add(T value, int index) {
+        validateIndexForAdd(index);
+        if (index == size) {
+            add(value);
+            return;
+        }
+        if (index == 0 && first.count == chunkSize) {
+            Node newNode = new Node();
+            newNode.values[newNode.count++] = value;
+            linkBefore(first, newNode);
+            size++;
+            return;
+        }
+        find(index);
+        Node node = foundNode;
+        int offset = foundOffset;
+        if (node.count == chunkSize) {
+            Node newNode = split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = newNode;
+            }
+        }
+        System.arraycopy(node.values, offset, node.values, offset + 1, node.count - offset);
+        node.values[offset] = value;
+        node.count++;
+        size++;
+    }
+
+    @Override
+    public T remove(int index) {
+        validateIndex(index);
+        find(index);
+        return removeAt(foundNode, foundOffset);
+    }
+
+    @Override
+    public T get(int index) {
+        validateIndex(index);
+        find(index);
+        return foundNode.value(foundOffset);
+    }
+
+    @Override
+    public T set(T value, int index) {
+        validateIndex(index);
+        find(index);
+        T oldValue = foundNode.value(foundOffset);
+        foundNode.values[foundOffset] = value;
+        return oldValue;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        return indexOf(value) != -1;
+    }
+
+    @Override
+    public int indexOf(T value) {
+        int index = 0;
+        for (Node node = first; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(node.values[i], value)) {
+                    return index + i;
+                }
+            }
+            index += node.count;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(T value) {
+        int index = size;
+        for (Node node = last; node != null; node = node.prev) {
+            index -= node.count;
+            for (int i = node.count - 1; i >= 0; i--) {
+                if (Objects.equals(node.values[i], value)) {
+                    return index + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void clear() {
+        first = last = null;
+        foundNode = null;
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner result = new StringJoiner(",", "[", "]");
+        for (T value : this) {
+            result.add(String.valueOf(value));
+        }
+        return result.toString();
+    }
+
+    int getNodeCount() {
+        int count = 0;
+        for (Node node = first; node != null; node = node.next) {
+            count++;
+        }
+        return count;
+    }
+
+    // walks whole chunks from the nearer end
+    private void find(int index) {
+        Node node;
+        int offset;
+        if (index < size / 2) {
+            node = first;
+            offset = index;
+            while (offset >= node.count) {
+                offset -= node.count;
+                node = node.next;
+            }
+        } else {
+            node = last;
+            offset = index - (size - last.count);
+            while (offset < 0) {
+                node = node.prev;
+                offset += node.count;
+            }
+        }
+        foundNode = node;
+        foundOffset = offset;
+    }
+
+    private T removeAt(Node node, int offset) {
+        T value = node.value(offset);
+        System.arraycopy(node.values, offset + 1, node.values, offset, node.count - offset - 1);
+        node.values[--node.count] = null;
+        size--;
+        if (node.count == 0) {
+            unlink(node);
+        } else if (node.count < chunkSize / 2) {
+            if (!mergeWithNext(node) && node.prev != null) {
+                mergeWithNext(node.prev);
+            }
+        }
+        return value;
+    }
+
+    // moves the upper half of a full node into a new node right after it
+    private Node split(Node node) {
+        Node newNode = new Node();
+        int half = node.count / 2;
+        int moved = node.count - half;
+        System.arraycopy(node.values, half, newNode.values, 0, moved);
+        for (int i = half; i < node.count; i++) {
+            node.values[i] = null;
+        }
+        node.count = half;
+        newNode.count = moved;
+        linkAfter(node, newNode);
+        return newNode;
+    }
+
+    private boolean mergeWithNext(Node node) {
+        Node next = node.next;
+        if (next == null || node.count + next.count > chunkSize) {
+            return false;
+        }
+        System.arraycopy(next.values, 0, node.values, node.count, next.count);
+        node.count += next.count;
+        unlink(next);
+        return true;
+    }
+
+    private void linkAfter(Node node, Node newNode) {
+        newNode.prev = node;
+        if (node == null) {
+            newNode.next = first;
+            first = newNode;
+        } else {
+            newNode.next = node.next;
+            node.next = newNode;
+        }
+        if (newNode.next == null) {
+            last = newNode;
+        } else {
+            newNode.next.prev = newNode;
+        }
+    }
+
+    private void linkBefore(Node node, Node newNode) {
+        linkAfter(node.prev, newNode);
+    }
+
+    private void unlink(Node node) {
+        if (node.prev == null) {
+            first = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            last = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+
+    private void validateIndexForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " must be between [ " + 0 + "," + size + "]");
+        }
+    }
+
+    private void validateIndex(int index) {
+        if (index < 0 || index > size - 1) {
+            throw new IndexOutOfBoundsException("Index " + index + " must be between [ " + 0 + "," + (size - 1) + "]");
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new UnrolledLinkedListIterator();
+    }
+
+    private class UnrolledLinkedListIterator implements Iterator<T> {
+        private Node node = first;
+        private int offset;
+        private int index;
+        private boolean remove;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            while (offset == node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            index++;
+            remove = true;
+            return node.value(offset++);
+        }
+
+        @Override
+        public void remove() {
+            if (!remove) {
+                throw new IllegalStateException("Method next() has not called before remove");
+            }
+            remove = false;
+            removeAt(node, offset - 1);
+            // removal may have merged or unlinked chunks, so the position is looked up again
+            index--;
+            if (index < size) {
+                find(index);
+                node = foundNode;
+                offset = foundOffset;
+            }
+        }
+    }
+
+    private class Node {
+        private final Object[] values = new Object[chunkSize];
+        private int count;
+        private Node next;
+        private Node prev;
+
+        @SuppressWarnings("unchecked")
+        private T value(int offset) {
+            return (T) values[offset];
+        }
+    }
+}
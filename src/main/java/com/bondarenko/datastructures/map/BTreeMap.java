@@ -0,0 +1,926 @@
+package com.bondarenko.datastructures.map;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+// B+tree: wide nodes searched by binary search, values only in the leaves and the leaves linked in key order,
+// so a range query is one descent and then a walk over neighbouring array cells
+// the null key is kept aside, like the zero key of IntObjectHashMap, and is ordered before every other key
+public class BTreeMap<K, V> implements SortedMap<K, V> {
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+    private static final int MIN_NODE_CAPACITY = 4;
+
+    private final Comparator<? super K> comparator;
+    private final int nodeCapacity;
+    private final int minKeys;
+    private Node root;
+    private int size;
+    private boolean hasNullKey;
+    private V nullValue;
+
+    // results of insert() and delete(), the recursion itself returns only the new sibling
+    private Object splitKey;
+    private V oldValue;
+    private boolean found;
+
+    public BTreeMap() {
+        this(null, DEFAULT_NODE_CAPACITY);
+    }
+
+    public BTreeMap(Comparator<? super K> comparator) {
+        this(comparator, DEFAULT_NODE_CAPACITY);
+    }
+
+    // comparator null means the natural order of Comparable keys
+    public BTreeMap(Comparator<? super K> comparator, int nodeCapacity) {
+        if (nodeCapacity < MIN_NODE_CAPACITY) {
+            throw new IllegalArgumentException("Node capacity " + nodeCapacity + " must be at least " + MIN_NODE_CAPACITY);
+        }
+        this.comparator = comparator;
+        this.nodeCapacity = nodeCapacity;
+        this.minKeys = nodeCapacity / 2;
+        this.root = new Leaf();
+    }
+
+    @Override
+    public V put(K key, V value) {
+        if (key == null) {
+            V previous = nullValue;
+            nullValue = value;
+            if (!hasNullKey) {
+                hasNullKey = true;
+                size++;
+            }
+            return previous;
+        }
+        found = false;
+        oldValue = null;
+        Node sibling = insert(root, key, value);
+        if (sibling != null) {
+            Internal newRoot = new Internal();
+            newRoot.keys[0] = splitKey;
+            newRoot.children[0] = root;
+            newRoot.children[1] = sibling;
+            newRoot.count = 1;
+            root = newRoot;
+        }
+        if (!found) {
+            size++;
+        }
+        V previous = oldValue;
+        oldValue = null;
+        splitKey = null;
+        return previous;
+    }
+
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            V previous = nullValue;
+            if (hasNullKey) {
+                hasNullKey = false;
+                nullValue = null;
+                size--;
+            }
+            return previous;
+        }
+        found = false;
+        oldValue = null;
+        delete(root, key);
+        if (root instanceof Internal && root.count == 0) {
+            root = ((Internal) root).children[0];
+        }
+        if (found) {
+            size--;
+        }
+        V previous = oldValue;
+        oldValue = null;
+        return previous;
+    }
+
+    @Override
+    public V get(K key) {
+        if (key == null) {
+            return nullValue;
+        }
+        Leaf leaf = findLeaf(key);
+        int index = search(leaf, key);
+        return index >= 0 ? leaf.value(index) : null;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        if (key == null) {
+            return hasNullKey;
+        }
+        Leaf leaf = findLeaf(key);
+        return search(leaf, key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public K firstKey() {
+        if (hasNullKey) {
+            return null;
+        }
+        Leaf leaf = firstLeaf();
+        if (leaf.count == 0) {
+            throw new NoSuchElementException("Map is empty");
+        }
+        return leaf.key(0);
+    }
+
+    @Override
+    public K lastKey() {
+        Leaf leaf = lastLeaf();
+        if (leaf.count == 0) {
+            if (hasNullKey) {
+                return null;
+            }
+            throw new NoSuchElementException("Map is empty");
+        }
+        return leaf.key(leaf.count - 1);
+    }
+
+    @Override
+    public K floorKey(K key) {
+        return key == null ? null : lowerOrFloor(key, true);
+    }
+
+    @Override
+    public K ceilingKey(K key) {
+        return key == null ? firstNotNullKey() : higherOrCeiling(key, true);
+    }
+
+    @Override
+    public K lowerKey(K key) {
+        return key == null ? null : lowerOrFloor(key, false);
+    }
+
+    @Override
+    public K higherKey(K key) {
+        return key == null ? firstNotNullKey() : higherOrCeiling(key, false);
+    }
+
+    @Override
+    public SortedMap<K, V> subMap(K fromKey, K toKey) {
+        if (fromKey == null || toKey == null) {
+            throw new NullPointerException("Bounds of a sub map must not be null");
+        }
+        if (compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("From key " + fromKey + " is greater than to key " + toKey);
+        }
+        return new SubMap(fromKey, toKey);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if (hasNullKey) {
+            action.accept(null, nullValue);
+        }
+        for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                action.accept(leaf.key(i), leaf.value(i));
+            }
+        }
+    }
+
+    // values are replaced in the leaves, the keys and the shape of the tree stay as they are
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        if (hasNullKey) {
+            nullValue = function.apply(null, nullValue);
+        }
+        for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                leaf.values[i] = function.apply(leaf.key(i), leaf.value(i));
+            }
+        }
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new BTreeMapIterator(null, null, true);
+    }
+
+    // one cursor walks the map in key order any number of times after reset() without allocating per entry
+    @Override
+    public MapCursor<K, V> cursor() {
+        return new BTreeMapCursor(null, null, true);
+    }
+
+    @Override
+    public Spliterator<Map.Entry<K, V>> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.DISTINCT);
+    }
+
+    int getHeight() {
+        int height = 1;
+        for (Node node = root; node instanceof Internal; node = ((Internal) node).children[0]) {
+            height++;
+        }
+        return height;
+    }
+
+    private K firstNotNullKey() {
+        Leaf leaf = firstLeaf();
+        return leaf.count == 0 ? null : leaf.key(0);
+    }
+
+    // the leaf holds the floor unless key is below all its keys, then the floor is the last key of the previous leaf
+    private K lowerOrFloor(K key, boolean inclusive) {
+        Leaf leaf = findLeaf(key);
+        int index = search(leaf, key);
+        int position = index >= 0 ? (inclusive ? index : index - 1) : -index - 2;
+        if (position >= 0) {
+            return leaf.key(position);
+        }
+        return leaf.prev == null ? null : leaf.prev.key(leaf.prev.count - 1);
+    }
+
+    private K higherOrCeiling(K key, boolean inclusive) {
+        Leaf leaf = findLeaf(key);
+        int index = search(leaf, key);
+        int position = index >= 0 ? (inclusive ? index : index + 1) : -index - 1;
+        if (position < leaf.count) {
+            return leaf.key(position);
+        }
+        return leaf.next == null ? null : leaf.next.key(0);
+    }
+
+    private Leaf findLeaf(K key) {
+        Node node = root;
+        while (node instanceof Internal) {
+            Internal internal = (Internal) node;
+            node = internal.children[childIndex(internal, key)];
+        }
+        return (Leaf) node;
+    }
+
+    private Leaf firstLeaf() {
+        Node node = root;
+        while (node instanceof Internal) {
+            node = ((Internal) node).children[0];
+        }
+        return (Leaf) node;
+    }
+
+    private Leaf lastLeaf() {
+        Node node = root;
+        while (node instanceof Internal) {
+            node = ((Internal) node).children[node.count];
+        }
+        return (Leaf) node;
+    }
+
+    // a separator equal to key leads to the right child, the separator is the first key of that child
+    private int childIndex(Internal internal, K key) {
+        int index = search(internal, key);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    // same contract as Arrays.binarySearch
+    private int search(Node node, K key) {
+        int low = 0;
+        int high = node.count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(node.key(middle), key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(K first, K second) {
+        return comparator == null
+                ? ((Comparable<? super K>) first).compareTo(second)
+                : comparator.compare(first, second);
+    }
+
+    // returns the new right sibling when node had to split, its first key is left in splitKey
+    private Node insert(Node node, K key, V value) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int index = search(leaf, key);
+            if (index >= 0) {
+                found = true;
+                oldValue = leaf.value(index);
+                leaf.values[index] = value;
+                return null;
+            }
+            int position = -index - 1;
+            System.arraycopy(leaf.keys, position, leaf.keys, position + 1, leaf.count - position);
+            System.arraycopy(leaf.values, position, leaf.values, position + 1, leaf.count - position);
+            leaf.keys[position] = key;
+            leaf.values[position] = value;
+            leaf.count++;
+            return leaf.count > nodeCapacity ? splitLeaf(leaf) : null;
+        }
+        Internal internal = (Internal) node;
+        int childIndex = childIndex(internal, key);
+        Node sibling = insert(internal.children[childIndex], key, value);
+        if (sibling == null) {
+            return null;
+        }
+        System.arraycopy(internal.keys, childIndex, internal.keys, childIndex + 1, internal.count - childIndex);
+        System.arraycopy(internal.children, childIndex + 1, internal.children, childIndex + 2, internal.count - childIndex);
+        internal.keys[childIndex] = splitKey;
+        internal.children[childIndex + 1] = sibling;
+        internal.count++;
+        return internal.count > nodeCapacity ? splitInternal(internal) : null;
+    }
+
+    private Leaf splitLeaf(Leaf leaf) {
+        Leaf sibling = new Leaf();
+        int half = leaf.count / 2;
+        int moved = leaf.count - half;
+        System.arraycopy(leaf.keys, half, sibling.keys, 0, moved);
+        System.arraycopy(leaf.values, half, sibling.values, 0, moved);
+        clear(leaf.keys, half, leaf.count);
+        clear(leaf.values, half, leaf.count);
+        leaf.count = half;
+        sibling.count = moved;
+        sibling.next = leaf.next;
+        sibling.prev = leaf;
+        if (leaf.next != null) {
+            leaf.next.prev = sibling;
+        }
+        leaf.next = sibling;
+        splitKey = sibling.keys[0];
+        return sibling;
+    }
+
+    // the middle key moves up to the parent and belongs to neither half
+    private Internal splitInternal(Internal internal) {
+        Internal sibling = new Internal();
+        int middle = internal.count / 2;
+        int moved = internal.count - middle - 1;
+        splitKey = internal.keys[middle];
+        System.arraycopy(internal.keys, middle + 1, sibling.keys, 0, moved);
+        System.arraycopy(internal.children, middle + 1, sibling.children, 0, moved + 1);
+        clear(internal.keys, middle, internal.count);
+        clear(internal.children, middle + 1, internal.count + 1);
+        internal.count = middle;
+        sibling.count = moved;
+        return sibling;
+    }
+
+    private void delete(Node node, K key) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int index = search(leaf, key);
+            if (index >= 0) {
+                found = true;
+                oldValue = leaf.value(index);
+                System.arraycopy(leaf.keys, index + 1, leaf.keys, index, leaf.count - index - 1);
+                System.arraycopy(leaf.values, index + 1, leaf.values, index, leaf.count - index - 1);
+                leaf.count--;
+                leaf.keys[leaf.count] = null;
+                leaf.values[leaf.count] = null;
+            }
+            return;
+        }
+        Internal internal = (Internal) node;
+        int childIndex = childIndex(internal, key);
+        Node child = internal.children[childIndex];
+        delete(child, key);
+        if (found && child.count < minKeys) {
+            rebalance(internal, childIndex);
+        }
+    }
+
+    // borrows a key from a sibling that can spare one, otherwise merges with a sibling
+    private void rebalance(Internal parent, int childIndex) {
+        Node child = parent.children[childIndex];
+        Node left = childIndex > 0 ? parent.children[childIndex - 1] : null;
+        Node right = childIndex < parent.count ? parent.children[childIndex + 1] : null;
+        if (left != null && left.count > minKeys) {
+            borrowFromLeft(parent, childIndex, left, child);
+        } else if (right != null && right.count > minKeys) {
+            borrowFromRight(parent, childIndex, child, right);
+        } else if (left != null) {
+            merge(parent, childIndex - 1, left, child);
+        } else if (right != null) {
+            merge(parent, childIndex, child, right);
+        }
+    }
+
+    private void borrowFromLeft(Internal parent, int childIndex, Node left, Node child) {
+        shiftRight(child);
+        if (child instanceof Leaf) {
+            Leaf leaf = (Leaf) child;
+            Leaf leftLeaf = (Leaf) left;
+            leaf.keys[0] = leftLeaf.keys[leftLeaf.count - 1];
+            leaf.values[0] = leftLeaf.values[leftLeaf.count - 1];
+            leftLeaf.keys[leftLeaf.count - 1] = null;
+            leftLeaf.values[leftLeaf.count - 1] = null;
+            parent.keys[childIndex - 1] = leaf.keys[0];
+        } else {
+            Internal internal = (Internal) child;
+            Internal leftInternal = (Internal) left;
+            internal.keys[0] = parent.keys[childIndex - 1];
+            internal.children[0] = leftInternal.children[leftInternal.count];
+            parent.keys[childIndex - 1] = leftInternal.keys[leftInternal.count - 1];
+            leftInternal.keys[leftInternal.count - 1] = null;
+            leftInternal.children[leftInternal.count] = null;
+        }
+        left.count--;
+        child.count++;
+    }
+
+    private void borrowFromRight(Internal parent, int childIndex, Node child, Node right) {
+        if (child instanceof Leaf) {
+            Leaf leaf = (Leaf) child;
+            Leaf rightLeaf = (Leaf) right;
+            leaf.keys[leaf.count] = rightLeaf.keys[0];
+            leaf.values[leaf.count] = rightLeaf.values[0];
+            shiftLeft(rightLeaf);
+            parent.keys[childIndex] = rightLeaf.keys[0];
+        } else {
+            Internal internal = (Internal) child;
+            Internal rightInternal = (Internal) right;
+            internal.keys[internal.count] = parent.keys[childIndex];
+            internal.children[internal.count + 1] = rightInternal.children[0];
+            parent.keys[childIndex] = rightInternal.keys[0];
+            shiftLeft(rightInternal);
+        }
+        child.count++;
+        right.count--;
+    }
+
+    // moves everything of right into left and drops the separator at keyIndex from the parent
+    private void merge(Internal parent, int keyIndex, Node left, Node right) {
+        if (left instanceof Leaf) {
+            Leaf leftLeaf = (Leaf) left;
+            Leaf rightLeaf = (Leaf) right;
+            System.arraycopy(rightLeaf.keys, 0, leftLeaf.keys, leftLeaf.count, rightLeaf.count);
+            System.arraycopy(rightLeaf.values, 0, leftLeaf.values, leftLeaf.count, rightLeaf.count);
+            leftLeaf.count += rightLeaf.count;
+            leftLeaf.next = rightLeaf.next;
+            if (rightLeaf.next != null) {
+                rightLeaf.next.prev = leftLeaf;
+            }
+        } else {
+            Internal leftInternal = (Internal) left;
+            Internal rightInternal = (Internal) right;
+            leftInternal.keys[leftInternal.count] = parent.keys[keyIndex];
+            System.arraycopy(rightInternal.keys, 0, leftInternal.keys, leftInternal.count + 1, rightInternal.count);
+            System.arraycopy(rightInternal.children, 0, leftInternal.children, leftInternal.count + 1, rightInternal.count + 1);
+            leftInternal.count += rightInternal.count + 1;
+        }
+        System.arraycopy(parent.keys, keyIndex + 1, parent.keys, keyIndex, parent.count - keyIndex - 1);
+        System.arraycopy(parent.children, keyIndex + 2, parent.children, keyIndex + 1, parent.count - keyIndex - 1);
+        parent.count--;
+        parent.keys[parent.count] = null;
+        parent.children[parent.count + 1] = null;
+    }
+
+    // opens cell 0 of a node for a borrowed key
+    private void shiftRight(Node node) {
+        System.arraycopy(node.keys, 0, node.keys, 1, node.count);
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            System.arraycopy(leaf.values, 0, leaf.values, 1, leaf.count);
+        } else {
+            Internal internal = (Internal) node;
+            System.arraycopy(internal.children, 0, internal.children, 1, internal.count + 1);
+        }
+    }
+
+    // drops cell 0 of a node after its key was lent, count is updated by the caller
+    private void shiftLeft(Node node) {
+        System.arraycopy(node.keys, 1, node.keys, 0, node.count - 1);
+        node.keys[node.count - 1] = null;
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            System.arraycopy(leaf.values, 1, leaf.values, 0, leaf.count - 1);
+            leaf.values[leaf.count - 1] = null;
+        } else {
+            Internal internal = (Internal) node;
+            System.arraycopy(internal.children, 1, internal.children, 0, internal.count);
+            internal.children[internal.count] = null;
+        }
+    }
+
+    private static void clear(Object[] array, int from, int to) {
+        for (int i = from; i < to; i++) {
+            array[i] = null;
+        }
+    }
+
+    private abstract class Node {
+        // one spare cell, a node splits after it overflows
+        final Object[] keys = new Object[nodeCapacity + 1];
+        int count;
+
+        @SuppressWarnings("unchecked")
+        K key(int index) {
+            return (K) keys[index];
+        }
+    }
+
+    private class Leaf extends Node {
+        private final Object[] values = new Object[nodeCapacity + 1];
+        private Leaf next;
+        private Leaf prev;
+
+        @SuppressWarnings("unchecked")
+        private V value(int index) {
+            return (V) values[index];
+        }
+    }
+
+    private class Internal extends Node {
+        @SuppressWarnings("unchecked")
+        private final Node[] children = (Node[]) new BTreeMap<?, ?>.Node[nodeCapacity + 2];
+    }
+
+    // walks the leaf chain from fromKey up to toKey, null bounds mean the whole map
+    // after remove() the position is looked up again, the removal may have merged leaves
+    // next() allocates an Entry per key, callers may keep entries, so one entry is not reused:
+    // cursor() and forEach read the leaves directly and are the allocation-free way to scan
+    private class BTreeMapIterator implements Iterator<Map.Entry<K, V>> {
+        private final K toKey;
+        private boolean nullKeyPending;
+        private Leaf leaf;
+        private int index;
+        private boolean end;
+        private K lastReturnedKey;
+        private boolean remove;
+
+        private BTreeMapIterator(K fromKey, K toKey, boolean includeNullKey) {
+            this.toKey = toKey;
+            this.nullKeyPending = includeNullKey && hasNullKey;
+            if (fromKey == null) {
+                leaf = firstLeaf();
+            } else {
+                seek(fromKey, true);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (end) {
+                return false;
+            }
+            if (nullKeyPending && hasNullKey) {
+                return true;
+            }
+            nullKeyPending = false;
+            while (leaf != null && index >= leaf.count) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            if (leaf == null || (toKey != null && compare(leaf.key(index), toKey) >= 0)) {
+                end = true;
+            }
+            return !end;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            remove = true;
+            if (nullKeyPending) {
+                nullKeyPending = false;
+                lastReturnedKey = null;
+                return new Entry(null, nullValue);
+            }
+            lastReturnedKey = leaf.key(index);
+            return new Entry(lastReturnedKey, leaf.value(index++));
+        }
+
+        @Override
+        public void remove() {
+            if (!remove) {
+                throw new IllegalStateException("Method next() has not called before remove");
+            }
+            remove = false;
+            BTreeMap.this.remove(lastReturnedKey);
+            if (lastReturnedKey == null) {
+                leaf = firstLeaf();
+                index = 0;
+            } else {
+                seek(lastReturnedKey, false);
+            }
+        }
+
+        private void seek(K key, boolean inclusive) {
+            leaf = findLeaf(key);
+            int found = search(leaf, key);
+            index = found >= 0 ? (inclusive ? found : found + 1) : -found - 1;
+        }
+    }
+
+    // the same walk as BTreeMapIterator, but key() and value() read the leaf cell of the current entry
+    // and setValue writes into it, so nothing is allocated per entry
+    private class BTreeMapCursor implements MapCursor<K, V> {
+        private final K fromKey;
+        private final K toKey;
+        private final boolean includeNullKey;
+        private boolean nullKeyPending;
+        // the next cell to visit
+        private Leaf leaf;
+        private int index;
+        // the current entry, currentLeaf is null while it is the null key
+        private boolean current;
+        private Leaf currentLeaf;
+        private int currentIndex;
+
+        private BTreeMapCursor(K fromKey, K toKey, boolean includeNullKey) {
+            this.fromKey = fromKey;
+            this.toKey = toKey;
+            this.includeNullKey = includeNullKey;
+            reset();
+        }
+
+        @Override
+        public boolean advance() {
+            current = false;
+            if (nullKeyPending) {
+                nullKeyPending = false;
+                if (hasNullKey) {
+                    current = true;
+                    currentLeaf = null;
+                    return true;
+                }
+            }
+            while (leaf != null && index >= leaf.count) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            if (leaf == null || (toKey != null && compare(leaf.key(index), toKey) >= 0)) {
+                leaf = null;
+                return false;
+            }
+            current = true;
+            currentLeaf = leaf;
+            currentIndex = index++;
+            return true;
+        }
+
+        @Override
+        public K key() {
+            validateCurrent();
+            return currentLeaf == null ? null : currentLeaf.key(currentIndex);
+        }
+
+        @Override
+        public V value() {
+            validateCurrent();
+            return currentLeaf == null ? nullValue : currentLeaf.value(currentIndex);
+        }
+
+        @Override
+        public void setValue(V value) {
+            validateCurrent();
+            if (currentLeaf == null) {
+                nullValue = value;
+            } else {
+                currentLeaf.values[currentIndex] = value;
+            }
+        }
+
+        // the removal may merge leaves, so the next cell is looked up again by the removed key
+        @Override
+        public void remove() {
+            K key = key();
+            current = false;
+            BTreeMap.this.remove(key);
+            if (currentLeaf != null) {
+                seek(key, false);
+            }
+        }
+
+        @Override
+        public void reset() {
+            nullKeyPending = includeNullKey;
+            current = false;
+            if (fromKey == null) {
+                leaf = firstLeaf();
+                index = 0;
+            } else {
+                seek(fromKey, true);
+            }
+        }
+
+        private void seek(K key, boolean inclusive) {
+            leaf = findLeaf(key);
+            int found = search(leaf, key);
+            index = found >= 0 ? (inclusive ? found : found + 1) : -found - 1;
+        }
+
+        private void validateCurrent() {
+            if (!current) {
+                throw new IllegalStateException("Method advance() has not returned true before");
+            }
+        }
+    }
+
+    // a copy of the key and value, setValue writes the new value through to the map
+    private class Entry implements Map.Entry<K, V> {
+        private final K key;
+        private V value;
+
+        private Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public void setValue(V value) {
+            put(key, value);
+            this.value = value;
+        }
+    }
+
+    private class SubMap implements SortedMap<K, V> {
+        private final K fromKey;
+        private final K toKey;
+
+        private SubMap(K fromKey, K toKey) {
+            this.fromKey = fromKey;
+            this.toKey = toKey;
+        }
+
+        @Override
+        public V put(K key, V value) {
+            if (!inRange(key)) {
+                throw new IllegalArgumentException("Key " + key + " is out of [" + fromKey + "," + toKey + ")");
+            }
+            return BTreeMap.this.put(key, value);
+        }
+
+        @Override
+        public V remove(K key) {
+            return inRange(key) ? BTreeMap.this.remove(key) : null;
+        }
+
+        @Override
+        public V get(K key) {
+            return inRange(key) ? BTreeMap.this.get(key) : null;
+        }
+
+        @Override
+        public boolean containsKey(K key) {
+            return inRange(key) && BTreeMap.this.containsKey(key);
+        }
+
+        // counts the keys of the range, O(log n + range size)
+        @Override
+        public int size() {
+            int size = 0;
+            Leaf leaf = findLeaf(fromKey);
+            int index = search(leaf, fromKey);
+            index = index >= 0 ? index : -index - 1;
+            for (; leaf != null; leaf = leaf.next, index = 0) {
+                for (; index < leaf.count; index++) {
+                    if (compare(leaf.key(index), toKey) >= 0) {
+                        return size;
+                    }
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return inRangeOrNull(higherOrCeiling(fromKey, true)) == null;
+        }
+
+        @Override
+        public K firstKey() {
+            K key = higherOrCeiling(fromKey, true);
+            if (key == null || !inRange(key)) {
+                throw new NoSuchElementException("Map is empty");
+            }
+            return key;
+        }
+
+        @Override
+        public K lastKey() {
+            K key = lowerOrFloor(toKey, false);
+            if (key == null || !inRange(key)) {
+                throw new NoSuchElementException("Map is empty");
+            }
+            return key;
+        }
+
+        @Override
+        public K floorKey(K key) {
+            if (key == null) {
+                return null;
+            }
+            return compare(key, toKey) >= 0
+                    ? inRangeOrNull(lowerOrFloor(toKey, false))
+                    : inRangeOrNull(lowerOrFloor(key, true));
+        }
+
+        @Override
+        public K ceilingKey(K key) {
+            return inRangeOrNull(higherOrCeiling(max(key), true));
+        }
+
+        @Override
+        public K lowerKey(K key) {
+            return key == null ? null : inRangeOrNull(lowerOrFloor(min(key), false));
+        }
+
+        @Override
+        public K higherKey(K key) {
+            return key == null || compare(key, fromKey) < 0
+                    ? inRangeOrNull(higherOrCeiling(fromKey, true))
+                    : inRangeOrNull(higherOrCeiling(key, false));
+        }
+
+        @Override
+        public SortedMap<K, V> subMap(K fromKey, K toKey) {
+            if (compare(fromKey, this.fromKey) < 0 || compare(toKey, this.toKey) > 0) {
+                throw new IllegalArgumentException("Range [" + fromKey + "," + toKey + ") is out of [" + this.fromKey + "," + this.toKey + ")");
+            }
+            return BTreeMap.this.subMap(fromKey, toKey);
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super K, ? super V> action) {
+            Leaf leaf = findLeaf(fromKey);
+            int index = search(leaf, fromKey);
+            index = index >= 0 ? index : -index - 1;
+            for (; leaf != null; leaf = leaf.next, index = 0) {
+                for (; index < leaf.count; index++) {
+                    K key = leaf.key(index);
+                    if (compare(key, toKey) >= 0) {
+                        return;
+                    }
+                    action.accept(key, leaf.value(index));
+                }
+            }
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new BTreeMapIterator(fromKey, toKey, false);
+        }
+
+        @Override
+        public MapCursor<K, V> cursor() {
+            return new BTreeMapCursor(fromKey, toKey, false);
+        }
+
+        @Override
+        public Spliterator<Map.Entry<K, V>> spliterator() {
+            return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.DISTINCT);
+        }
+
+        private boolean inRange(K key) {
+            return key != null && compare(key, fromKey) >= 0 && compare(key, toKey) < 0;
+        }
+
+        private K inRangeOrNull(K key) {
+            return key != null && inRange(key) ? key : null;
+        }
+
+        // a key beyond the range is replaced by the range bound, so the answer can not leave the range
+        private K min(K key) {
+            return compare(key, toKey) >= 0 ? toKey : key;
+        }
+
+        private K max(K key) {
+            return key == null || compare(key, fromKey) < 0 ? fromKey : key;
+        }
+    }
+}
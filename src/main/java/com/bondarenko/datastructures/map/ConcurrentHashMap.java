@@ -0,0 +1,502 @@
+package com.bondarenko.datastructures.map;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.LongAdder;
+
+// thread-safe hash map in the style of java.util.concurrent.ConcurrentHashMap
+// get never locks: bins are read with volatile semantics and nodes are never mutated in a way a reader could trip over
+// put/remove lock only the first node of their bin
+// a resize hands out ranges of bins to every thread that runs into it, moved bins are marked with a ForwardingNode
+public class ConcurrentHashMap<K, V> implements Map<K, V> {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int MIN_TRANSFER_STRIDE = 16;
+    private static final int RESIZE_STAMP_BITS = 16;
+    private static final int RESIZE_STAMP_SHIFT = 32 - RESIZE_STAMP_BITS;
+    private static final int MAX_RESIZERS = (1 << (32 - RESIZE_STAMP_BITS)) - 1;
+    private static final int MOVED = -1;
+    private static final int HASH_BITS = 0x7fffffff;
+    private static final int NCPU = Runtime.getRuntime().availableProcessors();
+    private static final Object NULL_KEY = new Object();
+    private static final Object NULL_VALUE = new Object();
+
+    private static final VarHandle BIN = MethodHandles.arrayElementVarHandle(Node[].class);
+    private static final VarHandle SIZE_CTL;
+    private static final VarHandle TRANSFER_INDEX;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            SIZE_CTL = lookup.findVarHandle(ConcurrentHashMap.class, "sizeCtl", int.class);
+            TRANSFER_INDEX = lookup.findVarHandle(ConcurrentHashMap.class, "transferIndex", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node[] table;
+    private volatile Node[] nextTable;
+    // the resize threshold, or (resize stamp << RESIZE_STAMP_SHIFT) + 1 + number of resizing threads while a resize runs
+    private volatile int sizeCtl;
+    // bins [0, transferIndex) of the old table are still waiting for a thread to move them
+    private volatile int transferIndex;
+    private final LongAdder count = new LongAdder();
+
+    public ConcurrentHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public ConcurrentHashMap(int capacity) {
+        int length = tableSizeFor(capacity);
+        table = new Node[length];
+        sizeCtl = length - (length >>> 2);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Object maskedKey = maskNull(key);
+        Object maskedValue = value == null ? NULL_VALUE : value;
+        int hash = spread(maskedKey.hashCode());
+        Node[] tab = table;
+        while (true) {
+            int index = (tab.length - 1) & hash;
+            Node first = binAt(tab, index);
+            if (first == null) {
+                if (BIN.compareAndSet(tab, index, null, new Node(hash, maskedKey, maskedValue, null))) {
+                    break;
+                }
+            } else if (first.hash == MOVED) {
+                tab = helpTransfer(tab, (ForwardingNode) first);
+            } else {
+                Object oldValue = null;
+                boolean locked = false;
+                synchronized (first) {
+                    if (binAt(tab, index) == first) {
+                        locked = true;
+                        Node node = first;
+                        while (true) {
+                            if (node.hash == hash && (node.key == maskedKey || maskedKey.equals(node.key))) {
+                                oldValue = node.value;
+                                node.value = maskedValue;
+                                break;
+                            }
+                            Node previous = node;
+                            if ((node = node.next) == null) {
+                                previous.next = new Node(hash, maskedKey, maskedValue, null);
+                                break;
+                            }
+                        }
+                    }
+                }
+                if (locked) {
+                    if (oldValue != null) {
+                        return unmaskValue(oldValue);
+                    }
+                    break;
+                }
+            }
+        }
+        addCount(1);
+        return null;
+    }
+
+    @Override
+    public V remove(K key) {
+        Object maskedKey = maskNull(key);
+        int hash = spread(maskedKey.hashCode());
+        Node[] tab = table;
+        while (true) {
+            int index = (tab.length - 1) & hash;
+            Node first = binAt(tab, index);
+            if (first == null) {
+                return null;
+            } else if (first.hash == MOVED) {
+                tab = helpTransfer(tab, (ForwardingNode) first);
+            } else {
+                Object oldValue = null;
+                boolean locked = false;
+                synchronized (first) {
+                    if (binAt(tab, index) == first) {
+                        locked = true;
+                        for (Node node = first, previous = null; node != null; previous = node, node = node.next) {
+                            if (node.hash == hash && (node.key == maskedKey || maskedKey.equals(node.key))) {
+                                oldValue = node.value;
+                                // a null value tells iterators standing on this node that it is gone
+                                node.value = null;
+                                if (previous == null) {
+                                    BIN.setVolatile(tab, index, node.next);
+                                } else {
+                                    previous.next = node.next;
+                                }
+                                break;
+                            }
+                        }
+                    }
+                }
+                if (locked) {
+                    if (oldValue == null) {
+                        return null;
+                    }
+                    addCount(-1);
+                    return unmaskValue(oldValue);
+                }
+            }
+        }
+    }
+
+    @Override
+    public V get(K key) {
+        Object value = findValue(maskNull(key));
+        return value == null ? null : unmaskValue(value);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findValue(maskNull(key)) != null;
+    }
+
+    // the value is an estimate while other threads are still updating the map
+    @Override
+    public int size() {
+        long sum = count.sum();
+        return sum < 0 ? 0 : sum > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) sum;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count.sum() <= 0;
+    }
+
+    int getCapacity() {
+        return table.length;
+    }
+
+    private Object findValue(Object maskedKey) {
+        int hash = spread(maskedKey.hashCode());
+        Node[] tab = table;
+        Node node = binAt(tab, (tab.length - 1) & hash);
+        while (node != null) {
+            if (node.hash == MOVED) {
+                tab = ((ForwardingNode) node).nextTable;
+                node = binAt(tab, (tab.length - 1) & hash);
+            } else {
+                if (node.hash == hash && (node.key == maskedKey || maskedKey.equals(node.key))) {
+                    return node.value;
+                }
+                node = node.next;
+            }
+        }
+        return null;
+    }
+
+    private void addCount(int delta) {
+        count.add(delta);
+        if (delta <= 0) {
+            return;
+        }
+        long sum = count.sum();
+        Node[] tab;
+        int sc;
+        while (sum >= (sc = sizeCtl) && (tab = table).length < MAXIMUM_CAPACITY) {
+            int stamp = resizeStamp(tab.length) << RESIZE_STAMP_SHIFT;
+            if (sc < 0) {
+                Node[] nextTab = nextTable;
+                if (sc == stamp + MAX_RESIZERS || sc == stamp + 1 || nextTab == null || transferIndex <= 0) {
+                    break;
+                }
+                if (SIZE_CTL.compareAndSet(this, sc, sc + 1)) {
+                    transfer(tab, nextTab);
+                }
+            } else if (SIZE_CTL.compareAndSet(this, sc, stamp + 2)) {
+                transfer(tab, null);
+            }
+            sum = count.sum();
+        }
+    }
+
+    private Node[] helpTransfer(Node[] tab, ForwardingNode forwardingNode) {
+        Node[] nextTab = forwardingNode.nextTable;
+        int stamp = resizeStamp(tab.length) << RESIZE_STAMP_SHIFT;
+        int sc;
+        while (nextTab == nextTable && table == tab && (sc = sizeCtl) < 0) {
+            if (sc == stamp + MAX_RESIZERS || sc == stamp + 1 || transferIndex <= 0) {
+                break;
+            }
+            if (SIZE_CTL.compareAndSet(this, sc, sc + 1)) {
+                transfer(tab, nextTab);
+                break;
+            }
+        }
+        return nextTab;
+    }
+
+    // moves bins from tab to nextTab, several threads may run it at once, each claiming its own range of bins
+    private void transfer(Node[] tab, Node[] nextTab) {
+        int length = tab.length;
+        int stride = NCPU > 1 ? (length >>> 3) / NCPU : length;
+        if (stride < MIN_TRANSFER_STRIDE) {
+            stride = MIN_TRANSFER_STRIDE;
+        }
+        if (nextTab == null) {
+            nextTab = new Node[length << 1];
+            nextTable = nextTab;
+            transferIndex = length;
+        }
+        ForwardingNode forwardingNode = new ForwardingNode(nextTab);
+        boolean advance = true;
+        boolean finishing = false;
+        int index = 0;
+        int bound = 0;
+        while (true) {
+            while (advance) {
+                int nextIndex;
+                if (--index >= bound || finishing) {
+                    advance = false;
+                } else if ((nextIndex = transferIndex) <= 0) {
+                    index = -1;
+                    advance = false;
+                } else {
+                    int nextBound = nextIndex > stride ? nextIndex - stride : 0;
+                    if (TRANSFER_INDEX.compareAndSet(this, nextIndex, nextBound)) {
+                        bound = nextBound;
+                        index = nextIndex - 1;
+                        advance = false;
+                    }
+                }
+            }
+            if (index < 0) {
+                if (finishing) {
+                    nextTable = null;
+                    table = nextTab;
+                    sizeCtl = (length << 1) - (length >>> 1);
+                    return;
+                }
+                int sc = sizeCtl;
+                if (SIZE_CTL.compareAndSet(this, sc, sc - 1)) {
+                    if (sc - 2 != resizeStamp(length) << RESIZE_STAMP_SHIFT) {
+                        return;
+                    }
+                    // the last thread out sweeps the whole table once more before publishing nextTab
+                    finishing = true;
+                    advance = true;
+                    index = length;
+                }
+                continue;
+            }
+            Node first = binAt(tab, index);
+            if (first == null) {
+                advance = BIN.compareAndSet(tab, index, null, forwardingNode);
+            } else if (first.hash == MOVED) {
+                advance = true;
+            } else {
+                synchronized (first) {
+                    if (binAt(tab, index) == first) {
+                        Node low = null;
+                        Node high = null;
+                        for (Node node = first; node != null; node = node.next) {
+                            if ((node.hash & length) == 0) {
+                                low = new Node(node.hash, node.key, node.value, low);
+                            } else {
+                                high = new Node(node.hash, node.key, node.value, high);
+                            }
+                        }
+                        BIN.setVolatile(nextTab, index, low);
+                        BIN.setVolatile(nextTab, index + length, high);
+                        BIN.setVolatile(tab, index, forwardingNode);
+                        advance = true;
+                    }
+                }
+            }
+        }
+    }
+
+    private static Node binAt(Node[] tab, int index) {
+        return (Node) BIN.getVolatile(tab, index);
+    }
+
+    private static int resizeStamp(int length) {
+        return Integer.numberOfLeadingZeros(length) | (1 << (RESIZE_STAMP_BITS - 1));
+    }
+
+    private static int spread(int hashCode) {
+        return (hashCode ^ (hashCode >>> 16)) & HASH_BITS;
+    }
+
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V unmaskValue(Object value) {
+        return value == NULL_VALUE ? null : (V) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K unmaskKey(Object key) {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity <= 2) {
+            return 2;
+        }
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    // weakly consistent: never throws ConcurrentModificationException,
+    // skips entries removed before they are reached and may or may not see entries added meanwhile
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new ConcurrentHashMapIterator();
+    }
+
+    // size() is only a snapshot while other threads write, so the spliterator does not report SIZED
+    @Override
+    public Spliterator<Map.Entry<K, V>> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.DISTINCT | Spliterator.CONCURRENT);
+    }
+
+    private class ConcurrentHashMapIterator implements Iterator<Map.Entry<K, V>> {
+        private final Node[] baseTable = table;
+        private int baseIndex;
+        // bins of newer tables still to visit, pushed when a ForwardingNode is met
+        private Node[][] pendingTables = new Node[4][];
+        private int[] pendingIndexes = new int[4];
+        private int pending;
+        private Node next;
+        private Object nextValue;
+        private Object lastReturnedKey = NULL_VALUE;
+
+        @Override
+        public boolean hasNext() {
+            while (true) {
+                while (next != null) {
+                    Object value = next.value;
+                    if (value != null) {
+                        nextValue = value;
+                        return true;
+                    }
+                    next = next.next;
+                }
+                next = nextBin();
+                if (next == null) {
+                    return false;
+                }
+            }
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            Node node = next;
+            next = node.next;
+            lastReturnedKey = node.key;
+            return new Entry(unmaskKey(node.key), unmaskValue(nextValue));
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturnedKey == NULL_VALUE) {
+                throw new IllegalStateException("Method next() has not called before remove");
+            }
+            ConcurrentHashMap.this.remove(unmaskKey(lastReturnedKey));
+            lastReturnedKey = NULL_VALUE;
+        }
+
+        private Node nextBin() {
+            while (true) {
+                Node[] tab;
+                int index;
+                if (pending > 0) {
+                    pending--;
+                    tab = pendingTables[pending];
+                    index = pendingIndexes[pending];
+                } else if (baseIndex < baseTable.length) {
+                    tab = baseTable;
+                    index = baseIndex++;
+                } else {
+                    return null;
+                }
+                Node bin = binAt(tab, index);
+                if (bin instanceof ForwardingNode) {
+                    Node[] nextTab = ((ForwardingNode) bin).nextTable;
+                    push(nextTab, index + tab.length);
+                    push(nextTab, index);
+                } else if (bin != null) {
+                    return bin;
+                }
+            }
+        }
+
+        private void push(Node[] tab, int index) {
+            if (pending == pendingIndexes.length) {
+                pendingTables = Arrays.copyOf(pendingTables, pending * 2);
+                pendingIndexes = Arrays.copyOf(pendingIndexes, pending * 2);
+            }
+            pendingTables[pending] = tab;
+            pendingIndexes[pending] = index;
+            pending++;
+        }
+    }
+
+    // a detached copy, setValue writes through with put
+    private class Entry implements Map.Entry<K, V> {
+        private final K key;
+        private V value;
+
+        private Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public void setValue(V value) {
+            this.value = value;
+            put(key, value);
+        }
+    }
+
+    private static class Node {
+        private final int hash;
+        private final Object key;
+        private volatile Object value;
+        private volatile Node next;
+
+        private Node(int hash, Object key, Object value, Node next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    private static class ForwardingNode extends Node {
+        private final Node[] nextTable;
+
+        private ForwardingNode(Node[] nextTable) {
+            super(MOVED, null, null, null);
+            this.nextTable = nextTable;
+        }
+    }
+}
@@ -1,59 +1,114 @@
 package com.bondarenko.datastructures.map;
 
+import com.bondarenko.datastructures.GrowthPolicy;
+
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 public class HashMap<K, V> implements Map<K, V> {
     private static final double GROWTH_FACTOR = 2.5;
     private static final double LOAD_FACTOR = 0.75;
     private static final int DEFAULT_INITIAL_CAPACITY = 5;
-    private ArrayList<Entry<K, V>>[] buckets;
+    private static final int MIGRATED_BUCKETS_PER_STEP = 2;
+    private static final int EMPTY_BUCKET_VISITS_PER_STEP = 20;
+    // a bucket of this many entries becomes a TreeBucket, it turns back into a list at UNTREEIFY_THRESHOLD,
+    // small tables grow instead, growing spreads the keys unless their hash codes are equal
+    private static final int TREEIFY_THRESHOLD = 8;
+    private static final int UNTREEIFY_THRESHOLD = 6;
+    private static final int MIN_TREEIFY_CAPACITY = 64;
+    private Collection<Entry<K, V>>[] buckets;
     private int size;
 
-    private double growFactor;
+    // incremental resize: while not null, entries of oldBuckets[rehashIndex..] still wait to be moved to buckets
+    private Collection<Entry<K, V>>[] oldBuckets;
+    private int rehashIndex;
+
+    private GrowthPolicy growthPolicy;
     private double loadFactor;
+    private boolean incrementalResize;
+    // removals shrink the table by growthPolicy, but never below the initial capacity
+    private int minimumCapacity;
+    // null unless enableStats() was called, the hot paths pay one null check for it
+    private MapStats stats;
 
-    @SuppressWarnings("unchecked")
     public HashMap(int capacity, double growFactor, double loadFactor) {
-        this.growFactor = growFactor;
+        this(capacity, growFactor, loadFactor, false);
+    }
+
+    // with incrementalResize a growth does not rehash everything inside one put,
+    // every put/get/remove moves a few buckets until the old table is empty, as Redis dict does
+    public HashMap(int capacity, double growFactor, double loadFactor, boolean incrementalResize) {
+        this(capacity, GrowthPolicy.multiplicative(growFactor), loadFactor, incrementalResize);
+    }
+
+    @SuppressWarnings("unchecked")
+    public HashMap(int capacity, GrowthPolicy growthPolicy, double loadFactor, boolean incrementalResize) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
         this.loadFactor = loadFactor;
-        buckets = new ArrayList[capacity];
+        this.incrementalResize = incrementalResize;
+        this.minimumCapacity = capacity;
+        buckets = new Collection[capacity];
     }
 
     public HashMap() {
-        this(DEFAULT_INITIAL_CAPACITY, LOAD_FACTOR, GROWTH_FACTOR);
+        this(DEFAULT_INITIAL_CAPACITY, GROWTH_FACTOR, LOAD_FACTOR);
     }
 
     @Override
     public V put(K key, V value) {
+        rehashStep();
         Entry<K, V> oldEntry = getEntry(key);
         if (oldEntry != null) {
             V oldValue = oldEntry.getValue();
             oldEntry.setValue(value);
+            afterEntryAccess(oldEntry);
             return oldValue;
         } else if (size > buckets.length * loadFactor) {
             growCapacity();
         }
-        addEntryToBucket(new Entry<>(key, value));
+        addEntryToBucket(newEntry(key, value));
         size++;
+        afterEntryInsertion();
         return null;
     }
 
     @Override
     public V remove(K key) {
+        rehashStep();
         Entry<K, V> entry = removeEntry(key);
         if (entry == null) {
             return null;
         }
+        shrinkIfNeeded();
         return entry.getValue();
     }
 
+    // rehashes into the smallest table that holds size entries within the load factor
+    public void compact() {
+        completeRehash();
+        int capacity = Math.max(bucketsFor(size), 1);
+        if (capacity < buckets.length) {
+            resize(capacity);
+            completeRehash();
+        }
+    }
+
     @Override
     public V get(K key) {
+        rehashStep();
         Entry<K, V> entry = getEntry(key);
+        if (stats != null) {
+            stats.recordGet(entry != null);
+        }
         if (entry != null) {
+            afterEntryAccess(entry);
             return entry.getValue();
         } else {
             return null;
@@ -62,6 +117,7 @@ public class HashMap<K, V> implements Map<K, V> {
 
     @Override
     public boolean containsKey(K key) {
+        rehashStep();
         return getEntry(key) != null;
     }
 
@@ -75,26 +131,106 @@ public class HashMap<K, V> implements Map<K, V> {
         return size == 0;
     }
 
+    // counts gets and resizes from now on, returns the same stats until disableStats()
+    public MapStats enableStats() {
+        if (stats == null) {
+            stats = new MapStats(this);
+        }
+        return stats;
+    }
+
+    // also unregisters the stats from JMX
+    public void disableStats() {
+        if (stats != null) {
+            stats.unregister();
+            stats = null;
+        }
+    }
+
+    // null if stats are not enabled
+    public MapStats getStats() {
+        return stats;
+    }
+
+    Collection<Entry<K, V>>[] getBuckets() {
+        return buckets;
+    }
+
+    Collection<Entry<K, V>>[] getOldBuckets() {
+        return oldBuckets;
+    }
+
+    boolean isRehashing() {
+        return oldBuckets != null;
+    }
+
+    int getCapacity() {
+        return buckets.length;
+    }
+
+    boolean isTreeified(K key) {
+        completeRehash();
+        return buckets[getIndexOfBucket(key, buckets.length)] instanceof TreeBucket;
+    }
+
+    // hooks for LinkedHashMap, which keeps its own entries in a linked list as well
+    Entry<K, V> newEntry(K key, V value) {
+        return new Entry<>(key, value);
+    }
+
+    void afterEntryAccess(Entry<K, V> entry) {
+    }
+
+    void afterEntryInsertion() {
+    }
+
+    void afterEntryRemoval(Entry<K, V> entry) {
+    }
+
+    // a long chain in a table below MIN_TREEIFY_CAPACITY grows the table, as java.util.HashMap does,
+    // and removals do not shrink it below MIN_TREEIFY_CAPACITY afterwards, otherwise colliding keys
+    // would grow and shrink the table on every put and remove
     private void addEntryToBucket(Entry<K, V> entry) {
-        addEntryToBucket(entry, buckets);
+        Collection<Entry<K, V>> bucket = addEntryToBucket(entry, buckets);
+        if (bucket.size() >= TREEIFY_THRESHOLD && buckets.length < MIN_TREEIFY_CAPACITY) {
+            minimumCapacity = Math.max(minimumCapacity, MIN_TREEIFY_CAPACITY);
+            growCapacity();
+        }
     }
 
-    private void addEntryToBucket(Entry<K, V> entry, ArrayList<Entry<K, V>>[] newBuckets) {
+    private Collection<Entry<K, V>> addEntryToBucket(Entry<K, V> entry, Collection<Entry<K, V>>[] newBuckets) {
         K key = entry.getKey();
-        int indexOfBucket = getIndexOfBucket(key);
-        if (newBuckets[indexOfBucket] == null) {
-            newBuckets[indexOfBucket] = new ArrayList<>();
+        int indexOfBucket = getIndexOfBucket(key, newBuckets.length);
+        Collection<Entry<K, V>> bucket = newBuckets[indexOfBucket];
+        if (bucket == null) {
+            bucket = newBuckets[indexOfBucket] = new ArrayList<>();
         }
-        newBuckets[indexOfBucket].add(entry);
+        bucket.add(entry);
+        if (bucket.size() >= TREEIFY_THRESHOLD && newBuckets.length >= MIN_TREEIFY_CAPACITY
+                && !(bucket instanceof TreeBucket)) {
+            newBuckets[indexOfBucket] = new TreeBucket<>(bucket);
+        }
+        return newBuckets[indexOfBucket];
     }
 
     private Entry<K, V> getEntry(K key) {
-        int indexOfBucket = getIndexOfBucket(key);
-        if (buckets[indexOfBucket] == null) {
+        Entry<K, V> entry = getEntry(key, buckets);
+        if (entry == null && oldBuckets != null) {
+            return getEntry(key, oldBuckets);
+        }
+        return entry;
+    }
+
+    private Entry<K, V> getEntry(K key, Collection<Entry<K, V>>[] table) {
+        Collection<Entry<K, V>> bucket = table[getIndexOfBucket(key, table.length)];
+        if (bucket == null) {
             return null;
         }
-        Iterator<Entry<K, V>> iterator = buckets[indexOfBucket].iterator();
-        while (iterator().hasNext()) {
+        if (bucket instanceof TreeBucket) {
+            return ((TreeBucket<K, V>) bucket).find(key);
+        }
+        Iterator<Entry<K, V>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
             Entry<K, V> entry = iterator.next();
             if (Objects.equals(entry.getKey(), key)) {
                 return entry;
@@ -103,7 +239,7 @@ public class HashMap<K, V> implements Map<K, V> {
         return null;
     }
 
-    private int getIndexOfBucket(K key) {
+    private int getIndexOfBucket(K key, int length) {
         if (key == null) {
             return 0;
         }
@@ -111,85 +247,349 @@ public class HashMap<K, V> implements Map<K, V> {
         if (hashCode == Integer.MIN_VALUE) {
             return 0;
         }
-        return Math.abs(key.hashCode() % buckets.length);
+        return Math.abs(hashCode % length);
     }
 
     private Entry<K, V> removeEntry(K key) {
-        int indexOfBucket = getIndexOfBucket(key);
-        if (buckets[indexOfBucket] == null) {
+        Entry<K, V> entry = removeEntry(key, buckets);
+        if (entry == null && oldBuckets != null) {
+            return removeEntry(key, oldBuckets);
+        }
+        return entry;
+    }
+
+    private Entry<K, V> removeEntry(K key, Collection<Entry<K, V>>[] table) {
+        int indexOfBucket = getIndexOfBucket(key, table.length);
+        Collection<Entry<K, V>> bucket = table[indexOfBucket];
+        if (bucket == null) {
             return null;
         }
-        Iterator<Entry<K, V>> iterator = buckets[indexOfBucket].iterator();
-        while (iterator().hasNext()) {
+        if (bucket instanceof TreeBucket) {
+            Entry<K, V> entry = ((TreeBucket<K, V>) bucket).removeKey(key);
+            if (entry != null) {
+                if (bucket.size() <= UNTREEIFY_THRESHOLD) {
+                    table[indexOfBucket] = new ArrayList<>(bucket);
+                }
+                size--;
+                afterEntryRemoval(entry);
+            }
+            return entry;
+        }
+        Iterator<Entry<K, V>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
             Entry<K, V> entry = iterator.next();
             if (Objects.equals(entry.getKey(), key)) {
                 iterator.remove();
                 size--;
+                afterEntryRemoval(entry);
                 return entry;
             }
         }
         return null;
     }
 
-    @SuppressWarnings("unchecked")
     private void growCapacity() {
-        ArrayList<Entry<K, V>>[] newBuckets = new ArrayList[(int) (buckets.length * growFactor)];
-        for (ArrayList<Entry<K, V>> newBucket : newBuckets) {
-            if (newBucket != null) {
-                for (Entry<K, V> entry : newBucket) {
+        resize(Math.max(growthPolicy.grow(buckets.length, buckets.length + 1), buckets.length + 1));
+    }
+
+    // not while a rehash is running, a later remove checks again
+    private void shrinkIfNeeded() {
+        if (oldBuckets != null) {
+            return;
+        }
+        int capacity = Math.max(growthPolicy.shrink(buckets.length, bucketsFor(size)), minimumCapacity);
+        if (capacity < buckets.length) {
+            resize(Math.max(capacity, 1));
+        }
+    }
+
+    private int bucketsFor(int size) {
+        return (int) Math.ceil(size / loadFactor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        completeRehash();
+        long start = stats == null ? 0 : System.nanoTime();
+        Collection<Entry<K, V>>[] newBuckets = new Collection[capacity];
+        if (incrementalResize) {
+            oldBuckets = buckets;
+            rehashIndex = 0;
+            buckets = newBuckets;
+            if (stats != null) {
+                stats.recordResize(System.nanoTime() - start);
+            }
+            rehashStep();
+            return;
+        }
+        for (Collection<Entry<K, V>> bucket : buckets) {
+            if (bucket != null) {
+                for (Entry<K, V> entry : bucket) {
                     addEntryToBucket(entry, newBuckets);
                 }
             }
         }
         buckets = newBuckets;
+        if (stats != null) {
+            stats.recordResize(System.nanoTime() - start);
+        }
+    }
+
+    // moves a bounded number of buckets, so a single operation never pays for the whole rehash
+    private void rehashStep() {
+        if (oldBuckets == null) {
+            return;
+        }
+        long start = stats == null ? 0 : System.nanoTime();
+        int migrated = 0;
+        int emptyVisits = 0;
+        while (rehashIndex < oldBuckets.length && migrated < MIGRATED_BUCKETS_PER_STEP
+                && emptyVisits < EMPTY_BUCKET_VISITS_PER_STEP) {
+            Collection<Entry<K, V>> bucket = oldBuckets[rehashIndex];
+            oldBuckets[rehashIndex++] = null;
+            if (bucket == null || bucket.isEmpty()) {
+                emptyVisits++;
+                continue;
+            }
+            for (Entry<K, V> entry : bucket) {
+                addEntryToBucket(entry, buckets);
+            }
+            migrated++;
+        }
+        if (rehashIndex == oldBuckets.length) {
+            oldBuckets = null;
+            rehashIndex = 0;
+        }
+        if (stats != null) {
+            stats.recordRehashStep(System.nanoTime() - start);
+        }
+    }
+
+    private void completeRehash() {
+        while (oldBuckets != null) {
+            rehashStep();
+        }
     }
 
     @Override
     public Iterator<Map.Entry<K, V>> iterator() {
+        // the iterator walks one table only, so a pending migration is finished first
+        completeRehash();
         return new HashMapIterator();
     }
 
-    private class HashMapIterator implements Iterator<Map.Entry<K, V>> {
+    @Override
+    public Spliterator<Map.Entry<K, V>> spliterator() {
+        completeRehash();
+        return new HashMapSpliterator(buckets, 0, buckets.length, size);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action);
+        forEachEntry(entry -> action.accept(entry.key, entry.value));
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        Objects.requireNonNull(function);
+        forEachEntry(entry -> entry.value = function.apply(entry.key, entry.value));
+    }
+
+    // one cursor walks the map any number of times after reset() without allocating per entry
+    @Override
+    public MapCursor<K, V> cursor() {
+        return new HashMapCursor();
+    }
+
+    // walks the bucket arrays by index, only a TreeBucket needs an iterator
+    private void forEachEntry(Consumer<Entry<K, V>> action) {
+        completeRehash();
+        for (Collection<Entry<K, V>> bucket : buckets) {
+            if (bucket instanceof TreeBucket) {
+                for (Entry<K, V> entry : bucket) {
+                    action.accept(entry);
+                }
+            } else if (bucket != null) {
+                ArrayList<Entry<K, V>> list = (ArrayList<Entry<K, V>>) bucket;
+                for (int i = 0; i < list.size(); i++) {
+                    action.accept(list.get(i));
+                }
+            }
+        }
+    }
+
+    private class HashMapCursor implements MapCursor<K, V> {
         private int bucketIndex;
-        private Iterator<Entry<K, V>> bucketIterator;
-        private boolean changeOfBucketIndexIndicator;
+        private int indexInBucket;
+        private Iterator<Entry<K, V>> treeIterator;
+        private Entry<K, V> current;
 
-        private HashMapIterator() {
-            while (buckets[bucketIndex] == null) {
+        private HashMapCursor() {
+            reset();
+        }
+
+        @Override
+        public boolean advance() {
+            while (bucketIndex < buckets.length) {
+                Collection<Entry<K, V>> bucket = buckets[bucketIndex];
+                if (bucket instanceof TreeBucket) {
+                    if (treeIterator == null) {
+                        treeIterator = bucket.iterator();
+                    }
+                    if (treeIterator.hasNext()) {
+                        current = treeIterator.next();
+                        return true;
+                    }
+                    treeIterator = null;
+                } else if (bucket != null && indexInBucket < bucket.size()) {
+                    current = ((ArrayList<Entry<K, V>>) bucket).get(indexInBucket++);
+                    return true;
+                }
                 bucketIndex++;
+                indexInBucket = 0;
             }
-            bucketIterator = buckets[bucketIndex].iterator();
+            current = null;
+            return false;
         }
 
         @Override
-        public boolean hasNext() {
-            if (bucketIndex >= buckets.length) {
-                return false;
+        public K key() {
+            return current().key;
+        }
+
+        @Override
+        public V value() {
+            return current().value;
+        }
+
+        @Override
+        public void setValue(V value) {
+            current().value = value;
+        }
+
+        @Override
+        public void remove() {
+            Entry<K, V> entry = current();
+            if (treeIterator != null) {
+                treeIterator.remove();
+            } else {
+                ((ArrayList<Entry<K, V>>) buckets[bucketIndex]).remove(--indexInBucket);
             }
-            while (buckets[bucketIndex] == null) {
-                bucketIndex++;
-                changeOfBucketIndexIndicator = true;
-                if (bucketIndex >= buckets.length) {
+            current = null;
+            size--;
+            afterEntryRemoval(entry);
+        }
+
+        @Override
+        public void reset() {
+            // like the iterator, the cursor walks one table only
+            completeRehash();
+            bucketIndex = 0;
+            indexInBucket = 0;
+            treeIterator = null;
+            current = null;
+        }
+
+        private Entry<K, V> current() {
+            if (current == null) {
+                throw new IllegalStateException("Method advance() has not returned true before");
+            }
+            return current;
+        }
+    }
+
+    // splits by halving the bucket range, the entry count of a part is only an estimate after a split
+    private class HashMapSpliterator implements Spliterator<Map.Entry<K, V>> {
+        private final Collection<Entry<K, V>>[] table;
+        private int bucketIndex;
+        private final int fence;
+        private int estimatedSize;
+        private boolean split;
+        private Iterator<Entry<K, V>> bucketIterator;
+
+        private HashMapSpliterator(Collection<Entry<K, V>>[] table, int origin, int fence, int estimatedSize) {
+            this.table = table;
+            this.bucketIndex = origin;
+            this.fence = fence;
+            this.estimatedSize = estimatedSize;
+        }
+
+        @Override
+        public Spliterator<Map.Entry<K, V>> trySplit() {
+            int middle = (bucketIndex + fence) >>> 1;
+            if (bucketIterator != null || bucketIndex >= middle) {
+                return null;
+            }
+            split = true;
+            estimatedSize >>>= 1;
+            HashMapSpliterator prefix = new HashMapSpliterator(table, bucketIndex, middle, estimatedSize);
+            prefix.split = true;
+            bucketIndex = middle;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Map.Entry<K, V>> action) {
+            Objects.requireNonNull(action);
+            while (bucketIterator == null || !bucketIterator.hasNext()) {
+                if (bucketIndex >= fence) {
+                    bucketIterator = null;
                     return false;
                 }
+                Collection<Entry<K, V>> bucket = table[bucketIndex++];
+                bucketIterator = bucket == null ? null : bucket.iterator();
             }
-            if (changeOfBucketIndexIndicator) {
-                bucketIterator = buckets[bucketIndex].iterator();
+            action.accept(bucketIterator.next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Map.Entry<K, V>> action) {
+            Objects.requireNonNull(action);
+            if (bucketIterator != null) {
+                bucketIterator.forEachRemaining(action);
+                bucketIterator = null;
             }
-            if (!bucketIterator.hasNext()) {
+            for (; bucketIndex < fence; bucketIndex++) {
+                Collection<Entry<K, V>> bucket = table[bucketIndex];
+                if (bucket != null) {
+                    for (Entry<K, V> entry : bucket) {
+                        action.accept(entry);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimatedSize;
+        }
+
+        @Override
+        public int characteristics() {
+            return split ? Spliterator.DISTINCT : Spliterator.DISTINCT | Spliterator.SIZED;
+        }
+    }
+
+    private class HashMapIterator implements Iterator<Map.Entry<K, V>> {
+        private int bucketIndex = -1;
+        private Iterator<Entry<K, V>> bucketIterator;
+        private Iterator<Entry<K, V>> lastReturnedIterator;
+
+        @Override
+        public boolean hasNext() {
+            while (bucketIterator == null || !bucketIterator.hasNext()) {
                 bucketIndex++;
                 if (bucketIndex >= buckets.length) {
+                    bucketIterator = null;
                     return false;
                 }
-                while ((buckets[bucketIndex] == null)) {
-                    bucketIndex++;
-                    if (bucketIndex >= buckets.length) {
-                        return false;
-                    }
+                if (buckets[bucketIndex] != null) {
+                    bucketIterator = buckets[bucketIndex].iterator();
                 }
-                bucketIterator = buckets[bucketIndex].iterator();
             }
-            return bucketIterator.hasNext();
+            return true;
         }
 
         @Override
@@ -197,26 +597,26 @@ public class HashMap<K, V> implements Map<K, V> {
             if (!hasNext()) {
                 throw new NoSuchElementException("Next element is not exist");
             }
-            changeOfBucketIndexIndicator = true;
+            lastReturnedIterator = bucketIterator;
             return bucketIterator.next();
         }
 
         @Override
         public void remove() {
-            if (!changeOfBucketIndexIndicator) {
+            if (lastReturnedIterator == null) {
                 throw new IllegalStateException("Method next() has not called before remove");
             }
-            changeOfBucketIndexIndicator = false;
-            bucketIterator.remove();
+            lastReturnedIterator.remove();
+            lastReturnedIterator = null;
             size--;
         }
     }
 
-    private static class Entry<K, V> implements Map.Entry<K, V> {
+    static class Entry<K, V> implements Map.Entry<K, V> {
         private K key;
         private V value;
 
-        private Entry(K key, V value) {
+        Entry(K key, V value) {
             this.key = key;
             this.value = value;
         }
@@ -0,0 +1,209 @@
+package com.bondarenko.datastructures.map;
+
+// linear probing over parallel int/Object arrays, 0 marks a free slot
+// the key 0 itself is kept aside in zeroValue, so no slot is ever wasted on a bitmap
+public class IntObjectHashMap<V> implements IntObjectMap<V> {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int FREE_KEY = 0;
+
+    private int[] keys;
+    private Object[] values;
+    private boolean hasZeroKey;
+    private V zeroValue;
+    private int size;
+    private int threshold;
+
+    private final double loadFactor;
+
+    public IntObjectHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public IntObjectHashMap(int capacity) {
+        this(capacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public IntObjectHashMap(int capacity, double loadFactor) {
+        this.loadFactor = loadFactor <= 0 || loadFactor >= 1 ? DEFAULT_LOAD_FACTOR : loadFactor;
+        allocate(tableSizeFor(capacity));
+    }
+
+    @Override
+    public V put(int key, V value) {
+        if (key == FREE_KEY) {
+            V oldValue = zeroValue;
+            zeroValue = value;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return oldValue;
+        }
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        int current;
+        while ((current = keys[index]) != FREE_KEY) {
+            if (current == key) {
+                V oldValue = valueAt(index);
+                values[index] = value;
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold) {
+            rehash(keys.length * 2);
+        }
+        return null;
+    }
+
+    @Override
+    public V remove(int key) {
+        if (key == FREE_KEY) {
+            V oldValue = zeroValue;
+            if (hasZeroKey) {
+                hasZeroKey = false;
+                zeroValue = null;
+                size--;
+            }
+            return oldValue;
+        }
+        int index = indexOf(key);
+        if (index == -1) {
+            return null;
+        }
+        V oldValue = valueAt(index);
+        shiftKeys(index);
+        size--;
+        return oldValue;
+    }
+
+    @Override
+    public V get(int key) {
+        if (key == FREE_KEY) {
+            return zeroValue;
+        }
+        int index = indexOf(key);
+        return index == -1 ? null : valueAt(index);
+    }
+
+    @Override
+    public boolean containsKey(int key) {
+        return key == FREE_KEY ? hasZeroKey : indexOf(key) != -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void forEach(IntObjectConsumer<? super V> consumer) {
+        if (hasZeroKey) {
+            consumer.accept(FREE_KEY, zeroValue);
+        }
+        int[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) {
+                consumer.accept(keys[i], valueAt(i));
+            }
+        }
+    }
+
+    int getCapacity() {
+        return keys.length;
+    }
+
+    private int indexOf(int key) {
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        int current;
+        while ((current = keys[index]) != FREE_KEY) {
+            if (current == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    // backward shift deletion: pulls the rest of the probe chain into the hole, so no tombstones are needed
+    private void shiftKeys(int index) {
+        int mask = keys.length - 1;
+        while (true) {
+            int last = index;
+            index = (index + 1) & mask;
+            int current;
+            while (true) {
+                if ((current = keys[index]) == FREE_KEY) {
+                    keys[last] = FREE_KEY;
+                    values[last] = null;
+                    return;
+                }
+                int slot = mix(current) & mask;
+                if (last <= index ? last >= slot || slot > index : last >= slot && slot > index) {
+                    break;
+                }
+                index = (index + 1) & mask;
+            }
+            keys[last] = current;
+            values[last] = values[index];
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        if (keys.length == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Map capacity can not exceed " + MAXIMUM_CAPACITY);
+        }
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int index = mix(key) & mask;
+                while (keys[index] != FREE_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V) values[index];
+    }
+
+    // sequential ids would fill neighbouring slots, so they are scattered with the golden ratio first
+    private static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity <= 2) {
+            return 2;
+        }
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
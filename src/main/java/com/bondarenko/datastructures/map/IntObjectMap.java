@@ -0,0 +1,25 @@
+package com.bondarenko.datastructures.map;
+
+// Map with primitive int keys, so put/get/containsKey never box the key
+public interface IntObjectMap<V> {
+
+    V put(int key, V value);
+
+    V remove(int key);
+
+    V get(int key);
+
+    boolean containsKey(int key);
+
+    int size();
+
+    boolean isEmpty();
+
+    // visits every pair without creating Map.Entry objects
+    void forEach(IntObjectConsumer<? super V> consumer);
+
+    @FunctionalInterface
+    interface IntObjectConsumer<V> {
+        void accept(int key, V value);
+    }
+}
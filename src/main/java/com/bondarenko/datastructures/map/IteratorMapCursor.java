@@ -0,0 +1,56 @@
+package com.bondarenko.datastructures.map;
+
+import java.util.Iterator;
+
+// MapCursor on top of the map's iterator, for maps that have no cursor of their own
+class IteratorMapCursor<K, V> implements MapCursor<K, V> {
+    private final Map<K, V> map;
+    private Iterator<Map.Entry<K, V>> iterator;
+    private Map.Entry<K, V> current;
+
+    IteratorMapCursor(Map<K, V> map) {
+        this.map = map;
+        this.iterator = map.iterator();
+    }
+
+    @Override
+    public boolean advance() {
+        current = iterator.hasNext() ? iterator.next() : null;
+        return current != null;
+    }
+
+    @Override
+    public K key() {
+        return current().getKey();
+    }
+
+    @Override
+    public V value() {
+        return current().getValue();
+    }
+
+    @Override
+    public void setValue(V value) {
+        current().setValue(value);
+    }
+
+    @Override
+    public void remove() {
+        current();
+        iterator.remove();
+        current = null;
+    }
+
+    @Override
+    public void reset() {
+        iterator = map.iterator();
+        current = null;
+    }
+
+    private Map.Entry<K, V> current() {
+        if (current == null) {
+            throw new IllegalStateException("Method advance() has not returned true before");
+        }
+        return current;
+    }
+}
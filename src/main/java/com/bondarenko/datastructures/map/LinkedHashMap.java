@@ -0,0 +1,161 @@
+package com.bondarenko.datastructures.map;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+// HashMap whose entries are also linked in insertion order, or in access order when accessOrder is set,
+// iteration follows the links, so it costs O(size) and does not change when the buckets grow
+public class LinkedHashMap<K, V> extends HashMap<K, V> {
+    private final boolean accessOrder;
+    private LinkedEntry<K, V> head;
+    private LinkedEntry<K, V> tail;
+
+    public LinkedHashMap() {
+        this.accessOrder = false;
+    }
+
+    public LinkedHashMap(int capacity, double growFactor, double loadFactor) {
+        this(capacity, growFactor, loadFactor, false);
+    }
+
+    // with accessOrder get() and put() of an existing key move the entry to the end
+    public LinkedHashMap(int capacity, double growFactor, double loadFactor, boolean accessOrder) {
+        super(capacity, growFactor, loadFactor);
+        this.accessOrder = accessOrder;
+    }
+
+    // called after every insertion with the first entry of the order,
+    // returning true removes it, e.g. to keep a bounded map
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return false;
+    }
+
+    @Override
+    Entry<K, V> newEntry(K key, V value) {
+        LinkedEntry<K, V> entry = new LinkedEntry<>(key, value);
+        linkLast(entry);
+        return entry;
+    }
+
+    @Override
+    void afterEntryAccess(Entry<K, V> entry) {
+        LinkedEntry<K, V> linkedEntry = (LinkedEntry<K, V>) entry;
+        if (accessOrder && linkedEntry != tail) {
+            unlink(linkedEntry);
+            linkLast(linkedEntry);
+        }
+    }
+
+    @Override
+    void afterEntryInsertion() {
+        if (head != null && removeEldestEntry(head)) {
+            remove(head.getKey());
+        }
+    }
+
+    @Override
+    void afterEntryRemoval(Entry<K, V> entry) {
+        unlink((LinkedEntry<K, V>) entry);
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new LinkedHashMapIterator();
+    }
+
+    @Override
+    public Spliterator<Map.Entry<K, V>> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.DISTINCT);
+    }
+
+    // the link order, not the bucket order of HashMap
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (LinkedEntry<K, V> entry = head; entry != null; entry = entry.after) {
+            action.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        for (LinkedEntry<K, V> entry = head; entry != null; entry = entry.after) {
+            entry.setValue(function.apply(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    @Override
+    public MapCursor<K, V> cursor() {
+        return new IteratorMapCursor<>(this);
+    }
+
+    private void linkLast(LinkedEntry<K, V> entry) {
+        entry.before = tail;
+        entry.after = null;
+        if (tail == null) {
+            head = entry;
+        } else {
+            tail.after = entry;
+        }
+        tail = entry;
+    }
+
+    // the entry keeps its after link, so an iterator standing on it can still move on
+    private void unlink(LinkedEntry<K, V> entry) {
+        if (entry.before == null) {
+            head = entry.after;
+        } else {
+            entry.before.after = entry.after;
+        }
+        if (entry.after == null) {
+            tail = entry.before;
+        } else {
+            entry.after.before = entry.before;
+        }
+    }
+
+    private class LinkedHashMapIterator implements Iterator<Map.Entry<K, V>> {
+        private LinkedEntry<K, V> current;
+        private boolean end;
+        private boolean remove;
+
+        @Override
+        public boolean hasNext() {
+            if (!end && (current == null ? head : current.after) == null) {
+                end = true;
+            }
+            return !end;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            current = current == null ? head : current.after;
+            remove = true;
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            if (!remove) {
+                throw new IllegalStateException("Method next() has not called before remove");
+            }
+            remove = false;
+            LinkedHashMap.this.remove(current.getKey());
+        }
+    }
+
+    private static class LinkedEntry<K, V> extends Entry<K, V> {
+        private LinkedEntry<K, V> before;
+        private LinkedEntry<K, V> after;
+
+        private LinkedEntry(K key, V value) {
+            super(key, value);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.bondarenko.datastructures.map;
+
+// linear probing over parallel long arrays, 0 marks a free slot
+// the key 0 itself is kept aside in zeroValue, so no slot is ever wasted on a bitmap
+public class LongLongHashMap implements LongLongMap {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final long FREE_KEY = 0;
+    private static final long NO_VALUE = 0;
+
+    private long[] keys;
+    private long[] values;
+    private boolean hasZeroKey;
+    private long zeroValue;
+    private int size;
+    private int threshold;
+
+    private final double loadFactor;
+
+    public LongLongHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public LongLongHashMap(int capacity) {
+        this(capacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public LongLongHashMap(int capacity, double loadFactor) {
+        this.loadFactor = loadFactor <= 0 || loadFactor >= 1 ? DEFAULT_LOAD_FACTOR : loadFactor;
+        allocate(tableSizeFor(capacity));
+    }
+
+    @Override
+    public long put(long key, long value) {
+        if (key == FREE_KEY) {
+            long oldValue = zeroValue;
+            zeroValue = value;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return oldValue;
+        }
+        int index = insertionIndexOf(key);
+        if (index < 0) {
+            index = -index - 1;
+            long oldValue = values[index];
+            values[index] = value;
+            return oldValue;
+        }
+        insertAt(index, key, value);
+        return NO_VALUE;
+    }
+
+    @Override
+    public long addTo(long key, long delta) {
+        if (key == FREE_KEY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return zeroValue += delta;
+        }
+        int index = insertionIndexOf(key);
+        if (index < 0) {
+            return values[-index - 1] += delta;
+        }
+        insertAt(index, key, delta);
+        return delta;
+    }
+
+    @Override
+    public long remove(long key) {
+        if (key == FREE_KEY) {
+            long oldValue = zeroValue;
+            if (hasZeroKey) {
+                hasZeroKey = false;
+                zeroValue = NO_VALUE;
+                size--;
+            }
+            return oldValue;
+        }
+        int index = indexOf(key);
+        if (index == -1) {
+            return NO_VALUE;
+        }
+        long oldValue = values[index];
+        shiftKeys(index);
+        size--;
+        return oldValue;
+    }
+
+    @Override
+    public long get(long key) {
+        return getOrDefault(key, NO_VALUE);
+    }
+
+    @Override
+    public long getOrDefault(long key, long defaultValue) {
+        if (key == FREE_KEY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int index = indexOf(key);
+        return index == -1 ? defaultValue : values[index];
+    }
+
+    @Override
+    public boolean containsKey(long key) {
+        return key == FREE_KEY ? hasZeroKey : indexOf(key) != -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void forEach(LongLongConsumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(FREE_KEY, zeroValue);
+        }
+        long[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    int getCapacity() {
+        return keys.length;
+    }
+
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        long current;
+        while ((current = keys[index]) != FREE_KEY) {
+            if (current == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    // index of the free slot for a new key, or -(index + 1) when the key is already there
+    private int insertionIndexOf(long key) {
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        long current;
+        while ((current = keys[index]) != FREE_KEY) {
+            if (current == key) {
+                return -index - 1;
+            }
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void insertAt(int index, long key, long value) {
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    // backward shift deletion: pulls the rest of the probe chain into the hole, so no tombstones are needed
+    private void shiftKeys(int index) {
+        int mask = keys.length - 1;
+        while (true) {
+            int last = index;
+            index = (index + 1) & mask;
+            long current;
+            while (true) {
+                if ((current = keys[index]) == FREE_KEY) {
+                    keys[last] = FREE_KEY;
+                    values[last] = NO_VALUE;
+                    return;
+                }
+                int slot = mix(current) & mask;
+                if (last <= index ? last >= slot || slot > index : last >= slot && slot > index) {
+                    break;
+                }
+                index = (index + 1) & mask;
+            }
+            keys[last] = current;
+            values[last] = values[index];
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        if (keys.length == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Map capacity can not exceed " + MAXIMUM_CAPACITY);
+        }
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(newCapacity);
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int index = mix(key) & mask;
+                while (keys[index] != FREE_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    // sequential ids would fill neighbouring slots, so they are scattered with the golden ratio first
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        return (int) (hash ^ (hash >>> 16));
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity <= 2) {
+            return 2;
+        }
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
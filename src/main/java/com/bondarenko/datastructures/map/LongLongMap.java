@@ -0,0 +1,33 @@
+package com.bondarenko.datastructures.map;
+
+// Map with primitive long keys and values
+// a missing key reads as 0, use containsKey to tell it apart from a stored 0
+public interface LongLongMap {
+
+    // returns the previous value or 0
+    long put(long key, long value);
+
+    // adds delta to the current value (0 if absent) and returns the new value
+    long addTo(long key, long delta);
+
+    // returns the removed value or 0
+    long remove(long key);
+
+    long get(long key);
+
+    long getOrDefault(long key, long defaultValue);
+
+    boolean containsKey(long key);
+
+    int size();
+
+    boolean isEmpty();
+
+    // visits every pair without creating Map.Entry objects
+    void forEach(LongLongConsumer consumer);
+
+    @FunctionalInterface
+    interface LongLongConsumer {
+        void accept(long key, long value);
+    }
+}
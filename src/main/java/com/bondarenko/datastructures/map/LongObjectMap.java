@@ -0,0 +1,25 @@
+package com.bondarenko.datastructures.map;
+
+// Map with primitive long keys, so put/get/containsKey never box the key
+public interface LongObjectMap<V> {
+
+    V put(long key, V value);
+
+    V remove(long key);
+
+    V get(long key);
+
+    boolean containsKey(long key);
+
+    int size();
+
+    boolean isEmpty();
+
+    // visits every pair without creating Map.Entry objects
+    void forEach(LongObjectConsumer<? super V> consumer);
+
+    @FunctionalInterface
+    interface LongObjectConsumer<V> {
+        void accept(long key, V value);
+    }
+}
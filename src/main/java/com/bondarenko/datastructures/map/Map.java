@@ -1,5 +1,12 @@
 package com.bondarenko.datastructures.map;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public interface Map<K, V> extends Iterable<Map.Entry<K, V>> {
 
     V put(K key, V value);
@@ -14,6 +21,36 @@ public interface Map<K, V> extends Iterable<Map.Entry<K, V>> {
 
     boolean isEmpty();
 
+    default void forEach(BiConsumer<? super K, ? super V> action) {
+        for (Entry<K, V> entry : this) {
+            action.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    // replaces every value with function(key, value)
+    default void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        for (Entry<K, V> entry : this) {
+            entry.setValue(function.apply(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    default MapCursor<K, V> cursor() {
+        return new IteratorMapCursor<>(this);
+    }
+
+    @Override
+    default Spliterator<Entry<K, V>> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.DISTINCT);
+    }
+
+    default Stream<Entry<K, V>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<Entry<K, V>> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     interface Entry<K, V> {
         K getKey();
 
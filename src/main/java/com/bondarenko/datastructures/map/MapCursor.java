@@ -0,0 +1,20 @@
+package com.bondarenko.datastructures.map;
+
+// iteration without an entry object per step: advance() moves to the next entry, key()/value() read it
+// one cursor can walk the map again after reset()
+public interface MapCursor<K, V> {
+
+    // false when there are no more entries
+    boolean advance();
+
+    K key();
+
+    V value();
+
+    void setValue(V value);
+
+    // removes the current entry, the next advance() moves to the entry after it
+    void remove();
+
+    void reset();
+}
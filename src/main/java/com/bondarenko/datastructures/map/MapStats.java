@@ -0,0 +1,262 @@
+package com.bondarenko.datastructures.map;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collection;
+
+// counters and table shape of one HashMap, created by HashMap.enableStats()
+// the map counts gets and resizes into plain fields, a map without stats pays one null check on get and resize
+// the table shape (bucket length histogram, max chain length, tree buckets) is computed from the buckets on every read,
+// so it costs nothing until someone asks and O(capacity) when they do
+// HashMap is not thread safe: read from another thread, e.g. through JMX, the values are approximate
+public class MapStats implements MapStatsMXBean {
+    // buckets of HISTOGRAM_LENGTH - 1 or more entries share the last element
+    static final int HISTOGRAM_LENGTH = 17;
+
+    private final HashMap<?, ?> map;
+    private long hits;
+    private long misses;
+    private long resizes;
+    private long resizeNanos;
+    private ObjectName objectName;
+
+    MapStats(HashMap<?, ?> map) {
+        this.map = map;
+    }
+
+    void recordGet(boolean hit) {
+        if (hit) {
+            hits++;
+        } else {
+            misses++;
+        }
+    }
+
+    void recordResize(long nanos) {
+        resizes++;
+        resizeNanos += nanos;
+    }
+
+    void recordRehashStep(long nanos) {
+        resizeNanos += nanos;
+    }
+
+    // all values at once, the table is walked one time
+    public Snapshot snapshot() {
+        long[] histogram = new long[HISTOGRAM_LENGTH];
+        int maxChainLength = 0;
+        int treeBuckets = 0;
+        Collection<?>[] oldBuckets = map.getOldBuckets();
+        for (Collection<?>[] table : new Collection<?>[][]{map.getBuckets(), oldBuckets}) {
+            if (table == null) {
+                continue;
+            }
+            for (Collection<?> bucket : table) {
+                int length = bucket == null ? 0 : bucket.size();
+                // during an incremental resize the empty buckets are counted in the new table only
+                if (length == 0 && table == oldBuckets) {
+                    continue;
+                }
+                histogram[Math.min(length, HISTOGRAM_LENGTH - 1)]++;
+                maxChainLength = Math.max(maxChainLength, length);
+                if (bucket instanceof TreeBucket) {
+                    treeBuckets++;
+                }
+            }
+        }
+        return new Snapshot(map.size(), map.getCapacity(), hits, misses, resizes, resizeNanos,
+                maxChainLength, treeBuckets, histogram);
+    }
+
+    @Override
+    public int getSize() {
+        return map.size();
+    }
+
+    @Override
+    public int getCapacity() {
+        return map.getCapacity();
+    }
+
+    @Override
+    public double getLoadFactor() {
+        return (double) map.size() / map.getCapacity();
+    }
+
+    @Override
+    public long getHits() {
+        return hits;
+    }
+
+    @Override
+    public long getMisses() {
+        return misses;
+    }
+
+    @Override
+    public double getHitRatio() {
+        return hitRatio(hits, misses);
+    }
+
+    @Override
+    public long getResizes() {
+        return resizes;
+    }
+
+    @Override
+    public long getResizeTimeNanos() {
+        return resizeNanos;
+    }
+
+    @Override
+    public int getMaxChainLength() {
+        return snapshot().getMaxChainLength();
+    }
+
+    @Override
+    public int getTreeBuckets() {
+        return snapshot().getTreeBuckets();
+    }
+
+    @Override
+    public long[] getBucketLengthHistogram() {
+        return snapshot().getBucketLengthHistogram();
+    }
+
+    @Override
+    public void reset() {
+        hits = 0;
+        misses = 0;
+        resizes = 0;
+        resizeNanos = 0;
+    }
+
+    // registers these stats with the platform MBean server
+    public void register(String name) {
+        if (objectName != null) {
+            throw new IllegalStateException("Stats are already registered as " + objectName);
+        }
+        ObjectName newObjectName;
+        try {
+            newObjectName = new ObjectName("com.bondarenko.datastructures:type=MapStats,name=" + ObjectName.quote(name));
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException("Name " + name + " is not a valid MBean name", e);
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, newObjectName);
+        } catch (InstanceAlreadyExistsException e) {
+            throw new IllegalStateException("MBean " + newObjectName + " is already registered", e);
+        } catch (JMException e) {
+            throw new IllegalStateException("MBean " + newObjectName + " can not be registered", e);
+        }
+        objectName = newObjectName;
+    }
+
+    // does nothing if the stats are not registered
+    public void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+        } catch (InstanceNotFoundException e) {
+            // unregistered through the server directly
+        } catch (JMException e) {
+            throw new IllegalStateException("MBean " + objectName + " can not be unregistered", e);
+        }
+        objectName = null;
+    }
+
+    ObjectName getObjectName() {
+        return objectName;
+    }
+
+    private static double hitRatio(long hits, long misses) {
+        long gets = hits + misses;
+        return gets == 0 ? 0 : (double) hits / gets;
+    }
+
+    public static final class Snapshot {
+        private final int size;
+        private final int capacity;
+        private final long hits;
+        private final long misses;
+        private final long resizes;
+        private final long resizeTimeNanos;
+        private final int maxChainLength;
+        private final int treeBuckets;
+        private final long[] bucketLengthHistogram;
+
+        private Snapshot(int size, int capacity, long hits, long misses, long resizes, long resizeTimeNanos,
+                         int maxChainLength, int treeBuckets, long[] bucketLengthHistogram) {
+            this.size = size;
+            this.capacity = capacity;
+            this.hits = hits;
+            this.misses = misses;
+            this.resizes = resizes;
+            this.resizeTimeNanos = resizeTimeNanos;
+            this.maxChainLength = maxChainLength;
+            this.treeBuckets = treeBuckets;
+            this.bucketLengthHistogram = bucketLengthHistogram;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public double getLoadFactor() {
+            return (double) size / capacity;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public double getHitRatio() {
+            return hitRatio(hits, misses);
+        }
+
+        public long getResizes() {
+            return resizes;
+        }
+
+        public long getResizeTimeNanos() {
+            return resizeTimeNanos;
+        }
+
+        public int getMaxChainLength() {
+            return maxChainLength;
+        }
+
+        public int getTreeBuckets() {
+            return treeBuckets;
+        }
+
+        public long[] getBucketLengthHistogram() {
+            return bucketLengthHistogram.clone();
+        }
+
+        @Override
+        public String toString() {
+            return "MapStats{size=" + size + ", capacity=" + capacity + ", loadFactor=" + getLoadFactor()
+                    + ", hits=" + hits + ", misses=" + misses + ", resizes=" + resizes
+                    + ", resizeTimeNanos=" + resizeTimeNanos + ", maxChainLength=" + maxChainLength
+                    + ", treeBuckets=" + treeBuckets + ", bucketLengthHistogram=" + Arrays.toString(bucketLengthHistogram) + "}";
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.bondarenko.datastructures.map;
+
+// JMX view of MapStats, registered with MapStats.register(name)
+// under com.bondarenko.datastructures:type=MapStats,name=<name>
+public interface MapStatsMXBean {
+
+    int getSize();
+
+    int getCapacity();
+
+    // size / capacity, not the configured load factor
+    double getLoadFactor();
+
+    long getHits();
+
+    long getMisses();
+
+    // hits / (hits + misses), 0 before the first get
+    double getHitRatio();
+
+    // growths and shrinks
+    long getResizes();
+
+    // time spent rehashing, including the steps of an incremental resize
+    long getResizeTimeNanos();
+
+    int getMaxChainLength();
+
+    int getTreeBuckets();
+
+    // [i] = number of buckets with i entries, the last element counts the longer buckets as well
+    long[] getBucketLengthHistogram();
+
+    // zeroes hits, misses, resizes and resize time
+    void reset();
+}
@@ -0,0 +1,592 @@
+package com.bondarenko.datastructures.map;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+
+// HashMap laid out in a memory-mapped file: header, bucket table of record offsets, then appended records
+// an existing file is opened by reading the header only, nothing is rehashed or loaded into the heap
+//
+// header: magic, version, state, bucket count, size, table offset, data end, segment shift, crc of the header
+// record: next, hash, key length, value length, crc of everything but next, key bytes, value bytes
+//
+// the first change after opening marks the file DIRTY and force()/close() mark it CLEAN again,
+// so a file that was not closed cleanly is checked record by record on the next open
+// replaced and removed records are unlinked but their bytes stay in the file
+//
+// one mapping is limited to Integer.MAX_VALUE bytes, so the file is mapped in segments of a power of two bytes
+// and every offset is a long, position >>> segmentShift finds the segment
+// a record never crosses a segment boundary, it starts in the next segment when the rest of the current one
+// is too small, tables start at a multiple of 8, so no link is split between two segments
+public class MappedHashMap<K, V> implements Map<K, V>, Closeable {
+    private static final int MAGIC = 0x4D48_4D50;
+    private static final int VERSION = 2;
+    private static final int CLEAN = 0;
+    private static final int DIRTY = 1;
+    private static final int DEFAULT_BUCKET_COUNT = 16;
+    private static final double LOAD_FACTOR = 0.75;
+    private static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int STATE_OFFSET = 8;
+    private static final int BUCKET_COUNT_OFFSET = 12;
+    private static final int SIZE_OFFSET = 16;
+    private static final int TABLE_OFFSET_OFFSET = 24;
+    private static final int DATA_END_OFFSET = 32;
+    private static final int SEGMENT_SHIFT_OFFSET = 40;
+    private static final int HEADER_CRC_OFFSET = 44;
+    private static final int HEADER_SIZE = 64;
+    private static final int MIN_SEGMENT_SHIFT = Integer.numberOfTrailingZeros(HEADER_SIZE);
+    private static final int MAX_SEGMENT_SHIFT = 30;
+
+    private static final int NEXT = 0;
+    private static final int HASH = 8;
+    private static final int KEY_LENGTH = 12;
+    private static final int VALUE_LENGTH = 16;
+    private static final int RECORD_CRC = 20;
+    private static final int RECORD_HEADER_SIZE = 24;
+    private static final int NULL_LENGTH = -1;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final Serializer<K> keySerializer;
+    private final Serializer<V> valueSerializer;
+    private MappedByteBuffer[] segments;
+    private long mappedSize;
+    private int segmentShift;
+    private long segmentMask;
+
+    private int bucketCount;
+    private int size;
+    private long tableOffset;
+    private long dataEnd;
+    private int state;
+
+    // set by findRecord: offset of the pointer that leads to the found record
+    private long foundLink;
+
+    public MappedHashMap(Path path, Serializer<K> keySerializer, Serializer<V> valueSerializer) throws IOException {
+        this(path, keySerializer, valueSerializer, DEFAULT_BUCKET_COUNT);
+    }
+
+    // bucketCount is used only when the file is created
+    public MappedHashMap(Path path, Serializer<K> keySerializer, Serializer<V> valueSerializer, int bucketCount) throws IOException {
+        this(path, keySerializer, valueSerializer, bucketCount, DEFAULT_SEGMENT_SIZE);
+    }
+
+    // segmentSize is rounded up to a power of two and, as bucketCount, used only when the file is created,
+    // an existing file keeps the segment size it was written with
+    MappedHashMap(Path path, Serializer<K> keySerializer, Serializer<V> valueSerializer, int bucketCount, int segmentSize) throws IOException {
+        this.path = path;
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                create(tableSizeFor(bucketCount), segmentShiftFor(segmentSize));
+            } else {
+                load();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public V put(K key, V value) {
+        validateOpen();
+        byte[] keyBytes = serialize(keySerializer, key);
+        byte[] valueBytes = serialize(valueSerializer, value);
+        int hash = hash(keyBytes);
+        validateRecordLength(keyBytes, valueBytes);
+        markDirty();
+        long record = findRecord(keyBytes, hash);
+        if (record != 0) {
+            V oldValue = readValue(record);
+            long newRecord = appendRecord(getLong(record + NEXT), hash, keyBytes, valueBytes);
+            // appending may have remapped the file, the link offset stays valid
+            putLong(foundLink, newRecord);
+            writeHeader();
+            return oldValue;
+        }
+        if (size + 1 > bucketCount * LOAD_FACTOR) {
+            rehash(bucketCount * 2);
+        }
+        long slot = slotOf(hash);
+        long newRecord = appendRecord(getLong(slot), hash, keyBytes, valueBytes);
+        putLong(slot, newRecord);
+        size++;
+        writeHeader();
+        return null;
+    }
+
+    @Override
+    public V remove(K key) {
+        validateOpen();
+        byte[] keyBytes = serialize(keySerializer, key);
+        long record = findRecord(keyBytes, hash(keyBytes));
+        if (record == 0) {
+            return null;
+        }
+        markDirty();
+        putLong(foundLink, getLong(record + NEXT));
+        size--;
+        writeHeader();
+        return readValue(record);
+    }
+
+    @Override
+    public V get(K key) {
+        validateOpen();
+        byte[] keyBytes = serialize(keySerializer, key);
+        long record = findRecord(keyBytes, hash(keyBytes));
+        return record == 0 ? null : readValue(record);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        validateOpen();
+        byte[] keyBytes = serialize(keySerializer, key);
+        return findRecord(keyBytes, hash(keyBytes)) != 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // writes the mapped pages to the storage device and marks the file CLEAN
+    public void force() {
+        validateOpen();
+        if (state == DIRTY) {
+            forceSegments();
+            state = CLEAN;
+            writeHeader();
+        }
+        forceSegments();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            force();
+            segments = null;
+            channel.close();
+        }
+    }
+
+    // walks every chain and checks that links stay inside the data and every record crc matches
+    public void verify() {
+        validateOpen();
+        long segmentSize = segmentMask + 1;
+        int count = 0;
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            long link = getLong(tableOffset + (long) bucket * Long.BYTES);
+            while (link != 0) {
+                if (link < HEADER_SIZE || link + RECORD_HEADER_SIZE > dataEnd
+                        || offsetIn(link) + RECORD_HEADER_SIZE > segmentSize) {
+                    throw corrupted("link " + link + " points outside of the data");
+                }
+                if (++count > size) {
+                    throw corrupted("more records are linked than the size " + size);
+                }
+                if ((getInt(link + HASH) & (bucketCount - 1)) != bucket) {
+                    throw corrupted("record at " + link + " is in a wrong bucket");
+                }
+                long length = (long) RECORD_HEADER_SIZE
+                        + Math.max(getInt(link + KEY_LENGTH), 0) + Math.max(getInt(link + VALUE_LENGTH), 0);
+                if (link + length > dataEnd || offsetIn(link) + length > segmentSize
+                        || recordCrc(link) != getInt(link + RECORD_CRC)) {
+                    throw corrupted("record at " + link + " is torn");
+                }
+                link = getLong(link + NEXT);
+            }
+        }
+        if (count != size) {
+            throw corrupted(count + " records are linked but the size is " + size);
+        }
+    }
+
+    int getCapacity() {
+        return bucketCount;
+    }
+
+    int getSegmentCount() {
+        return segments.length;
+    }
+
+    private void create(int bucketCount, int segmentShift) throws IOException {
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+        this.bucketCount = bucketCount;
+        this.tableOffset = HEADER_SIZE;
+        this.dataEnd = tableOffset + (long) bucketCount * Long.BYTES;
+        this.state = CLEAN;
+        map(dataEnd * 2);
+        segments[0].putInt(MAGIC_OFFSET, MAGIC);
+        segments[0].putInt(VERSION_OFFSET, VERSION);
+        writeHeader();
+        forceSegments();
+    }
+
+    private void load() throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < HEADER_SIZE) {
+            throw corrupted("file size " + fileSize + " is not valid");
+        }
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+            throw corrupted("it is not a map file of version " + VERSION);
+        }
+        if (headerCrc(header) != header.getInt(HEADER_CRC_OFFSET)) {
+            throw corrupted("header crc does not match");
+        }
+        state = header.getInt(STATE_OFFSET);
+        bucketCount = header.getInt(BUCKET_COUNT_OFFSET);
+        size = (int) header.getLong(SIZE_OFFSET);
+        tableOffset = header.getLong(TABLE_OFFSET_OFFSET);
+        dataEnd = header.getLong(DATA_END_OFFSET);
+        segmentShift = header.getInt(SEGMENT_SHIFT_OFFSET);
+        if (segmentShift < MIN_SEGMENT_SHIFT || segmentShift > MAX_SEGMENT_SHIFT
+                || Integer.bitCount(bucketCount) != 1 || tableOffset < HEADER_SIZE || tableOffset % Long.BYTES != 0
+                || tableOffset + (long) bucketCount * Long.BYTES > dataEnd || dataEnd > fileSize) {
+            throw corrupted("header values are not consistent");
+        }
+        segmentMask = (1L << segmentShift) - 1;
+        map(fileSize);
+        // the previous process stopped between two changes, the chains are checked before use
+        if (state == DIRTY) {
+            verify();
+        }
+    }
+
+    // segments that are already mapped at their full size are kept, the rest are mapped again
+    private void map(long fileSize) throws IOException {
+        long segmentSize = segmentMask + 1;
+        int count = (int) ((fileSize + segmentMask) >>> segmentShift);
+        MappedByteBuffer[] newSegments = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long position = (long) i << segmentShift;
+            long length = Math.min(segmentSize, fileSize - position);
+            if (segments != null && i < segments.length && segments[i].capacity() == length) {
+                newSegments[i] = segments[i];
+            } else {
+                newSegments[i] = channel.map(FileChannel.MapMode.READ_WRITE, position, length);
+            }
+        }
+        segments = newSegments;
+        mappedSize = fileSize;
+    }
+
+    private void ensureMapped(long end) {
+        if (end <= mappedSize) {
+            return;
+        }
+        try {
+            map(Math.max(mappedSize * 2, end));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void forceSegments() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    // DIRTY must reach the device before any table or record page does, otherwise after a crash
+    // the data pages can be on disk under a header that still reads CLEAN and load() would skip verify()
+    private void markDirty() {
+        if (state == CLEAN) {
+            state = DIRTY;
+            writeHeader();
+            segments[0].force(0, HEADER_SIZE);
+        }
+    }
+
+    private void writeHeader() {
+        ByteBuffer header = segments[0];
+        header.putInt(STATE_OFFSET, state);
+        header.putInt(BUCKET_COUNT_OFFSET, bucketCount);
+        header.putLong(SIZE_OFFSET, size);
+        header.putLong(TABLE_OFFSET_OFFSET, tableOffset);
+        header.putLong(DATA_END_OFFSET, dataEnd);
+        header.putInt(SEGMENT_SHIFT_OFFSET, segmentShift);
+        header.putInt(HEADER_CRC_OFFSET, headerCrc(header));
+    }
+
+    private static int headerCrc(ByteBuffer header) {
+        CRC32 crc = new CRC32();
+        crc.update(header.slice(0, HEADER_CRC_OFFSET));
+        return (int) crc.getValue();
+    }
+
+    private int recordCrc(long record) {
+        ByteBuffer segment = segmentOf(record);
+        int offset = offsetIn(record);
+        int payload = Math.max(segment.getInt(offset + KEY_LENGTH), 0) + Math.max(segment.getInt(offset + VALUE_LENGTH), 0);
+        CRC32 crc = new CRC32();
+        crc.update(segment.slice(offset + HASH, RECORD_CRC - HASH));
+        crc.update(segment.slice(offset + RECORD_HEADER_SIZE, payload));
+        return (int) crc.getValue();
+    }
+
+    // checked before the file is marked DIRTY, a record that can not be written changes nothing
+    private void validateRecordLength(byte[] keyBytes, byte[] valueBytes) {
+        long length = recordLength(keyBytes, valueBytes);
+        if (length > segmentMask + 1) {
+            throw new IllegalArgumentException("Record of " + length + " bytes does not fit into a segment of " + (segmentMask + 1) + " bytes");
+        }
+    }
+
+    private long appendRecord(long next, int hash, byte[] keyBytes, byte[] valueBytes) {
+        int keyLength = keyBytes == null ? 0 : keyBytes.length;
+        int valueLength = valueBytes == null ? 0 : valueBytes.length;
+        long length = recordLength(keyBytes, valueBytes);
+        long record = dataEnd;
+        if (offsetIn(record) + length > segmentMask + 1) {
+            record = (record | segmentMask) + 1;
+        }
+        ensureMapped(record + length);
+        ByteBuffer segment = segmentOf(record);
+        int offset = offsetIn(record);
+        segment.putLong(offset + NEXT, next);
+        segment.putInt(offset + HASH, hash);
+        segment.putInt(offset + KEY_LENGTH, keyBytes == null ? NULL_LENGTH : keyLength);
+        segment.putInt(offset + VALUE_LENGTH, valueBytes == null ? NULL_LENGTH : valueLength);
+        if (keyBytes != null) {
+            segment.put(offset + RECORD_HEADER_SIZE, keyBytes);
+        }
+        if (valueBytes != null) {
+            segment.put(offset + RECORD_HEADER_SIZE + keyLength, valueBytes);
+        }
+        segment.putInt(offset + RECORD_CRC, recordCrc(record));
+        dataEnd = record + length;
+        return record;
+    }
+
+    private long findRecord(byte[] keyBytes, int hash) {
+        long link = slotOf(hash);
+        long record;
+        while ((record = getLong(link)) != 0) {
+            if (getInt(record + HASH) == hash && Arrays.equals(readKeyBytes(record), keyBytes)) {
+                foundLink = link;
+                return record;
+            }
+            link = record + NEXT;
+        }
+        return 0;
+    }
+
+    // the new table is appended after the records and every record is relinked into it
+    private void rehash(int newBucketCount) {
+        long newTableOffset = (dataEnd + Long.BYTES - 1) & -Long.BYTES;
+        long newDataEnd = newTableOffset + (long) newBucketCount * Long.BYTES;
+        ensureMapped(newDataEnd);
+        for (int i = 0; i < newBucketCount; i++) {
+            putLong(newTableOffset + (long) i * Long.BYTES, 0);
+        }
+        dataEnd = newDataEnd;
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            long record = getLong(tableOffset + (long) bucket * Long.BYTES);
+            while (record != 0) {
+                long next = getLong(record + NEXT);
+                long slot = newTableOffset + (long) (getInt(record + HASH) & (newBucketCount - 1)) * Long.BYTES;
+                putLong(record + NEXT, getLong(slot));
+                putLong(slot, record);
+                record = next;
+            }
+        }
+        tableOffset = newTableOffset;
+        bucketCount = newBucketCount;
+        writeHeader();
+    }
+
+    private long slotOf(int hash) {
+        return tableOffset + (long) (hash & (bucketCount - 1)) * Long.BYTES;
+    }
+
+    private ByteBuffer segmentOf(long position) {
+        return segments[(int) (position >>> segmentShift)];
+    }
+
+    private int offsetIn(long position) {
+        return (int) (position & segmentMask);
+    }
+
+    private long getLong(long position) {
+        return segmentOf(position).getLong(offsetIn(position));
+    }
+
+    private void putLong(long position, long value) {
+        segmentOf(position).putLong(offsetIn(position), value);
+    }
+
+    private int getInt(long position) {
+        return segmentOf(position).getInt(offsetIn(position));
+    }
+
+    private byte[] readKeyBytes(long record) {
+        return readBytes(record + RECORD_HEADER_SIZE, getInt(record + KEY_LENGTH));
+    }
+
+    private K readKey(long record) {
+        byte[] bytes = readKeyBytes(record);
+        return bytes == null ? null : keySerializer.deserialize(bytes);
+    }
+
+    private V readValue(long record) {
+        int keyLength = Math.max(getInt(record + KEY_LENGTH), 0);
+        byte[] bytes = readBytes(record + RECORD_HEADER_SIZE + keyLength, getInt(record + VALUE_LENGTH));
+        return bytes == null ? null : valueSerializer.deserialize(bytes);
+    }
+
+    // the bytes belong to one record, so they are in one segment
+    private byte[] readBytes(long position, int length) {
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        segmentOf(position).get(offsetIn(position), bytes);
+        return bytes;
+    }
+
+    private void validateOpen() {
+        if (segments == null) {
+            throw new IllegalStateException("Map file " + path + " is closed");
+        }
+    }
+
+    private IllegalStateException corrupted(String reason) {
+        return new IllegalStateException("Map file " + path + " is corrupted: " + reason);
+    }
+
+    private static <T> byte[] serialize(Serializer<T> serializer, T value) {
+        return value == null ? null : serializer.serialize(value);
+    }
+
+    private static long recordLength(byte[] keyBytes, byte[] valueBytes) {
+        return (long) RECORD_HEADER_SIZE + (keyBytes == null ? 0 : keyBytes.length) + (valueBytes == null ? 0 : valueBytes.length);
+    }
+
+    // hashCode() of an object may differ between runs, the bytes always give the same hash
+    private static int hash(byte[] keyBytes) {
+        int hash = Arrays.hashCode(keyBytes);
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity <= 2) {
+            return 2;
+        }
+        if (capacity >= 1 << 30) {
+            return 1 << 30;
+        }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private static int segmentShiftFor(int segmentSize) {
+        if (segmentSize <= 1 << MIN_SEGMENT_SHIFT) {
+            return MIN_SEGMENT_SHIFT;
+        }
+        if (segmentSize >= 1 << MAX_SEGMENT_SHIFT) {
+            return MAX_SEGMENT_SHIFT;
+        }
+        return Integer.numberOfTrailingZeros(Integer.highestOneBit(segmentSize - 1) << 1);
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        validateOpen();
+        return new MappedHashMapIterator();
+    }
+
+    // reads the links on every call, so a removal made after hasNext() is seen by the next hasNext()
+    private class MappedHashMapIterator implements Iterator<Map.Entry<K, V>> {
+        private int bucketIndex;
+        private long link = tableOffset;
+        private boolean end;
+        private K lastReturnedKey;
+        private boolean remove;
+
+        @Override
+        public boolean hasNext() {
+            if (end) {
+                return false;
+            }
+            while (getLong(link) == 0) {
+                if (++bucketIndex >= bucketCount) {
+                    end = true;
+                    return false;
+                }
+                link = tableOffset + (long) bucketIndex * Long.BYTES;
+            }
+            return true;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            long record = getLong(link);
+            link = record + NEXT;
+            lastReturnedKey = readKey(record);
+            remove = true;
+            return new Entry(lastReturnedKey, readValue(record));
+        }
+
+        @Override
+        public void remove() {
+            if (!remove) {
+                throw new IllegalStateException("Method next() has not called before remove");
+            }
+            remove = false;
+            MappedHashMap.this.remove(lastReturnedKey);
+        }
+    }
+
+    // a copy of the record, setValue writes the new value through to the file
+    private class Entry implements Map.Entry<K, V> {
+        private final K key;
+        private V value;
+
+        private Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public void setValue(V value) {
+            put(key, value);
+            this.value = value;
+        }
+    }
+}
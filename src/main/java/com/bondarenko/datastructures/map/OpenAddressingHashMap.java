@@ -0,0 +1,254 @@
+package com.bondarenko.datastructures.map;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// keys and values live in two parallel arrays, collisions are resolved by linear probing
+// capacity is always a power of two, so the slot is found with a mask instead of %
+public class OpenAddressingHashMap<K, V> implements Map<K, V> {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final Object NULL_KEY = new Object();
+    private static final Object REMOVED = new Object();
+
+    private Object[] keys;
+    private Object[] values;
+    private int size;
+    private int removed;
+    private int threshold;
+
+    private final double loadFactor;
+
+    public OpenAddressingHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public OpenAddressingHashMap(int capacity) {
+        this(capacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public OpenAddressingHashMap(int capacity, double loadFactor) {
+        this.loadFactor = loadFactor <= 0 || loadFactor >= 1 ? DEFAULT_LOAD_FACTOR : loadFactor;
+        allocate(tableSizeFor(capacity));
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Object maskedKey = maskNull(key);
+        int mask = keys.length - 1;
+        int index = hash(maskedKey) & mask;
+        int firstRemoved = -1;
+        Object current;
+        while ((current = keys[index]) != null) {
+            if (current == REMOVED) {
+                if (firstRemoved == -1) {
+                    firstRemoved = index;
+                }
+            } else if (current == maskedKey || current.equals(maskedKey)) {
+                V oldValue = valueAt(index);
+                values[index] = value;
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+        if (firstRemoved != -1) {
+            index = firstRemoved;
+            removed--;
+        }
+        keys[index] = maskedKey;
+        values[index] = value;
+        size++;
+        if (size + removed > threshold) {
+            rehash();
+        }
+        return null;
+    }
+
+    @Override
+    public V remove(K key) {
+        int index = indexOf(maskNull(key));
+        if (index == -1) {
+            return null;
+        }
+        V oldValue = valueAt(index);
+        removeAt(index);
+        return oldValue;
+    }
+
+    @Override
+    public V get(K key) {
+        int index = indexOf(maskNull(key));
+        return index == -1 ? null : valueAt(index);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return indexOf(maskNull(key)) != -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    int getCapacity() {
+        return keys.length;
+    }
+
+    private int indexOf(Object maskedKey) {
+        int mask = keys.length - 1;
+        int index = hash(maskedKey) & mask;
+        Object current;
+        while ((current = keys[index]) != null) {
+            if (current == maskedKey || (current != REMOVED && current.equals(maskedKey))) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        int mask = keys.length - 1;
+        values[index] = null;
+        size--;
+        if (keys[(index + 1) & mask] != null) {
+            keys[index] = REMOVED;
+            removed++;
+            return;
+        }
+        // the probe chain ends here, so this slot and the tombstones right before it can become free again
+        keys[index] = null;
+        index = (index - 1) & mask;
+        while (keys[index] == REMOVED) {
+            keys[index] = null;
+            removed--;
+            index = (index - 1) & mask;
+        }
+    }
+
+    // doubles the table when it is really full, otherwise only sweeps out the tombstones
+    private void rehash() {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int newCapacity = size > threshold / 2 && oldKeys.length < MAXIMUM_CAPACITY ? oldKeys.length * 2 : oldKeys.length;
+        allocate(newCapacity);
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object key = oldKeys[i];
+            if (key != null && key != REMOVED) {
+                int index = hash(key) & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+        removed = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V) values[index];
+    }
+
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    // the table index takes the low bits only, so the high bits are folded into them first
+    private static int hash(Object key) {
+        int hashCode = key.hashCode();
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity <= 2) {
+            return 2;
+        }
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new OpenAddressingHashMapIterator();
+    }
+
+    private class OpenAddressingHashMapIterator implements Iterator<Map.Entry<K, V>> {
+        private int index;
+        private int lastReturned = -1;
+
+        @Override
+        public boolean hasNext() {
+            while (index < keys.length && (keys[index] == null || keys[index] == REMOVED)) {
+                index++;
+            }
+            return index < keys.length;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            lastReturned = index++;
+            return new Entry(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == -1) {
+                throw new IllegalStateException("Method next() has not called before remove");
+            }
+            removeAt(lastReturned);
+            lastReturned = -1;
+        }
+    }
+
+    private class Entry implements Map.Entry<K, V> {
+        private final Object maskedKey;
+        private final int index;
+        private V value;
+
+        private Entry(int index) {
+            this.index = index;
+            this.maskedKey = keys[index];
+            this.value = valueAt(index);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public K getKey() {
+            return maskedKey == NULL_KEY ? null : (K) maskedKey;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public void setValue(V value) {
+            this.value = value;
+            if (index < keys.length && keys[index] == maskedKey) {
+                values[index] = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,546 @@
+package com.bondarenko.datastructures.map;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+// immutable map as a hash array mapped trie: every level takes 5 bits of the hash code,
+// a node keeps only the slots in use, dataMap and nodeMap tell which of the 32 slots hold an entry
+// and which a sub node, entries first and sub nodes after them in one array (CHAMP layout),
+// with/without copy the O(log32 n) nodes on the path to the slot and share every other node with this map,
+// so a new version costs a few small arrays and a published map is read by any number of threads without locks
+public class PersistentHashMap<K, V> implements Map<K, V> {
+    static final int BITS = 5;
+    static final int MASK = (1 << BITS) - 1;
+    static final Object NOT_FOUND = new Object();
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    // a new map where key maps to value
+    public PersistentHashMap<K, V> with(K key, V value) {
+        Change change = new Change();
+        Node newRoot = root.put(null, key, value, hash(key), 0, change);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, change.added ? size + 1 : size);
+    }
+
+    // a new map without key
+    public PersistentHashMap<K, V> without(K key) {
+        Change change = new Change();
+        Node newRoot = root.remove(null, key, hash(key), 0, change);
+        if (!change.removed) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    // a mutable copy for bulk changes, it shares all nodes with this map until it changes them
+    public TransientHashMap<K, V> asTransient() {
+        return new TransientHashMap<>(root, size);
+    }
+
+    @Override
+    public V get(K key) {
+        Object value = root.find(key, hash(key), 0);
+        return value == NOT_FOUND ? null : castValue(value);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return root.find(key, hash(key), 0) != NOT_FOUND;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        throw unsupported();
+    }
+
+    @Override
+    public V remove(K key) {
+        throw unsupported();
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new EntryIterator<>(root, this);
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("PersistentHashMap is immutable, use with or without");
+    }
+
+    static int hash(Object key) {
+        return Objects.hashCode(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> V castValue(Object value) {
+        return (V) value;
+    }
+
+    // what put/remove did, the nodes return only the new node
+    static class Change {
+        boolean added;
+        boolean removed;
+        Object oldValue;
+    }
+
+    // a node may be changed in place only by the transient map whose edit token it carries,
+    // the persistent map passes a null edit, so every change copies
+    abstract static class Node {
+
+        abstract Object find(Object key, int hash, int shift);
+
+        abstract Node put(Object edit, Object key, Object value, int hash, int shift, Change change);
+
+        abstract Node remove(Object edit, Object key, int hash, int shift, Change change);
+
+        abstract int dataCount();
+
+        abstract int nodeCount();
+
+        abstract Object keyAt(int index);
+
+        abstract Object valueAt(int index);
+
+        abstract Node nodeAt(int index);
+    }
+
+    static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(null, 0, 0, new Object[0]);
+
+        private final Object edit;
+        private int dataMap;
+        private int nodeMap;
+        // [key0, value0, key1, value1, ..., node0, node1, ...]
+        private Object[] content;
+
+        private BitmapNode(Object edit, int dataMap, int nodeMap, Object[] content) {
+            this.edit = edit;
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int index = 2 * dataIndex(bit);
+                return Objects.equals(content[index], key) ? content[index + 1] : NOT_FOUND;
+            }
+            if ((nodeMap & bit) != 0) {
+                return nodeAt(nodeIndex(bit)).find(key, hash, shift + BITS);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        Node put(Object edit, Object key, Object value, int hash, int shift, Change change) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int dataIndex = dataIndex(bit);
+                Object currentKey = content[2 * dataIndex];
+                Object currentValue = content[2 * dataIndex + 1];
+                if (Objects.equals(currentKey, key)) {
+                    change.oldValue = currentValue;
+                    if (currentValue == value) {
+                        return this;
+                    }
+                    BitmapNode node = editable(edit);
+                    node.content[2 * dataIndex + 1] = value;
+                    return node;
+                }
+                // two keys in one slot move down into a new sub node
+                change.added = true;
+                Node subNode = mergeTwo(edit, currentKey, currentValue, hash(currentKey), key, value, hash, shift + BITS);
+                return dataToNode(edit, bit, dataIndex, subNode);
+            }
+            if ((nodeMap & bit) != 0) {
+                int nodeIndex = nodeIndex(bit);
+                Node subNode = nodeAt(nodeIndex);
+                Node newSubNode = subNode.put(edit, key, value, hash, shift + BITS, change);
+                if (newSubNode == subNode) {
+                    return this;
+                }
+                BitmapNode node = editable(edit);
+                node.content[node.nodeOffset() + nodeIndex] = newSubNode;
+                return node;
+            }
+            change.added = true;
+            return insertData(edit, bit, key, value);
+        }
+
+        @Override
+        Node remove(Object edit, Object key, int hash, int shift, Change change) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int dataIndex = dataIndex(bit);
+                if (!Objects.equals(content[2 * dataIndex], key)) {
+                    return this;
+                }
+                change.removed = true;
+                change.oldValue = content[2 * dataIndex + 1];
+                return removeData(edit, bit, dataIndex);
+            }
+            if ((nodeMap & bit) != 0) {
+                int nodeIndex = nodeIndex(bit);
+                Node newSubNode = nodeAt(nodeIndex).remove(edit, key, hash, shift + BITS, change);
+                if (!change.removed) {
+                    return this;
+                }
+                // a sub node with one entry left is inlined, so a trie has one shape for one set of keys
+                if (newSubNode.nodeCount() == 0 && newSubNode.dataCount() == 1) {
+                    return nodeToData(edit, bit, nodeIndex, newSubNode.keyAt(0), newSubNode.valueAt(0));
+                }
+                BitmapNode node = editable(edit);
+                node.content[node.nodeOffset() + nodeIndex] = newSubNode;
+                return node;
+            }
+            return this;
+        }
+
+        @Override
+        int dataCount() {
+            return Integer.bitCount(dataMap);
+        }
+
+        @Override
+        int nodeCount() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        @Override
+        Object keyAt(int index) {
+            return content[2 * index];
+        }
+
+        @Override
+        Object valueAt(int index) {
+            return content[2 * index + 1];
+        }
+
+        @Override
+        Node nodeAt(int index) {
+            return (Node) content[nodeOffset() + index];
+        }
+
+        private int nodeOffset() {
+            return 2 * Integer.bitCount(dataMap);
+        }
+
+        private int dataIndex(int bit) {
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        private int nodeIndex(int bit) {
+            return Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+        private BitmapNode editable(Object edit) {
+            if (edit != null && this.edit == edit) {
+                return this;
+            }
+            return new BitmapNode(edit, dataMap, nodeMap, content.clone());
+        }
+
+        private BitmapNode withContent(Object edit, int dataMap, int nodeMap, Object[] content) {
+            if (edit != null && this.edit == edit) {
+                this.dataMap = dataMap;
+                this.nodeMap = nodeMap;
+                this.content = content;
+                return this;
+            }
+            return new BitmapNode(edit, dataMap, nodeMap, content);
+        }
+
+        private BitmapNode insertData(Object edit, int bit, Object key, Object value) {
+            int index = 2 * dataIndex(bit);
+            Object[] newContent = new Object[content.length + 2];
+            System.arraycopy(content, 0, newContent, 0, index);
+            newContent[index] = key;
+            newContent[index + 1] = value;
+            System.arraycopy(content, index, newContent, index + 2, content.length - index);
+            return withContent(edit, dataMap | bit, nodeMap, newContent);
+        }
+
+        private BitmapNode removeData(Object edit, int bit, int dataIndex) {
+            int index = 2 * dataIndex;
+            Object[] newContent = new Object[content.length - 2];
+            System.arraycopy(content, 0, newContent, 0, index);
+            System.arraycopy(content, index + 2, newContent, index, content.length - index - 2);
+            return withContent(edit, dataMap ^ bit, nodeMap, newContent);
+        }
+
+        private BitmapNode dataToNode(Object edit, int bit, int dataIndex, Node subNode) {
+            int index = 2 * dataIndex;
+            int oldNodeOffset = nodeOffset();
+            int newNodeOffset = oldNodeOffset - 2;
+            int nodeIndex = nodeIndex(bit);
+            Object[] newContent = new Object[content.length - 1];
+            System.arraycopy(content, 0, newContent, 0, index);
+            System.arraycopy(content, index + 2, newContent, index, oldNodeOffset - index - 2);
+            System.arraycopy(content, oldNodeOffset, newContent, newNodeOffset, nodeIndex);
+            newContent[newNodeOffset + nodeIndex] = subNode;
+            System.arraycopy(content, oldNodeOffset + nodeIndex, newContent, newNodeOffset + nodeIndex + 1,
+                    content.length - oldNodeOffset - nodeIndex);
+            return withContent(edit, dataMap ^ bit, nodeMap | bit, newContent);
+        }
+
+        private BitmapNode nodeToData(Object edit, int bit, int nodeIndex, Object key, Object value) {
+            int index = 2 * dataIndex(bit);
+            int oldNodeOffset = nodeOffset();
+            int newNodeOffset = oldNodeOffset + 2;
+            Object[] newContent = new Object[content.length + 1];
+            System.arraycopy(content, 0, newContent, 0, index);
+            newContent[index] = key;
+            newContent[index + 1] = value;
+            System.arraycopy(content, index, newContent, index + 2, oldNodeOffset - index);
+            System.arraycopy(content, oldNodeOffset, newContent, newNodeOffset, nodeIndex);
+            System.arraycopy(content, oldNodeOffset + nodeIndex + 1, newContent, newNodeOffset + nodeIndex,
+                    content.length - oldNodeOffset - nodeIndex - 1);
+            return withContent(edit, dataMap | bit, nodeMap ^ bit, newContent);
+        }
+
+        private static int bit(int hash, int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        // keys with equal hash codes end in a CollisionNode once all 32 bits are used
+        private static Node mergeTwo(Object edit, Object firstKey, Object firstValue, int firstHash,
+                                     Object secondKey, Object secondValue, int secondHash, int shift) {
+            if (shift >= Integer.SIZE) {
+                return new CollisionNode(edit, new Object[]{firstKey, secondKey}, new Object[]{firstValue, secondValue});
+            }
+            int firstSlot = (firstHash >>> shift) & MASK;
+            int secondSlot = (secondHash >>> shift) & MASK;
+            if (firstSlot != secondSlot) {
+                Object[] content = firstSlot < secondSlot
+                        ? new Object[]{firstKey, firstValue, secondKey, secondValue}
+                        : new Object[]{secondKey, secondValue, firstKey, firstValue};
+                return new BitmapNode(edit, (1 << firstSlot) | (1 << secondSlot), 0, content);
+            }
+            Node subNode = mergeTwo(edit, firstKey, firstValue, firstHash, secondKey, secondValue, secondHash, shift + BITS);
+            return new BitmapNode(edit, 0, 1 << firstSlot, new Object[]{subNode});
+        }
+    }
+
+    // entries whose hash codes are equal, searched linearly
+    static final class CollisionNode extends Node {
+        private final Object edit;
+        private Object[] keys;
+        private Object[] values;
+
+        private CollisionNode(Object edit, Object[] keys, Object[] values) {
+            this.edit = edit;
+            this.keys = keys;
+            this.values = values;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            int index = indexOf(key);
+            return index == -1 ? NOT_FOUND : values[index];
+        }
+
+        @Override
+        Node put(Object edit, Object key, Object value, int hash, int shift, Change change) {
+            int index = indexOf(key);
+            if (index != -1) {
+                change.oldValue = values[index];
+                if (values[index] == value) {
+                    return this;
+                }
+                CollisionNode node = editable(edit, keys.clone(), values.clone());
+                node.values[index] = value;
+                return node;
+            }
+            change.added = true;
+            Object[] newKeys = new Object[keys.length + 1];
+            Object[] newValues = new Object[values.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, keys.length);
+            System.arraycopy(values, 0, newValues, 0, values.length);
+            newKeys[keys.length] = key;
+            newValues[values.length] = value;
+            return editable(edit, newKeys, newValues);
+        }
+
+        @Override
+        Node remove(Object edit, Object key, int hash, int shift, Change change) {
+            int index = indexOf(key);
+            if (index == -1) {
+                return this;
+            }
+            change.removed = true;
+            change.oldValue = values[index];
+            Object[] newKeys = new Object[keys.length - 1];
+            Object[] newValues = new Object[values.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, newKeys.length - index);
+            System.arraycopy(values, 0, newValues, 0, index);
+            System.arraycopy(values, index + 1, newValues, index, newValues.length - index);
+            return editable(edit, newKeys, newValues);
+        }
+
+        @Override
+        int dataCount() {
+            return keys.length;
+        }
+
+        @Override
+        int nodeCount() {
+            return 0;
+        }
+
+        @Override
+        Object keyAt(int index) {
+            return keys[index];
+        }
+
+        @Override
+        Object valueAt(int index) {
+            return values[index];
+        }
+
+        @Override
+        Node nodeAt(int index) {
+            throw new IndexOutOfBoundsException("Collision node has no sub nodes");
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (Objects.equals(keys[i], key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private CollisionNode editable(Object edit, Object[] keys, Object[] values) {
+            if (edit != null && this.edit == edit) {
+                this.keys = keys;
+                this.values = values;
+                return this;
+            }
+            return new CollisionNode(edit, keys, values);
+        }
+    }
+
+    // depth first over a trie that does not change while it is walked,
+    // setValue and remove go through the owner map
+    static class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+        // 7 bitmap levels for 32 bits of hash and a collision node below them
+        private final Node[] nodes = new Node[8];
+        private final int[] positions = new int[8];
+        private final Map<K, V> owner;
+        private int depth;
+        private Map.Entry<K, V> next;
+        private Map.Entry<K, V> lastReturned;
+
+        EntryIterator(Node root, Map<K, V> owner) {
+            this.owner = owner;
+            nodes[0] = root;
+            findNext();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            lastReturned = next;
+            findNext();
+            return lastReturned;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException("Method next() has not called before remove");
+            }
+            owner.remove(lastReturned.getKey());
+            lastReturned = null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void findNext() {
+            while (depth >= 0) {
+                Node node = nodes[depth];
+                int position = positions[depth];
+                if (position < node.dataCount()) {
+                    positions[depth]++;
+                    next = new Entry<>((K) node.keyAt(position), (V) node.valueAt(position), owner);
+                    return;
+                }
+                int nodeIndex = position - node.dataCount();
+                if (nodeIndex < node.nodeCount()) {
+                    positions[depth]++;
+                    depth++;
+                    nodes[depth] = node.nodeAt(nodeIndex);
+                    positions[depth] = 0;
+                } else {
+                    nodes[depth] = null;
+                    depth--;
+                }
+            }
+            next = null;
+        }
+    }
+
+    private static class Entry<K, V> implements Map.Entry<K, V> {
+        private final K key;
+        private V value;
+        private final Map<K, V> owner;
+
+        private Entry(K key, V value, Map<K, V> owner) {
+            this.key = key;
+            this.value = value;
+            this.owner = owner;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public void setValue(V value) {
+            owner.put(key, value);
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.bondarenko.datastructures.map;
+
+import java.nio.charset.StandardCharsets;
+
+// binary form of keys and values for maps that keep their data outside of the heap
+// equal keys must serialize to equal bytes, the bytes are what the map hashes and compares
+public interface Serializer<T> {
+
+    byte[] serialize(T value);
+
+    T deserialize(byte[] bytes);
+
+    static Serializer<String> ofString() {
+        return new Serializer<>() {
+            @Override
+            public byte[] serialize(String value) {
+                return value.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public String deserialize(byte[] bytes) {
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
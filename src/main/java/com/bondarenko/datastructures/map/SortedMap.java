@@ -0,0 +1,27 @@
+package com.bondarenko.datastructures.map;
+
+// Map that keeps its keys ordered, iteration goes from the smallest key to the greatest
+// the navigation methods return null when there is no such key
+public interface SortedMap<K, V> extends Map<K, V> {
+
+    // throw NoSuchElementException when the map is empty
+    K firstKey();
+
+    K lastKey();
+
+    // the greatest key less than or equal to key
+    K floorKey(K key);
+
+    // the smallest key greater than or equal to key
+    K ceilingKey(K key);
+
+    // the greatest key strictly less than key
+    K lowerKey(K key);
+
+    // the smallest key strictly greater than key
+    K higherKey(K key);
+
+    // view of the keys in [fromKey, toKey), changes go through to this map and back,
+    // put of a key out of the range throws IllegalArgumentException
+    SortedMap<K, V> subMap(K fromKey, K toKey);
+}
@@ -0,0 +1,88 @@
+package com.bondarenko.datastructures.map;
+
+import java.util.Iterator;
+
+// mutable map over the trie of PersistentHashMap for bulk loads: the first change of a shared node copies it
+// and marks the copy with this map's edit token, later changes of a marked node write in place,
+// so loading n entries allocates about as much as a HashMap does instead of a new path per entry
+// persistent() hands the trie over to an immutable map in O(1), the transient map can not be changed after it
+// not thread safe
+public class TransientHashMap<K, V> implements Map<K, V> {
+    private Object edit = new Object();
+    private PersistentHashMap.Node root;
+    private int size;
+
+    public TransientHashMap() {
+        this(PersistentHashMap.BitmapNode.EMPTY, 0);
+    }
+
+    TransientHashMap(PersistentHashMap.Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        validateEditable();
+        PersistentHashMap.Change change = new PersistentHashMap.Change();
+        root = root.put(edit, key, value, PersistentHashMap.hash(key), 0, change);
+        if (change.added) {
+            size++;
+        }
+        return PersistentHashMap.castValue(change.oldValue);
+    }
+
+    @Override
+    public V remove(K key) {
+        validateEditable();
+        PersistentHashMap.Change change = new PersistentHashMap.Change();
+        root = root.remove(edit, key, PersistentHashMap.hash(key), 0, change);
+        if (change.removed) {
+            size--;
+        }
+        return PersistentHashMap.castValue(change.oldValue);
+    }
+
+    @Override
+    public V get(K key) {
+        Object value = root.find(key, PersistentHashMap.hash(key), 0);
+        return value == PersistentHashMap.NOT_FOUND ? null : PersistentHashMap.castValue(value);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return root.find(key, PersistentHashMap.hash(key), 0) != PersistentHashMap.NOT_FOUND;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // an immutable map of the current entries, this map can not be changed afterwards
+    public PersistentHashMap<K, V> persistent() {
+        validateEditable();
+        edit = null;
+        return new PersistentHashMap<>(root, size);
+    }
+
+    // a new edit token freezes the nodes the iterator walks, changes made meanwhile copy them
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        if (edit != null) {
+            edit = new Object();
+        }
+        return new PersistentHashMap.EntryIterator<>(root, this);
+    }
+
+    private void validateEditable() {
+        if (edit == null) {
+            throw new IllegalStateException("Transient map can not be changed after persistent()");
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package com.bondarenko.datastructures.map;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+// red-black tree of the entries of one HashMap bucket, ordered by hashCode(), then by compareTo()
+// when the keys are Comparable of the same class, then by class name and identity hash,
+// so a bucket flooded with colliding keys is searched in O(log n) instead of O(n)
+class TreeBucket<K, V> extends AbstractCollection<HashMap.Entry<K, V>> {
+    private static final boolean RED = false;
+    private static final boolean BLACK = true;
+
+    private Node<K, V> root;
+    private int size;
+
+    TreeBucket(Iterable<HashMap.Entry<K, V>> entries) {
+        for (HashMap.Entry<K, V> entry : entries) {
+            add(entry);
+        }
+    }
+
+    // the key of entry must not be in the tree yet, HashMap looks it up before adding
+    @Override
+    public boolean add(HashMap.Entry<K, V> entry) {
+        K key = entry.getKey();
+        int hash = hash(key);
+        Node<K, V> parent = null;
+        Node<K, V> current = root;
+        int direction = 0;
+        Class<?> keyClass = null;
+        boolean keyClassSearched = false;
+        while (current != null) {
+            parent = current;
+            if (current.hash != hash) {
+                direction = current.hash > hash ? -1 : 1;
+            } else {
+                if (!keyClassSearched) {
+                    keyClass = comparableClassFor(key);
+                    keyClassSearched = true;
+                }
+                K currentKey = current.entry.getKey();
+                direction = keyClass == null ? 0 : compareComparables(keyClass, key, currentKey);
+                if (direction == 0) {
+                    direction = tieBreakOrder(key, currentKey);
+                }
+            }
+            current = direction < 0 ? current.left : current.right;
+        }
+        Node<K, V> node = new Node<>(entry, hash, parent);
+        if (parent == null) {
+            root = node;
+        } else if (direction < 0) {
+            parent.left = node;
+        } else {
+            parent.right = node;
+        }
+        fixAfterInsertion(node);
+        size++;
+        return true;
+    }
+
+    HashMap.Entry<K, V> find(K key) {
+        Node<K, V> node = findNode(root, hash(key), key, null);
+        return node == null ? null : node.entry;
+    }
+
+    HashMap.Entry<K, V> removeKey(K key) {
+        Node<K, V> node = findNode(root, hash(key), key, null);
+        if (node == null) {
+            return null;
+        }
+        HashMap.Entry<K, V> entry = node.entry;
+        deleteNode(node);
+        return entry;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<HashMap.Entry<K, V>> iterator() {
+        return new TreeBucketIterator();
+    }
+
+    // equal hashes whose keys can not be ordered by compareTo() may sit in both subtrees
+    private Node<K, V> findNode(Node<K, V> node, int hash, K key, Class<?> keyClass) {
+        while (node != null) {
+            Node<K, V> left = node.left;
+            Node<K, V> right = node.right;
+            K nodeKey = node.entry.getKey();
+            int direction;
+            if (node.hash > hash) {
+                node = left;
+            } else if (node.hash < hash) {
+                node = right;
+            } else if (Objects.equals(nodeKey, key)) {
+                return node;
+            } else if (left == null) {
+                node = right;
+            } else if (right == null) {
+                node = left;
+            } else if ((keyClass != null || (keyClass = comparableClassFor(key)) != null)
+                    && (direction = compareComparables(keyClass, key, nodeKey)) != 0) {
+                node = direction < 0 ? left : right;
+            } else {
+                Node<K, V> found = findNode(right, hash, key, keyClass);
+                if (found != null) {
+                    return found;
+                }
+                node = left;
+            }
+        }
+        return null;
+    }
+
+    // a node with two children takes the entry of its successor and the successor is unlinked instead
+    private void deleteNode(Node<K, V> node) {
+        size--;
+        if (node.left != null && node.right != null) {
+            Node<K, V> successor = successor(node);
+            node.entry = successor.entry;
+            node.hash = successor.hash;
+            node = successor;
+        }
+        Node<K, V> replacement = node.left != null ? node.left : node.right;
+        if (replacement != null) {
+            replacement.parent = node.parent;
+            replaceChild(node, replacement);
+            node.left = node.right = node.parent = null;
+            if (node.color == BLACK) {
+                fixAfterDeletion(replacement);
+            }
+        } else if (node.parent == null) {
+            root = null;
+        } else {
+            if (node.color == BLACK) {
+                fixAfterDeletion(node);
+            }
+            if (node.parent != null) {
+                replaceChild(node, null);
+                node.parent = null;
+            }
+        }
+    }
+
+    private void replaceChild(Node<K, V> node, Node<K, V> child) {
+        if (node.parent == null) {
+            root = child;
+        } else if (node == node.parent.left) {
+            node.parent.left = child;
+        } else {
+            node.parent.right = child;
+        }
+    }
+
+    private void fixAfterInsertion(Node<K, V> node) {
+        node.color = RED;
+        while (node != null && node != root && node.parent.color == RED) {
+            Node<K, V> parent = parentOf(node);
+            Node<K, V> grandParent = parentOf(parent);
+            if (parent == leftOf(grandParent)) {
+                Node<K, V> uncle = rightOf(grandParent);
+                if (colorOf(uncle) == RED) {
+                    setColor(parent, BLACK);
+                    setColor(uncle, BLACK);
+                    setColor(grandParent, RED);
+                    node = grandParent;
+                } else {
+                    if (node == rightOf(parent)) {
+                        node = parent;
+                        rotateLeft(node);
+                    }
+                    setColor(parentOf(node), BLACK);
+                    setColor(parentOf(parentOf(node)), RED);
+                    rotateRight(parentOf(parentOf(node)));
+                }
+            } else {
+                Node<K, V> uncle = leftOf(grandParent);
+                if (colorOf(uncle) == RED) {
+                    setColor(parent, BLACK);
+                    setColor(uncle, BLACK);
+                    setColor(grandParent, RED);
+                    node = grandParent;
+                } else {
+                    if (node == leftOf(parent)) {
+                        node = parent;
+                        rotateRight(node);
+                    }
+                    setColor(parentOf(node), BLACK);
+                    setColor(parentOf(parentOf(node)), RED);
+                    rotateLeft(parentOf(parentOf(node)));
+                }
+            }
+        }
+        root.color = BLACK;
+    }
+
+    private void fixAfterDeletion(Node<K, V> node) {
+        while (node != root && colorOf(node) == BLACK) {
+            if (node == leftOf(parentOf(node))) {
+                Node<K, V> sibling = rightOf(parentOf(node));
+                if (colorOf(sibling) == RED) {
+                    setColor(sibling, BLACK);
+                    setColor(parentOf(node), RED);
+                    rotateLeft(parentOf(node));
+                    sibling = rightOf(parentOf(node));
+                }
+                if (colorOf(leftOf(sibling)) == BLACK && colorOf(rightOf(sibling)) == BLACK) {
+                    setColor(sibling, RED);
+                    node = parentOf(node);
+                } else {
+                    if (colorOf(rightOf(sibling)) == BLACK) {
+                        setColor(leftOf(sibling), BLACK);
+                        setColor(sibling, RED);
+                        rotateRight(sibling);
+                        sibling = rightOf(parentOf(node));
+                    }
+                    setColor(sibling, colorOf(parentOf(node)));
+                    setColor(parentOf(node), BLACK);
+                    setColor(rightOf(sibling), BLACK);
+                    rotateLeft(parentOf(node));
+                    node = root;
+                }
+            } else {
+                Node<K, V> sibling = leftOf(parentOf(node));
+                if (colorOf(sibling) == RED) {
+                    setColor(sibling, BLACK);
+                    setColor(parentOf(node), RED);
+                    rotateRight(parentOf(node));
+                    sibling = leftOf(parentOf(node));
+                }
+                if (colorOf(rightOf(sibling)) == BLACK && colorOf(leftOf(sibling)) == BLACK) {
+                    setColor(sibling, RED);
+                    node = parentOf(node);
+                } else {
+                    if (colorOf(leftOf(sibling)) == BLACK) {
+                        setColor(rightOf(sibling), BLACK);
+                        setColor(sibling, RED);
+                        rotateLeft(sibling);
+                        sibling = leftOf(parentOf(node));
+                    }
+                    setColor(sibling, colorOf(parentOf(node)));
+                    setColor(parentOf(node), BLACK);
+                    setColor(leftOf(sibling), BLACK);
+                    rotateRight(parentOf(node));
+                    node = root;
+                }
+            }
+        }
+        setColor(node, BLACK);
+    }
+
+    private void rotateLeft(Node<K, V> node) {
+        if (node != null) {
+            Node<K, V> right = node.right;
+            node.right = right.left;
+            if (right.left != null) {
+                right.left.parent = node;
+            }
+            right.parent = node.parent;
+            replaceChild(node, right);
+            right.left = node;
+            node.parent = right;
+        }
+    }
+
+    private void rotateRight(Node<K, V> node) {
+        if (node != null) {
+            Node<K, V> left = node.left;
+            node.left = left.right;
+            if (left.right != null) {
+                left.right.parent = node;
+            }
+            left.parent = node.parent;
+            replaceChild(node, left);
+            left.right = node;
+            node.parent = left;
+        }
+    }
+
+    private static <K, V> Node<K, V> successor(Node<K, V> node) {
+        if (node.right != null) {
+            Node<K, V> current = node.right;
+            while (current.left != null) {
+                current = current.left;
+            }
+            return current;
+        }
+        Node<K, V> current = node;
+        Node<K, V> parent = node.parent;
+        while (parent != null && current == parent.right) {
+            current = parent;
+            parent = parent.parent;
+        }
+        return parent;
+    }
+
+    private static <K, V> boolean colorOf(Node<K, V> node) {
+        return node == null ? BLACK : node.color;
+    }
+
+    private static <K, V> Node<K, V> parentOf(Node<K, V> node) {
+        return node == null ? null : node.parent;
+    }
+
+    private static <K, V> void setColor(Node<K, V> node, boolean color) {
+        if (node != null) {
+            node.color = color;
+        }
+    }
+
+    private static <K, V> Node<K, V> leftOf(Node<K, V> node) {
+        return node == null ? null : node.left;
+    }
+
+    private static <K, V> Node<K, V> rightOf(Node<K, V> node) {
+        return node == null ? null : node.right;
+    }
+
+    private static int hash(Object key) {
+        return key == null ? 0 : key.hashCode();
+    }
+
+    private static Class<?> comparableClassFor(Object key) {
+        return key instanceof Comparable ? key.getClass() : null;
+    }
+
+    // 0 when the other key is of another class or compareTo() does not accept it
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static int compareComparables(Class<?> keyClass, Object key, Object other) {
+        if (other == null || other.getClass() != keyClass) {
+            return 0;
+        }
+        try {
+            return ((Comparable) key).compareTo(other);
+        } catch (ClassCastException e) {
+            return 0;
+        }
+    }
+
+    // any consistent order is enough to place keys that compareTo() can not tell apart
+    private static int tieBreakOrder(Object first, Object second) {
+        int order;
+        if (first == null || second == null
+                || (order = first.getClass().getName().compareTo(second.getClass().getName())) == 0) {
+            order = System.identityHashCode(first) <= System.identityHashCode(second) ? -1 : 1;
+        }
+        return order;
+    }
+
+    private class TreeBucketIterator implements Iterator<HashMap.Entry<K, V>> {
+        private Node<K, V> next;
+        private Node<K, V> lastReturned;
+
+        private TreeBucketIterator() {
+            next = root;
+            if (next != null) {
+                while (next.left != null) {
+                    next = next.left;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public HashMap.Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException("Next element is not exist");
+            }
+            lastReturned = next;
+            next = successor(next);
+            return lastReturned.entry;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException("Method next() has not called before remove");
+            }
+            // deleting a node with two children moves the successor entry into it
+            if (lastReturned.left != null && lastReturned.right != null) {
+                next = lastReturned;
+            }
+            deleteNode(lastReturned);
+            lastReturned = null;
+        }
+    }
+
+    private static class Node<K, V> {
+        private HashMap.Entry<K, V> entry;
+        private int hash;
+        private Node<K, V> left;
+        private Node<K, V> right;
+        private Node<K, V> parent;
+        private boolean color = BLACK;
+
+        private Node(HashMap.Entry<K, V> entry, int hash, Node<K, V> parent) {
+            this.entry = entry;
+            this.hash = hash;
+            this.parent = parent;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.bondarenko.datastructures;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GrowthPolicyTest {
+
+    @Test
+    @DisplayName("when Grow then Every Policy Returns At Least Min Capacity")
+    public void whenGrow_thenEveryPolicyReturnsAtLeastMinCapacity() {
+        //then
+        assertEquals(25, GrowthPolicy.multiplicative(2.5).grow(10, 11));
+        assertEquals(100, GrowthPolicy.multiplicative(2.5).grow(10, 100));
+        assertEquals(1, GrowthPolicy.multiplicative(2.5).grow(0, 1));
+        assertEquals(110, GrowthPolicy.additive(100).grow(10, 11));
+        assertEquals(1_000, GrowthPolicy.additive(100).grow(10, 1_000));
+    }
+
+    @Test
+    @DisplayName("when Capped Chunk Grows Large Capacity then Step Is Capped")
+    public void whenCappedChunkGrowsLargeCapacity_thenStepIsCapped() {
+        GrowthPolicy growthPolicy = GrowthPolicy.cappedChunk(2, 1_000);
+
+        //then
+        assertEquals(20, growthPolicy.grow(10, 11));
+        assertEquals(2, growthPolicy.grow(1, 2));
+        assertEquals(1_001_000, growthPolicy.grow(1_000_000, 1_000_001));
+    }
+
+    @Test
+    @DisplayName("when Grow Near Max Int then Capacity Does Not Overflow")
+    public void whenGrowNearMaxInt_thenCapacityDoesNotOverflow() {
+        //then
+        assertEquals(Integer.MAX_VALUE, GrowthPolicy.multiplicative(2.5).grow(1 << 30, (1 << 30) + 1));
+        assertEquals(Integer.MAX_VALUE, GrowthPolicy.additive(1 << 30).grow(Integer.MAX_VALUE - 1, Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("when Shrink then Capacity Changes Only Below A Quarter")
+    public void whenShrink_thenCapacityChangesOnlyBelowAQuarter() {
+        GrowthPolicy growthPolicy = GrowthPolicy.multiplicative(2);
+
+        //then
+        assertEquals(100, growthPolicy.shrink(100, 25));
+        assertEquals(48, growthPolicy.shrink(100, 24));
+        assertEquals(0, growthPolicy.shrink(100, 0));
+    }
+
+    @Test
+    @DisplayName("when Factor Or Increment Is Not Valid then Throw Exception")
+    public void whenFactorOrIncrementIsNotValid_thenThrowException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.multiplicative(1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.additive(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.cappedChunk(2, 0));
+    }
+}
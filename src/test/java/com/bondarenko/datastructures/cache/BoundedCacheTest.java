@@ -0,0 +1,243 @@
+package com.bondarenko.datastructures.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedCacheTest {
+
+    @Test
+    @DisplayName("when Put More Entries Then Maximum Size then Size Stays At Maximum For Every Policy")
+    public void whenPutMoreEntriesThenMaximumSize_thenSizeStaysAtMaximumForEveryPolicy() {
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            Cache<Integer, String> cache = new BoundedCache<>(100, policy);
+
+            //when
+            for (int i = 0; i < 1_000; i++) {
+                cache.put(i, "value" + i);
+            }
+
+            //then
+            assertEquals(100, cache.size(), policy.name());
+            assertEquals(100, cache.weightedSize(), policy.name());
+            assertEquals(900, cache.stats().getEvictionCount(), policy.name());
+        }
+    }
+
+    @Test
+    @DisplayName("when Lru Cache Is Full then Least Recently Used Entry Is Evicted")
+    public void whenLruCacheIsFull_thenLeastRecentlyUsedEntryIsEvicted() {
+        Cache<String, String> cache = new BoundedCache<>(3, EvictionPolicy.LRU);
+        cache.put("A", "1");
+        cache.put("B", "2");
+        cache.put("C", "3");
+
+        //when
+        cache.get("A");
+        cache.put("D", "4");
+
+        //then
+        assertTrue(cache.containsKey("A"));
+        assertFalse(cache.containsKey("B"));
+        assertTrue(cache.containsKey("C"));
+        assertTrue(cache.containsKey("D"));
+    }
+
+    @Test
+    @DisplayName("when Segmented Lru Cache Is Scanned then Entries Used Twice Survive")
+    public void whenSegmentedLruCacheIsScanned_thenEntriesUsedTwiceSurvive() {
+        Cache<Integer, Integer> cache = new BoundedCache<>(100, EvictionPolicy.SEGMENTED_LRU);
+        for (int i = 0; i < 50; i++) {
+            cache.put(i, i);
+            cache.get(i);
+        }
+
+        //when
+        for (int i = 1_000; i < 2_000; i++) {
+            cache.put(i, i);
+        }
+
+        //then
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, cache.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("when Tiny Lfu Cache Gets One Time Keys then Frequent Keys Are Kept")
+    public void whenTinyLfuCacheGetsOneTimeKeys_thenFrequentKeysAreKept() {
+        Cache<Integer, Integer> cache = new BoundedCache<>(100, EvictionPolicy.W_TINY_LFU);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 80; i++) {
+                if (cache.get(i) == null) {
+                    cache.put(i, i);
+                }
+            }
+        }
+
+        //when
+        for (int i = 10_000; i < 20_000; i++) {
+            cache.put(i, i);
+        }
+
+        //then
+        int kept = 0;
+        for (int i = 0; i < 80; i++) {
+            if (cache.containsKey(i)) {
+                kept++;
+            }
+        }
+        assertTrue(kept >= 75, "kept " + kept);
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    @DisplayName("when Skewed Access then Tiny Lfu Hit Rate Is Not Lower Then Lru")
+    public void whenSkewedAccess_thenTinyLfuHitRateIsNotLowerThenLru() {
+        Cache<Integer, Integer> lru = new BoundedCache<>(500, EvictionPolicy.LRU);
+        Cache<Integer, Integer> tinyLfu = new BoundedCache<>(500, EvictionPolicy.W_TINY_LFU);
+        Random random = new Random(3);
+
+        //when
+        for (int i = 0; i < 200_000; i++) {
+            // hot keys 0..499 half of the time, a long tail otherwise
+            int key = random.nextBoolean() ? random.nextInt(500) : 500 + random.nextInt(100_000);
+            for (Cache<Integer, Integer> cache : java.util.List.of(lru, tinyLfu)) {
+                if (cache.get(key) == null) {
+                    cache.put(key, key);
+                }
+            }
+        }
+
+        //then
+        assertTrue(tinyLfu.stats().getHitRate() > lru.stats().getHitRate(),
+                tinyLfu.stats() + " " + lru.stats());
+    }
+
+    @Test
+    @DisplayName("when Weigher Is Given then Total Weight Stays Within Maximum Weight")
+    public void whenWeigherIsGiven_thenTotalWeightStaysWithinMaximumWeight() {
+        Cache<String, String> cache = new BoundedCache<>(10, EvictionPolicy.LRU, (key, value) -> value.length());
+
+        //when
+        cache.put("A", "1234");
+        cache.put("B", "1234");
+        cache.put("C", "12");
+        cache.put("D", "12345");
+
+        //then
+        assertEquals(7, cache.weightedSize());
+        assertFalse(cache.containsKey("A"));
+        assertFalse(cache.containsKey("B"));
+        assertTrue(cache.containsKey("C"));
+        assertTrue(cache.containsKey("D"));
+    }
+
+    @Test
+    @DisplayName("when Value Is Replaced then Weight Is Updated")
+    public void whenValueIsReplaced_thenWeightIsUpdated() {
+        Cache<String, String> cache = new BoundedCache<>(10, EvictionPolicy.SEGMENTED_LRU, (key, value) -> value.length());
+        cache.put("A", "12");
+        cache.put("B", "12");
+
+        //when
+        String oldValue = cache.put("A", "123456789");
+
+        //then
+        assertEquals("12", oldValue);
+        assertEquals(9, cache.weightedSize());
+        assertFalse(cache.containsKey("B"));
+        assertEquals("123456789", cache.get("A"));
+    }
+
+    @Test
+    @DisplayName("when Entry Is Heavier Then Maximum Weight then It Is Not Kept")
+    public void whenEntryIsHeavierThenMaximumWeight_thenItIsNotKept() {
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            Cache<String, String> cache = new BoundedCache<>(3, policy, (key, value) -> value.length());
+            cache.put("A", "1");
+
+            //when
+            cache.put("B", "12345");
+
+            //then
+            assertFalse(cache.containsKey("B"), policy.name());
+            assertTrue(cache.weightedSize() <= 3, policy.name());
+        }
+    }
+
+    @Test
+    @DisplayName("when Lru Cache Gets Entry Heavier Then Maximum Weight then Other Entries Stay")
+    public void whenLruCacheGetsEntryHeavierThenMaximumWeight_thenOtherEntriesStay() {
+        Cache<String, String> cache = new BoundedCache<>(3, EvictionPolicy.LRU, (key, value) -> value.length());
+        cache.put("A", "1");
+        cache.put("B", "12");
+
+        //when
+        cache.put("C", "12345");
+        String oldValue = cache.put("A", "1234");
+
+        //then
+        assertEquals("1", oldValue);
+        assertFalse(cache.containsKey("A"));
+        assertTrue(cache.containsKey("B"));
+        assertFalse(cache.containsKey("C"));
+        assertEquals(2, cache.weightedSize());
+        assertEquals(2, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("when Tiny Lfu Cache Gets Entry Heavier Then Maximum Weight then Other Entries Stay")
+    public void whenTinyLfuCacheGetsEntryHeavierThenMaximumWeight_thenOtherEntriesStay() {
+        Cache<String, String> cache = new BoundedCache<>(100, EvictionPolicy.W_TINY_LFU, (key, value) -> value.length());
+        for (int i = 0; i < 20; i++) {
+            cache.put("key" + i, "12345");
+        }
+
+        //when
+        cache.put("large", "1".repeat(101));
+
+        //then
+        assertFalse(cache.containsKey("large"));
+        assertEquals(20, cache.size());
+        assertEquals(100, cache.weightedSize());
+        assertEquals(1, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("when Get And Remove then Stats Count Hits And Misses")
+    public void whenGetAndRemove_thenStatsCountHitsAndMisses() {
+        Cache<String, String> cache = new BoundedCache<>(10);
+        cache.put("A", "1");
+
+        //when
+        cache.get("A");
+        cache.get("B");
+        String removed = cache.remove("A");
+        cache.get("A");
+
+        //then
+        CacheStats stats = cache.stats();
+        assertEquals("1", removed);
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(0, stats.getEvictionCount());
+        assertEquals(1.0 / 3, stats.getHitRate(), 1e-9);
+        assertTrue(cache.isEmpty());
+        assertEquals(0, cache.weightedSize());
+    }
+
+    @Test
+    @DisplayName("when Weigher Returns Negative Weight then Throw Exception")
+    public void whenWeigherReturnsNegativeWeight_thenThrowException() {
+        Cache<String, String> cache = new BoundedCache<>(10, EvictionPolicy.LRU, (key, value) -> -1);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            cache.put("A", "1");
+        });
+    }
+}
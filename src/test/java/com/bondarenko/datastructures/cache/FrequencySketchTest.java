@@ -0,0 +1,28 @@
+package com.bondarenko.datastructures.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrequencySketchTest {
+
+    @Test
+    @DisplayName("when Table Grows then Counts Are Kept")
+    public void whenTableGrows_thenCountsAreKept() {
+        FrequencySketch sketch = new FrequencySketch();
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("A".hashCode());
+        }
+        sketch.increment("B".hashCode());
+
+        //when
+        sketch.ensureCapacity(17);
+        sketch.ensureCapacity(1_000);
+
+        //then
+        assertTrue(sketch.frequency("A".hashCode()) >= 5);
+        assertTrue(sketch.frequency("B".hashCode()) >= 1);
+        assertTrue(sketch.frequency("A".hashCode()) > sketch.frequency("B".hashCode()));
+    }
+}
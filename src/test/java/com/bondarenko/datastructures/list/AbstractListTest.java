@@ -3,6 +3,9 @@ package com.bondarenko.datastructures.list;
 import org.junit.jupiter.api.*;
 
 import java.util.Iterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -354,6 +357,198 @@ public abstract class AbstractListTest<T> {
             list.set("D", -1);
         });
     }
-}
 
+    @Test
+    @DisplayName("when Add All Array then Values Are Appended In Order")
+    public void whenAddAllArray_thenValuesAreAppendedInOrder() {
+        //when
+        list.addAll(new String[]{"D", "E"});
+
+        //then
+        assertEquals(5, list.size());
+        assertEquals("[A,B,C,D,E]", list.toString());
+    }
+
+    @Test
+    @DisplayName("when Add All Collection By Index then Values Are Inserted At Index")
+    public void whenAddAllCollectionByIndex_thenValuesAreInsertedAtIndex() {
+        //when
+        list.addAll(java.util.List.of("D", "E"), 1);
+        list.addAll(java.util.List.of("F"), 0);
+        list.addAll(new String[0], 2);
+
+        //then
+        assertEquals(6, list.size());
+        assertEquals("[F,A,D,E,B,C]", list.toString());
+        assertEquals("E", list.get(3));
+    }
+
+    @Test
+    @DisplayName("when Add All By Index Which More Then Size then Throw Exception")
+    public void whenAddAllByIndexWhichMoreThenSize_thenThrowException() {
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+            list.addAll(new String[]{"D"}, 4);
+        });
+    }
+
+    @Test
+    @DisplayName("when Remove Range then Values Between Indexes Are Removed")
+    public void whenRemoveRange_thenValuesBetweenIndexesAreRemoved() {
+        list.addAll(new String[]{"D", "E"});
+
+        //when
+        list.removeRange(1, 3);
+
+        //then
+        assertEquals(3, list.size());
+        assertEquals("[A,D,E]", list.toString());
+        assertEquals("E", list.get(2));
+    }
+
+    @Test
+    @DisplayName("when Remove Range Is Whole List then List Is Empty")
+    public void whenRemoveRangeIsWholeList_thenListIsEmpty() {
+        //when
+        list.removeRange(0, list.size());
+
+        //then
+        assertTrue(list.isEmpty());
+        list.add("D");
+        assertEquals("[D]", list.toString());
+    }
+
+    @Test
+    @DisplayName("when Remove Range With From Index Greater Then To Index then Throw Exception")
+    public void whenRemoveRangeWithFromIndexGreaterThenToIndex_thenThrowException() {
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+            list.removeRange(2, 1);
+        });
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+            list.removeRange(0, 4);
+        });
+    }
+
+    @Test
+    @DisplayName("when Remove If then Only Matching Values Are Removed")
+    public void whenRemoveIf_thenOnlyMatchingValuesAreRemoved() {
+        list.addAll(new String[]{"A", "D", "B"});
+
+        //when
+        boolean removed = list.removeIf(value -> value.equals("A") || value.equals("B"));
+
+        //then
+        assertTrue(removed);
+        assertEquals("[C,D]", list.toString());
+        assertFalse(list.removeIf(value -> value.equals("X")));
+    }
+
+    @Test
+    @DisplayName("when To Array then Array Contains Values In Order")
+    public void whenToArray_thenArrayContainsValuesInOrder() {
+        //when
+        Object[] array = list.toArray();
+
+        //then
+        assertArrayEquals(new Object[]{"A", "B", "C"}, array);
+    }
+
+    @Test
+    @DisplayName("when Random Bulk Operations then List Behaves Like java.util.ArrayList")
+    public void whenRandomBulkOperations_thenListBehavesLikeJavaUtilArrayList() {
+        java.util.List<String> expected = new java.util.ArrayList<>(java.util.List.of("A", "B", "C"));
+        Random random = new Random(11);
+        for (int i = 0; i < 2_000; i++) {
+            int operation = random.nextInt(4);
+            if (operation < 2) {
+                int index = random.nextInt(expected.size() + 1);
+                String[] values = new String[random.nextInt(4)];
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = String.valueOf(random.nextInt(10));
+                }
+                expected.addAll(index, java.util.List.of(values));
+                list.addAll(values, index);
+            } else if (operation == 2) {
+                int from = random.nextInt(expected.size() + 1);
+                int to = from + random.nextInt(Math.min(3, expected.size() - from) + 1);
+                expected.subList(from, to).clear();
+                list.removeRange(from, to);
+            } else {
+                String digit = String.valueOf(random.nextInt(10));
+                assertEquals(expected.removeIf(digit::equals), list.removeIf(digit::equals));
+            }
+            if (!expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            }
+        }
+
+        assertArrayEquals(expected.toArray(), list.toArray());
+    }
+
+    @Test
+    @DisplayName("when Iterator Removes Values then Remaining Values Are Shifted")
+    public void whenIteratorRemovesValues_thenRemainingValuesAreShifted() {
+        Iterator<String> iterator = list.iterator();
+
+        //when
+        iterator.next();
+        iterator.remove();
+        iterator.next();
+
+        //then
+        assertEquals("[B,C]", list.toString());
+        assertEquals("C", iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    @DisplayName("when Stream then Values Are Streamed In Order")
+    public void whenStream_thenValuesAreStreamedInOrder() {
+        //when
+        String joined = list.stream().collect(Collectors.joining());
+
+        //then
+        assertEquals("ABC", joined);
+    }
+
+    @Test
+    @DisplayName("when Parallel Stream Over Many Values then Result Equals Sequential Result")
+    public void whenParallelStreamOverManyValues_thenResultEqualsSequentialResult() {
+        list.clear();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(String.valueOf(i));
+        }
 
+        //when
+        long sum = list.parallelStream().mapToLong(Long::parseLong).sum();
+        java.util.List<String> collected = list.parallelStream().collect(Collectors.toList());
+
+        //then
+        assertEquals(99_999L * 100_000 / 2, sum);
+        assertArrayEquals(list.toArray(), collected.toArray());
+    }
+
+    @Test
+    @DisplayName("when Spliterator Is Split then Parts Cover All Values Exactly Once")
+    public void whenSpliteratorIsSplit_thenPartsCoverAllValuesExactlyOnce() {
+        list.clear();
+        for (int i = 0; i < 5_000; i++) {
+            list.add(String.valueOf(i));
+        }
+        Spliterator<String> suffix = list.spliterator();
+
+        //when
+        Spliterator<String> prefix = suffix.trySplit();
+
+        //then
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED));
+        assertNotNull(prefix);
+        assertEquals(5_000, prefix.estimateSize() + suffix.estimateSize());
+        StringBuilder values = new StringBuilder();
+        prefix.forEachRemaining(values::append);
+        suffix.forEachRemaining(values::append);
+        assertEquals(String.join("", list.stream().toArray(String[]::new)), values.toString());
+    }
+}
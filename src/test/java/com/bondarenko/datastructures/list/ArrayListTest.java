@@ -1,9 +1,90 @@
 package com.bondarenko.datastructures.list;
 
+import com.bondarenko.datastructures.GrowthPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public class ArrayListTest<T> extends AbstractListTest<T> {
 
     @Override
     List<String> getList() {
         return new ArrayList<>();
     }
+
+    @Test
+    @DisplayName("when Trim To Size then Capacity Equals Size")
+    public void whenTrimToSize_thenCapacityEqualsSize() {
+        ArrayList<Integer> arrayList = new ArrayList<>(10);
+        for (int i = 0; i < 11; i++) {
+            arrayList.add(i);
+        }
+
+        //when
+        arrayList.trimToSize();
+
+        //then
+        assertEquals(11, arrayList.getCapacity());
+        assertEquals(10, arrayList.get(10));
+    }
+
+    @Test
+    @DisplayName("when Most Values Are Removed then Capacity Shrinks But Not Below Initial Capacity")
+    public void whenMostValuesAreRemoved_thenCapacityShrinksButNotBelowInitialCapacity() {
+        ArrayList<Integer> arrayList = new ArrayList<>(10);
+        for (int i = 0; i < 10_000; i++) {
+            arrayList.add(i);
+        }
+        int peakCapacity = arrayList.getCapacity();
+
+        //when
+        arrayList.removeRange(100, 10_000);
+
+        //then
+        assertTrue(arrayList.getCapacity() < peakCapacity);
+        assertEquals(200, arrayList.getCapacity());
+
+        //when
+        arrayList.clear();
+
+        //then
+        assertEquals(10, arrayList.getCapacity());
+    }
+
+    @Test
+    @DisplayName("when Add And Remove Around One Size then Capacity Does Not Change")
+    public void whenAddAndRemoveAroundOneSize_thenCapacityDoesNotChange() {
+        ArrayList<Integer> arrayList = new ArrayList<>(10);
+        for (int i = 0; i < 100; i++) {
+            arrayList.add(i);
+        }
+        int capacity = arrayList.getCapacity();
+
+        //when
+        for (int i = 0; i < 1_000; i++) {
+            arrayList.add(i);
+            arrayList.remove(arrayList.size() - 1);
+            arrayList.remove(arrayList.size() - 1);
+            arrayList.add(i);
+        }
+
+        //then
+        assertEquals(capacity, arrayList.getCapacity());
+    }
+
+    @Test
+    @DisplayName("when Growth Policy Is Additive then Capacity Grows By Increment")
+    public void whenGrowthPolicyIsAdditive_thenCapacityGrowsByIncrement() {
+        ArrayList<Integer> arrayList = new ArrayList<>(10, GrowthPolicy.additive(100));
+
+        //when
+        for (int i = 0; i < 111; i++) {
+            arrayList.add(i);
+        }
+
+        //then
+        assertEquals(210, arrayList.getCapacity());
+        assertEquals(110, arrayList.get(110));
+    }
 }
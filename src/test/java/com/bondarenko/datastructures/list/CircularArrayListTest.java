@@ -0,0 +1,81 @@
+package com.bondarenko.datastructures.list;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircularArrayListTest<T> extends AbstractListTest<T> {
+
+    @Override
+    List<String> getList() {
+        return new CircularArrayList<>();
+    }
+
+    @Test
+    @DisplayName("when Used As Queue then Capacity Does Not Grow")
+    public void whenUsedAsQueue_thenCapacityDoesNotGrow() {
+        CircularArrayList<Integer> queue = new CircularArrayList<>(10);
+        for (int i = 0; i < 5; i++) {
+            queue.add(i);
+        }
+
+        //when
+        for (int i = 5; i < 10_000; i++) {
+            queue.add(i);
+            assertEquals(i - 5, queue.remove(0));
+        }
+
+        //then
+        assertEquals(10, queue.getCapacity());
+        assertEquals(5, queue.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(9_995 + i, queue.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("when Add To The Head Past The Array Start then Values Wrap Around")
+    public void whenAddToTheHeadPastTheArrayStart_thenValuesWrapAround() {
+        CircularArrayList<Integer> circularList = new CircularArrayList<>(4);
+        circularList.add(2);
+        circularList.add(3);
+
+        //when
+        circularList.add(1, 0);
+        circularList.add(0, 0);
+        circularList.add(4);
+
+        //then
+        assertArrayEquals(new Object[]{0, 1, 2, 3, 4}, circularList.toArray());
+        assertEquals(3, circularList.indexOf(3));
+        assertEquals(4, circularList.get(4));
+    }
+
+    @Test
+    @DisplayName("when Random Operations then List Matches java.util.ArrayList")
+    public void whenRandomOperations_thenListMatchesJavaUtilArrayList() {
+        CircularArrayList<Integer> circularList = new CircularArrayList<>(1);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(11);
+
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(6);
+            if (operation < 3 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                circularList.add(i, index);
+                expected.add(index, i);
+            } else if (operation < 5) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), circularList.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), circularList.set(-i, index));
+            }
+        }
+
+        assertArrayEquals(expected.toArray(), circularList.toArray());
+    }
+}
@@ -0,0 +1,203 @@
+package com.bondarenko.datastructures.list;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.bondarenko.datastructures.list.ConcurrentLinkedQueueTest.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// shares the producer and consumer setup of ConcurrentLinkedQueueTest
+public class ConcurrentLinkedDequeTest {
+
+    @Test
+    @DisplayName("when Offer At Both Ends then Values Are Ordered First To Last")
+    public void whenOfferAtBothEnds_thenValuesAreOrderedFirstToLast() {
+        ConcurrentLinkedDeque<String> deque = new ConcurrentLinkedDeque<>();
+        assertTrue(deque.isEmpty());
+        assertNull(deque.peekFirst());
+        assertNull(deque.peekLast());
+        assertNull(deque.pollLast());
+
+        //when
+        deque.offerLast("B");
+        deque.offerFirst("A");
+        deque.offer("C");
+        deque.add("D");
+
+        //then
+        assertEquals(4, deque.size());
+        assertEquals("[A,B,C,D]", deque.toString());
+        assertTrue(deque.contains("C"));
+        assertFalse(deque.contains("E"));
+        assertEquals("A", deque.peek());
+        assertEquals("D", deque.peekLast());
+        assertEquals("D", deque.pollLast());
+        assertEquals("A", deque.poll());
+        assertEquals("C", deque.pollLast());
+        assertEquals("B", deque.pollFirst());
+        assertNull(deque.pollFirst());
+        assertTrue(deque.isEmpty());
+        assertEquals("[]", deque.toString());
+    }
+
+    @Test
+    @DisplayName("when Offer Null then Throw NullPointerException")
+    public void whenOfferNull_thenThrowNullPointerException() {
+        ConcurrentLinkedDeque<String> deque = new ConcurrentLinkedDeque<>();
+
+        //when //then
+        assertThrows(NullPointerException.class, () -> deque.offerFirst(null));
+        assertThrows(NullPointerException.class, () -> deque.offerLast(null));
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    @DisplayName("when Random Operations then Deque Behaves Like java.util.ArrayDeque")
+    public void whenRandomOperations_thenDequeBehavesLikeJavaUtilArrayDeque() {
+        ConcurrentLinkedDeque<Integer> deque = new ConcurrentLinkedDeque<>();
+        java.util.Deque<Integer> expected = new java.util.ArrayDeque<>();
+        List<Integer> drained = new ArrayList<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(7);
+            if (operation == 0) {
+                deque.offerFirst(i);
+                expected.offerFirst(i);
+            } else if (operation == 1) {
+                deque.offerLast(i);
+                expected.offerLast(i);
+            } else if (operation == 2) {
+                assertEquals(expected.pollFirst(), deque.pollFirst());
+            } else if (operation == 3) {
+                assertEquals(expected.pollLast(), deque.pollLast());
+            } else if (operation == 4) {
+                assertEquals(expected.peekFirst(), deque.peekFirst());
+                assertEquals(expected.peekLast(), deque.peekLast());
+            } else if (operation == 5) {
+                drained.clear();
+                int count = deque.drainTo(drained, 3);
+                assertEquals(Math.min(3, expected.size()), count);
+                for (Integer value : drained) {
+                    assertEquals(expected.pollFirst(), value);
+                }
+            } else {
+                deque.offerLast(i);
+                expected.offerLast(i);
+            }
+        }
+
+        assertEquals(expected.size(), deque.size());
+        assertEquals(expected.toString().replace(" ", ""), deque.toString());
+    }
+
+    @Test
+    @DisplayName("when Clear then Deque Is Empty And Takes New Values")
+    public void whenClear_thenDequeIsEmptyAndTakesNewValues() {
+        ConcurrentLinkedDeque<String> deque = new ConcurrentLinkedDeque<>();
+        deque.offerLast("A");
+        deque.offerLast("B");
+
+        //when
+        deque.clear();
+
+        //then
+        assertTrue(deque.isEmpty());
+        assertNull(deque.pollLast());
+        deque.offerFirst("C");
+        assertEquals("[C]", deque.toString());
+    }
+
+    @Test
+    @DisplayName("when Iterator Is Exhausted then Throw NoSuchElementException")
+    public void whenIteratorIsExhausted_thenThrowNoSuchElementException() {
+        ConcurrentLinkedDeque<String> deque = new ConcurrentLinkedDeque<>();
+        deque.offerLast("A");
+        deque.offerLast("B");
+        Iterator<String> iterator = deque.iterator();
+
+        //when
+        deque.offerLast("C");
+
+        //then
+        assertEquals("A", iterator.next());
+        assertEquals("B", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    @DisplayName("when Producers Offer Last And Consumers Poll First then Every Value Is Taken Once In Producer Order")
+    public void whenProducersOfferLastAndConsumersPollFirst_thenEveryValueIsTakenOnceInProducerOrder() throws Exception {
+        ConcurrentLinkedDeque<Long> deque = new ConcurrentLinkedDeque<>();
+        AtomicInteger[] taken = newCounters(PRODUCERS * VALUES_PER_PRODUCER);
+        AtomicInteger remaining = new AtomicInteger(PRODUCERS * VALUES_PER_PRODUCER);
+
+        runConcurrently(thread -> {
+            if (thread < PRODUCERS) {
+                for (int i = 0; i < VALUES_PER_PRODUCER; i++) {
+                    deque.offerLast(((long) thread << 32) | i);
+                }
+                return;
+            }
+            int[] lastSeen = newLastSeen();
+            List<Long> batch = new ArrayList<>();
+            while (remaining.get() > 0) {
+                batch.clear();
+                if ((thread & 1) == 0) {
+                    Long value = deque.pollFirst();
+                    if (value != null) {
+                        batch.add(value);
+                    }
+                } else {
+                    deque.drainTo(batch, 64);
+                }
+                for (Long value : batch) {
+                    take(value, lastSeen, taken);
+                    remaining.decrementAndGet();
+                }
+            }
+        });
+
+        assertTakenOnce(taken);
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    @DisplayName("when Threads Push And Poll At Both Ends then Every Value Is Taken Once")
+    public void whenThreadsPushAndPollAtBothEnds_thenEveryValueIsTakenOnce() throws Exception {
+        ConcurrentLinkedDeque<Long> deque = new ConcurrentLinkedDeque<>();
+        AtomicInteger[] taken = newCounters(PRODUCERS * VALUES_PER_PRODUCER);
+        AtomicInteger remaining = new AtomicInteger(PRODUCERS * VALUES_PER_PRODUCER);
+
+        runConcurrently(thread -> {
+            if (thread < PRODUCERS) {
+                for (int i = 0; i < VALUES_PER_PRODUCER; i++) {
+                    long value = ((long) thread << 32) | i;
+                    if ((i & 1) == 0) {
+                        deque.offerFirst(value);
+                    } else {
+                        deque.offerLast(value);
+                    }
+                }
+                return;
+            }
+            while (remaining.get() > 0) {
+                Long value = (thread & 1) == 0 ? deque.pollFirst() : deque.pollLast();
+                if (value != null) {
+                    taken[index(value)].incrementAndGet();
+                    remaining.decrementAndGet();
+                }
+            }
+        });
+
+        assertTakenOnce(taken);
+        assertTrue(deque.isEmpty());
+        assertEquals(0, deque.size());
+    }
+}
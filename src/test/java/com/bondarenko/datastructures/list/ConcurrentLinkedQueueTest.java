@@ -0,0 +1,275 @@
+package com.bondarenko.datastructures.list;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentLinkedQueueTest {
+    static final int PRODUCERS = 16;
+    static final int CONSUMERS = 8;
+    static final int VALUES_PER_PRODUCER = 50_000;
+
+    @Test
+    @DisplayName("when Offer And Poll then Values Come Out In Offer Order")
+    public void whenOfferAndPoll_thenValuesComeOutInOfferOrder() {
+        ConcurrentLinkedQueue<String> queue = new ConcurrentLinkedQueue<>();
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+        assertNull(queue.poll());
+
+        //when
+        queue.offer("A");
+        queue.offer("B");
+        queue.add("C");
+
+        //then
+        assertEquals(3, queue.size());
+        assertEquals("[A,B,C]", queue.toString());
+        assertTrue(queue.contains("B"));
+        assertFalse(queue.contains("D"));
+        assertEquals("A", queue.peek());
+        assertEquals("A", queue.poll());
+        assertEquals("B", queue.poll());
+        assertEquals("C", queue.peek());
+        assertEquals("C", queue.poll());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertEquals("[]", queue.toString());
+    }
+
+    @Test
+    @DisplayName("when Offer Null then Throw NullPointerException")
+    public void whenOfferNull_thenThrowNullPointerException() {
+        ConcurrentLinkedQueue<String> queue = new ConcurrentLinkedQueue<>();
+
+        //when //then
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+        assertFalse(queue.contains(null));
+    }
+
+    @Test
+    @DisplayName("when Drain To then At Most Max Values Move In Order")
+    public void whenDrainTo_thenAtMostMaxValuesMoveInOrder() {
+        ConcurrentLinkedQueue<Integer> queue = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < 10; i++) {
+            queue.offer(i);
+        }
+        List<Integer> target = new ArrayList<>();
+
+        //when
+        int drained = queue.drainTo(target, 4);
+
+        //then
+        assertEquals(4, drained);
+        assertEquals("[0,1,2,3]", target.toString());
+        assertEquals(4, queue.peek());
+        assertEquals(6, queue.drainTo(target, 100));
+        assertEquals("[0,1,2,3,4,5,6,7,8,9]", target.toString());
+        assertEquals(0, queue.drainTo(target, 100));
+        assertEquals(0, queue.drainTo(target, 0));
+        assertTrue(queue.isEmpty());
+
+        queue.offer(10);
+        assertEquals(1, queue.drainTo(target, 1));
+        queue.offer(11);
+        assertEquals(11, queue.poll());
+        assertEquals(11, target.size());
+    }
+
+    @Test
+    @DisplayName("when Clear then Queue Is Empty And Takes New Values")
+    public void whenClear_thenQueueIsEmptyAndTakesNewValues() {
+        ConcurrentLinkedQueue<String> queue = new ConcurrentLinkedQueue<>();
+        queue.offer("A");
+        queue.offer("B");
+
+        //when
+        queue.clear();
+
+        //then
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+        queue.offer("C");
+        assertEquals("[C]", queue.toString());
+        assertEquals("C", queue.poll());
+    }
+
+    @Test
+    @DisplayName("when Iterator Is Exhausted then Throw NoSuchElementException")
+    public void whenIteratorIsExhausted_thenThrowNoSuchElementException() {
+        ConcurrentLinkedQueue<String> queue = new ConcurrentLinkedQueue<>();
+        queue.offer("A");
+        Iterator<String> iterator = queue.iterator();
+
+        //when
+        assertEquals("A", iterator.next());
+
+        //then
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    @DisplayName("when Values Are Polled During Iteration then Iterator Skips Them")
+    public void whenValuesArePolledDuringIteration_thenIteratorSkipsThem() {
+        ConcurrentLinkedQueue<String> queue = new ConcurrentLinkedQueue<>();
+        queue.offer("A");
+        queue.offer("B");
+        queue.offer("C");
+        Iterator<String> iterator = queue.iterator();
+
+        //when
+        queue.poll();
+        queue.poll();
+        queue.offer("D");
+
+        //then
+        assertEquals("A", iterator.next());
+        assertEquals("C", iterator.next());
+        assertEquals("D", iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    @DisplayName("when Producers And Consumers Run Concurrently then Every Value Is Taken Once In Producer Order")
+    public void whenProducersAndConsumersRunConcurrently_thenEveryValueIsTakenOnceInProducerOrder() throws Exception {
+        ConcurrentLinkedQueue<Long> queue = new ConcurrentLinkedQueue<>();
+        AtomicInteger[] taken = newCounters(PRODUCERS * VALUES_PER_PRODUCER);
+        AtomicInteger remaining = new AtomicInteger(PRODUCERS * VALUES_PER_PRODUCER);
+
+        runConcurrently(thread -> {
+            if (thread < PRODUCERS) {
+                for (int i = 0; i < VALUES_PER_PRODUCER; i++) {
+                    queue.offer(((long) thread << 32) | i);
+                }
+                return;
+            }
+            // a consumer must see the values of one producer in the order they were offered
+            int[] lastSeen = newLastSeen();
+            List<Long> batch = new ArrayList<>();
+            while (remaining.get() > 0) {
+                batch.clear();
+                if ((thread & 1) == 0) {
+                    Long value = queue.poll();
+                    if (value != null) {
+                        batch.add(value);
+                    }
+                } else {
+                    queue.drainTo(batch, 64);
+                }
+                for (Long value : batch) {
+                    take(value, lastSeen, taken);
+                    remaining.decrementAndGet();
+                }
+            }
+        });
+
+        assertTakenOnce(taken);
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    @DisplayName("when Producers Race With Clear then Values Are Either Cleared Or Taken Once")
+    public void whenProducersRaceWithClear_thenValuesAreEitherClearedOrTakenOnce() throws Exception {
+        ConcurrentLinkedQueue<Long> queue = new ConcurrentLinkedQueue<>();
+        AtomicInteger[] taken = newCounters(PRODUCERS * VALUES_PER_PRODUCER);
+
+        runConcurrently(thread -> {
+            if (thread < PRODUCERS) {
+                for (int i = 0; i < VALUES_PER_PRODUCER; i++) {
+                    queue.offer(((long) thread << 32) | i);
+                }
+            } else if (thread == PRODUCERS) {
+                for (int i = 0; i < 1_000; i++) {
+                    queue.clear();
+                }
+            } else {
+                int[] lastSeen = newLastSeen();
+                for (int i = 0; i < VALUES_PER_PRODUCER; i++) {
+                    Long value = queue.poll();
+                    if (value != null) {
+                        take(value, lastSeen, taken);
+                    }
+                }
+            }
+        });
+
+        for (AtomicInteger counter : taken) {
+            assertTrue(counter.get() <= 1);
+        }
+        for (Long value : queue) {
+            assertEquals(0, taken[index(value)].get());
+        }
+    }
+
+    static AtomicInteger[] newCounters(int size) {
+        AtomicInteger[] counters = new AtomicInteger[size];
+        for (int i = 0; i < size; i++) {
+            counters[i] = new AtomicInteger();
+        }
+        return counters;
+    }
+
+    static int[] newLastSeen() {
+        int[] lastSeen = new int[PRODUCERS];
+        java.util.Arrays.fill(lastSeen, -1);
+        return lastSeen;
+    }
+
+    static void take(long value, int[] lastSeen, AtomicInteger[] taken) {
+        int producer = (int) (value >>> 32);
+        int sequence = (int) value;
+        assertTrue(sequence > lastSeen[producer], "Values of producer " + producer + " are out of order");
+        lastSeen[producer] = sequence;
+        taken[index(value)].incrementAndGet();
+    }
+
+    static void assertTakenOnce(AtomicInteger[] taken) {
+        for (int i = 0; i < taken.length; i++) {
+            assertEquals(1, taken[i].get(), "Value " + i + " was not taken exactly once");
+        }
+    }
+
+    static int index(long value) {
+        return (int) (value >>> 32) * VALUES_PER_PRODUCER + (int) value;
+    }
+
+    static void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            java.util.List<Future<?>> futures = new java.util.ArrayList<>();
+            for (int thread = 0; thread < PRODUCERS + CONSUMERS; thread++) {
+                int threadNumber = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(threadNumber);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    interface ThreadTask {
+        void run(int thread);
+    }
+}
@@ -0,0 +1,133 @@
+package com.bondarenko.datastructures.list;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CopyOnWriteArrayListTest<T> extends AbstractListTest<T> {
+
+    @Override
+    List<String> getList() {
+        return new CopyOnWriteArrayList<>();
+    }
+
+    // a snapshot iterator can not remove, as java.util.concurrent.CopyOnWriteArrayList
+    @Override
+    @Test
+    @DisplayName("test Iterator Remove")
+    public void testIteratorRemove() {
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+
+        Assertions.assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertEquals(3, list.size());
+    }
+
+    @Override
+    @Test
+    @DisplayName("when Iterator Removes Values then Throw Exception")
+    public void whenIteratorRemovesValues_thenRemainingValuesAreShifted() {
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+
+        Assertions.assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    @DisplayName("when List Changes During Iteration then Iterator Sees Its Snapshot")
+    public void whenListChangesDuringIteration_thenIteratorSeesItsSnapshot() {
+        Iterator<String> iterator = list.iterator();
+
+        //when
+        list.add("D");
+        list.remove(0);
+        list.set("X", 0);
+
+        //then
+        assertEquals("A", iterator.next());
+        assertEquals("B", iterator.next());
+        assertEquals("C", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals("[X,C,D]", list.toString());
+    }
+
+    @Test
+    @DisplayName("when Readers Iterate While Writer Appends then Every Snapshot Is A Consistent Prefix")
+    public void whenReadersIterateWhileWriterAppends_thenEverySnapshotIsAConsistentPrefix() throws Exception {
+        CopyOnWriteArrayList<Integer> sharedList = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    sharedList.add(i);
+                }
+            });
+            java.util.List<Future<?>> readers = new java.util.ArrayList<>();
+            for (int reader = 0; reader < 3; reader++) {
+                readers.add(executor.submit(() -> {
+                    while (!writer.isDone()) {
+                        int expected = 0;
+                        for (Integer value : sharedList) {
+                            assertEquals(expected++, value);
+                        }
+                    }
+                }));
+            }
+
+            writer.get(10, TimeUnit.SECONDS);
+            for (Future<?> reader : readers) {
+                reader.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2_000, sharedList.size());
+    }
+
+    @Test
+    @DisplayName("when Writers Add Batches Concurrently then Every Batch Is Appended Whole")
+    public void whenWritersAddBatchesConcurrently_thenEveryBatchIsAppendedWhole() throws Exception {
+        CopyOnWriteArrayList<Integer> sharedList = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            java.util.List<Future<?>> writers = new java.util.ArrayList<>();
+            for (int writer = 0; writer < 4; writer++) {
+                int first = writer * 10_000;
+                writers.add(executor.submit(() -> {
+                    for (int i = first; i < first + 2_000; i += 4) {
+                        if (i % 8 == 0) {
+                            sharedList.addAll(new Integer[]{i, i + 1, i + 2, i + 3});
+                        } else {
+                            sharedList.addAll(java.util.List.of(i, i + 1, i + 2, i + 3));
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> writer : writers) {
+                writer.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //then
+        assertEquals(2_000 * 4, sharedList.size());
+        for (int i = 0; i < sharedList.size(); i += 4) {
+            int first = sharedList.get(i);
+            assertEquals(0, first % 4);
+            for (int j = 1; j < 4; j++) {
+                assertEquals(first + j, sharedList.get(i + j));
+            }
+        }
+    }
+}
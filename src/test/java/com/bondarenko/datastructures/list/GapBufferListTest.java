@@ -0,0 +1,69 @@
+package com.bondarenko.datastructures.list;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GapBufferListTest<T> extends AbstractListTest<T> {
+
+    @Override
+    List<String> getList() {
+        return new GapBufferList<>();
+    }
+
+    @Test
+    @DisplayName("when Insert At Cursor then Gap Follows The Cursor")
+    public void whenInsertAtCursor_thenGapFollowsTheCursor() {
+        GapBufferList<Character> buffer = new GapBufferList<>();
+        for (char c : "Hello world".toCharArray()) {
+            buffer.add(c);
+        }
+
+        //when
+        int cursor = 5;
+        for (char c : ", dear".toCharArray()) {
+            buffer.add(c, cursor++);
+        }
+        buffer.remove(cursor - 1);
+
+        //then
+        assertEquals(cursor - 1, buffer.getGapStart());
+        StringBuilder text = new StringBuilder();
+        for (Character c : buffer) {
+            text.append(c);
+        }
+        assertEquals("Hello, dea world", text.toString());
+        assertEquals('w', buffer.get(11));
+    }
+
+    @Test
+    @DisplayName("when Random Operations then List Matches java.util.ArrayList")
+    public void whenRandomOperations_thenListMatchesJavaUtilArrayList() {
+        GapBufferList<Integer> buffer = new GapBufferList<>(0);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(13);
+
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(6);
+            if (operation < 3 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                buffer.add(i, index);
+                expected.add(index, i);
+            } else if (operation < 5) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), buffer.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), buffer.set(-i, index));
+            }
+        }
+
+        assertArrayEquals(expected.toArray(), buffer.toArray());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), buffer.get(i));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.bondarenko.datastructures.list;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedArrayListTest<T> extends AbstractListTest<T> {
+
+    @Override
+    List<String> getList() {
+        return new IndexedArrayList<>();
+    }
+
+    @Test
+    @DisplayName("when Only Add then Index Is Not Built Until First Lookup")
+    public void whenOnlyAdd_thenIndexIsNotBuiltUntilFirstLookup() {
+        IndexedArrayList<Integer> indexedList = new IndexedArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            indexedList.add(i);
+        }
+        assertFalse(indexedList.isIndexed());
+
+        //when
+        boolean contains = indexedList.contains(42);
+
+        //then
+        assertTrue(contains);
+        assertTrue(indexedList.isIndexed());
+    }
+
+    @Test
+    @DisplayName("when Append Set And Remove Last then Index Is Kept Up To Date")
+    public void whenAppendSetAndRemoveLast_thenIndexIsKeptUpToDate() {
+        IndexedArrayList<String> indexedList = new IndexedArrayList<>();
+        indexedList.addAll(new String[]{"A", "B", "A", null});
+        assertEquals(2, indexedList.lastIndexOf("A"));
+
+        //when
+        indexedList.add("A");
+        indexedList.set("C", 0);
+        indexedList.remove(4);
+        indexedList.add("B");
+
+        //then
+        assertTrue(indexedList.isIndexed());
+        assertEquals(2, indexedList.indexOf("A"));
+        assertEquals(2, indexedList.lastIndexOf("A"));
+        assertEquals(1, indexedList.indexOf("B"));
+        assertEquals(4, indexedList.lastIndexOf("B"));
+        assertEquals(0, indexedList.indexOf("C"));
+        assertEquals(3, indexedList.indexOf(null));
+        assertFalse(indexedList.contains("D"));
+    }
+
+    @Test
+    @DisplayName("when Random Operations then Lookups Match java.util.ArrayList")
+    public void whenRandomOperations_thenLookupsMatchJavaUtilArrayList() {
+        IndexedArrayList<Integer> indexedList = new IndexedArrayList<>();
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 20_000; i++) {
+            Integer value = random.nextInt(10) == 0 ? null : random.nextInt(200);
+            int operation = random.nextInt(10);
+            if (operation < 4 || expected.isEmpty()) {
+                indexedList.add(value);
+                expected.add(value);
+            } else if (operation == 4) {
+                int index = random.nextInt(expected.size() + 1);
+                indexedList.add(value, index);
+                expected.add(index, value);
+            } else if (operation == 5) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, value), indexedList.set(value, index));
+            } else if (operation == 6) {
+                int index = random.nextInt(10) < 8 ? expected.size() - 1 : random.nextInt(expected.size());
+                assertEquals(expected.remove(index), indexedList.remove(index));
+            } else {
+                assertEquals(expected.indexOf(value), indexedList.indexOf(value));
+                assertEquals(expected.lastIndexOf(value), indexedList.lastIndexOf(value));
+                assertEquals(expected.contains(value), indexedList.contains(value));
+            }
+        }
+
+        assertEquals(expected.size(), indexedList.size());
+        for (int value = 0; value < 200; value++) {
+            assertEquals(expected.indexOf(value), indexedList.indexOf(value));
+            assertEquals(expected.lastIndexOf(value), indexedList.lastIndexOf(value));
+        }
+    }
+
+    @Test
+    @DisplayName("when Clear And RemoveIf then Lookups Reflect The New Content")
+    public void whenClearAndRemoveIf_thenLookupsReflectTheNewContent() {
+        IndexedArrayList<Integer> indexedList = new IndexedArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            indexedList.add(i);
+        }
+        assertTrue(indexedList.contains(5));
+
+        //when
+        indexedList.removeIf(value -> value % 2 == 1);
+
+        //then
+        assertFalse(indexedList.contains(5));
+        assertEquals(2, indexedList.indexOf(4));
+
+        //when
+        indexedList.clear();
+
+        //then
+        assertFalse(indexedList.contains(4));
+        assertEquals(-1, indexedList.indexOf(0));
+    }
+}
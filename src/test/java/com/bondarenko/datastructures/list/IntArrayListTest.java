@@ -0,0 +1,160 @@
+package com.bondarenko.datastructures.list;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntArrayListTest {
+
+    IntArrayList list = new IntArrayList();
+
+    @BeforeEach
+    public void initEach() {
+        list.add(1);
+        list.add(2);
+        list.add(3);
+    }
+
+    @Test
+    @DisplayName("test Add To The End")
+    public void testAddToTheEnd() {
+        //when
+        list.add(4);
+
+        //then
+        assertEquals(4, list.size());
+        assertEquals(4, list.get(3));
+    }
+
+    @Test
+    @DisplayName("test Add By Index")
+    public void testAddByIndex() {
+        //when
+        list.add(4, 0);
+        list.add(5, 2);
+
+        //then
+        assertEquals("[4,1,5,2,3]", list.toString());
+    }
+
+    @Test
+    @DisplayName("test Add All")
+    public void testAddAll() {
+        //when
+        list.addAll(new int[]{4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+        //then
+        assertEquals(12, list.size());
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12}, list.toArray());
+    }
+
+    @Test
+    @DisplayName("when Remove By Index Then Removed Value Returned")
+    public void whenRemoveByIndex_ThenRemovedValueReturned() {
+        //when
+        int removedValue = list.remove(1);
+
+        //then
+        assertEquals(2, removedValue);
+        assertEquals("[1,3]", list.toString());
+    }
+
+    @Test
+    @DisplayName("when Set By Index Then Old Value Returned")
+    public void whenSetByIndex_ThenOldValueReturned() {
+        //when
+        int oldValue = list.set(5, 0);
+
+        //then
+        assertEquals(1, oldValue);
+        assertEquals(5, list.get(0));
+    }
+
+    @Test
+    @DisplayName("test Index Of And Last Index Of")
+    public void testIndexOfAndLastIndexOf() {
+        //when
+        list.add(1);
+
+        //then
+        assertEquals(0, list.indexOf(1));
+        assertEquals(3, list.lastIndexOf(1));
+        assertEquals(-1, list.indexOf(7));
+        assertTrue(list.contains(3));
+        assertFalse(list.contains(7));
+    }
+
+    @Test
+    @DisplayName("test Clear")
+    public void testClear() {
+        //when
+        list.clear();
+
+        //then
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.toArray().length);
+    }
+
+    @Test
+    @DisplayName("test Iterator Next And Remove")
+    public void testIteratorNextAndRemove() {
+        PrimitiveIterator.OfInt iterator = list.iterator();
+
+        //when
+        assertEquals(1, iterator.nextInt());
+        iterator.remove();
+        assertEquals(2, iterator.nextInt());
+
+        //then
+        assertEquals("[2,3]", list.toString());
+        assertTrue(iterator.hasNext());
+    }
+
+    @Test
+    @DisplayName("when Capacity Of Array Is Not Enough Then Grow Capacity Of Array")
+    public void whenCapacityOfArray_IsNotEnough_ThenGrowCapacityOfArray() {
+        //prepare
+        IntArrayList intArrayList = new IntArrayList(10);
+
+        //when
+        for (int i = 0; i < 11; i++) {
+            intArrayList.add(i);
+        }
+
+        //then
+        assertEquals(25, intArrayList.getCapacity());
+    }
+
+    @Test
+    @DisplayName("when Initial Capacity Is Zero Then Add Grows Capacity")
+    public void whenInitialCapacityIsZero_ThenAddGrowsCapacity() {
+        IntArrayList intArrayList = new IntArrayList(0);
+
+        intArrayList.add(1);
+
+        assertEquals(1, intArrayList.get(0));
+    }
+
+    @Test
+    @DisplayName("when Get By Index Which More Then Size Minus One Then Throw Exception")
+    public void whenGetByIndexWhichMore_ThenSizeMinusOneThenThrowException() {
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+            list.get(list.size());
+        });
+    }
+
+    @Test
+    @DisplayName("when Add By Index Which More Then Size Then Throw Exception")
+    public void whenAddByIndexWhichMore_ThenSizeThenThrowException() {
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+            list.add(4, list.size() + 1);
+        });
+    }
+}
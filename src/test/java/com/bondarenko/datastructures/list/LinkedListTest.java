@@ -1,9 +1,161 @@
 package com.bondarenko.datastructures.list;
 
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public class LinkedListTest<T> extends AbstractListTest<T> {
 
     @Override
     List<String> getList() {
         return new LinkedList<>();
     }
+
+    @Test
+    @DisplayName("test Add By Index In The Middle")
+    public void testAddByIndexInTheMiddle() {
+        //when
+        list.add("D", 1);
+        list.add("E", 3);
+
+        //then
+        assertEquals(5, list.size());
+        assertEquals("[A,D,B,E,C]", list.toString());
+        assertEquals(3, list.lastIndexOf("E"));
+    }
+
+    @Test
+    @DisplayName("when Iterator Removes Value then Exactly That Value Is Removed")
+    public void whenIteratorRemovesValue_thenExactlyThatValueIsRemoved() {
+        Iterator<String> iterator = list.iterator();
+
+        //when
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+
+        //then
+        assertEquals("[A,C]", list.toString());
+        assertEquals("C", iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    @DisplayName("when Get By Sequential Index After Modifications then Values Are Correct")
+    public void whenGetBySequentialIndexAfterModifications_thenValuesAreCorrect() {
+        LinkedList<Integer> linkedList = new LinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            linkedList.add(i);
+        }
+
+        for (int i = 0; i < linkedList.size(); i++) {
+            assertEquals(i, linkedList.get(i));
+        }
+        linkedList.get(50);
+        linkedList.remove(10);
+        linkedList.add(-1, 20);
+        linkedList.remove(50);
+
+        assertEquals(48, linkedList.get(48));
+        assertEquals(51, linkedList.get(50));
+        assertEquals(-1, linkedList.get(20));
+        assertEquals(11, linkedList.get(10));
+    }
+
+    @Test
+    @DisplayName("when Random Positional Operations then List Behaves Like java.util.ArrayList")
+    public void whenRandomPositionalOperations_thenListBehavesLikeJavaUtilArrayList() {
+        LinkedList<Integer> linkedList = new LinkedList<>();
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(5);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                linkedList.add(i, index);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), linkedList.remove(index));
+            } else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), linkedList.set(-i, index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), linkedList.get(index));
+            }
+        }
+
+        assertEquals(expected.size(), linkedList.size());
+        assertEquals(expected.toString().replace(" ", ""), linkedList.toString());
+    }
+
+    @Test
+    @DisplayName("when Random Deque Operations then List Behaves Like java.util.ArrayDeque")
+    public void whenRandomDequeOperations_thenListBehavesLikeJavaUtilArrayDeque() {
+        Deque<Integer> deque = new LinkedList<>();
+        java.util.Deque<Integer> expected = new java.util.ArrayDeque<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(6);
+            if (operation == 0) {
+                assertTrue(deque.offerFirst(i));
+                expected.offerFirst(i);
+            } else if (operation == 1) {
+                assertTrue(deque.offer(i));
+                expected.offerLast(i);
+            } else if (operation == 2) {
+                assertEquals(expected.pollFirst(), deque.poll());
+            } else if (operation == 3) {
+                assertEquals(expected.pollLast(), deque.pollLast());
+            } else if (operation == 4) {
+                assertEquals(expected.peekFirst(), deque.peek());
+            } else {
+                assertEquals(expected.peekLast(), deque.peekLast());
+            }
+        }
+
+        assertEquals(expected.size(), deque.size());
+        assertEquals(expected.toString().replace(" ", ""), deque.toString());
+    }
+
+    @Test
+    @DisplayName("when Drain To then At Most Max Values Move From The Head")
+    public void whenDrainTo_thenAtMostMaxValuesMoveFromTheHead() {
+        LinkedList<String> queue = new LinkedList<>();
+        queue.addAll(new String[]{"A", "B", "C"});
+        List<String> target = new ArrayList<>();
+
+        //when
+        int drained = queue.drainTo(target, 2);
+
+        //then
+        assertEquals(2, drained);
+        assertEquals("[A,B]", target.toString());
+        assertEquals("[C]", queue.toString());
+        assertEquals(1, queue.drainTo(target, 10));
+        assertEquals(0, queue.drainTo(target, 10));
+        assertNull(queue.poll());
+        assertNull(queue.peekLast());
+    }
+
+    @Test
+    @DisplayName("when Drain To With Null Value then Null Is Moved Like Any Other Value")
+    public void whenDrainToWithNullValue_thenNullIsMovedLikeAnyOtherValue() {
+        LinkedList<String> queue = new LinkedList<>();
+        queue.addAll(new String[]{"A", null, "C"});
+        List<String> target = new ArrayList<>();
+
+        //when
+        int drained = queue.drainTo(target, 10);
+
+        //then
+        assertEquals(3, drained);
+        assertEquals("[A,null,C]", target.toString());
+        assertTrue(queue.isEmpty());
+    }
 }
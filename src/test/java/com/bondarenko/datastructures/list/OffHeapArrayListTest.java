@@ -0,0 +1,201 @@
+package com.bondarenko.datastructures.list;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapArrayListTest<T> extends AbstractListTest<T> {
+
+    @Override
+    List<String> getList() {
+        return new OffHeapArrayList<>(new StringCodec(8));
+    }
+
+    @Test
+    @DisplayName("when Add More Values Then Capacity then Capacity Grows Like ArrayList")
+    public void whenAddMoreValuesThenCapacity_thenCapacityGrowsLikeArrayList() {
+        OffHeapArrayList<Long> offHeapList = new OffHeapArrayList<>(Codec.ofLong(), 10);
+
+        //when
+        for (long i = 0; i < 11; i++) {
+            offHeapList.add(i);
+        }
+
+        //then
+        assertEquals(25, offHeapList.getCapacity());
+        for (int i = 0; i < 11; i++) {
+            assertEquals(i, offHeapList.get(i));
+        }
+        offHeapList.close();
+    }
+
+    @Test
+    @DisplayName("when Add And Remove In The Middle then Values Are Shifted")
+    public void whenAddAndRemoveInTheMiddle_thenValuesAreShifted() {
+        try (OffHeapArrayList<Integer> offHeapList = new OffHeapArrayList<>(Codec.ofInt(), 2)) {
+            for (int i = 0; i < 100; i++) {
+                offHeapList.add(i);
+            }
+
+            //when
+            offHeapList.add(-1, 50);
+            offHeapList.remove(10);
+            offHeapList.removeRange(0, 5);
+
+            //then
+            assertEquals(95, offHeapList.size());
+            assertEquals(5, offHeapList.get(0));
+            assertEquals(11, offHeapList.get(5));
+            assertEquals(-1, offHeapList.get(44));
+            assertEquals(99, offHeapList.get(94));
+        }
+    }
+
+    @Test
+    @DisplayName("when Values Span Many Chunks then Adds And Removes Across Chunk Boundaries Keep Order")
+    public void whenValuesSpanManyChunks_thenAddsAndRemovesAcrossChunkBoundariesKeepOrder() {
+        // 8 ints per chunk
+        try (OffHeapArrayList<Integer> offHeapList = new OffHeapArrayList<>(Codec.ofInt(), 2, 2.5, 32)) {
+            java.util.List<Integer> expected = new java.util.ArrayList<>();
+            Random random = new Random(42);
+
+            //when
+            for (int i = 0; i < 2_000; i++) {
+                int operation = random.nextInt(4);
+                if (operation < 2 || expected.isEmpty()) {
+                    int index = random.nextInt(expected.size() + 1);
+                    offHeapList.add(i, index);
+                    expected.add(index, i);
+                } else if (operation == 2) {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index), offHeapList.remove(index));
+                } else {
+                    int from = random.nextInt(expected.size());
+                    int to = Math.min(expected.size(), from + random.nextInt(20));
+                    offHeapList.removeRange(from, to);
+                    expected.subList(from, to).clear();
+                }
+            }
+
+            //then
+            assertEquals(expected.size(), offHeapList.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), offHeapList.get(i));
+            }
+            assertTrue(offHeapList.getChunkCount() > 1);
+            assertEquals(offHeapList.getChunkCount() * 8, offHeapList.getCapacity());
+        }
+    }
+
+    @Test
+    @DisplayName("when Initial Capacity Is Larger Then One Chunk then Whole Chunks Are Allocated")
+    public void whenInitialCapacityIsLargerThenOneChunk_thenWholeChunksAreAllocated() {
+        try (OffHeapArrayList<Long> offHeapList = new OffHeapArrayList<>(Codec.ofLong(), 20, 2.5, 64)) {
+            //when
+            for (long i = 0; i < 25; i++) {
+                offHeapList.add(i);
+            }
+
+            //then
+            assertEquals(4, offHeapList.getChunkCount());
+            assertEquals(32, offHeapList.getCapacity());
+            assertEquals(24L, offHeapList.get(24));
+        }
+    }
+
+    @Test
+    @DisplayName("when Codec Rejects Value then List Is Unchanged")
+    public void whenCodecRejectsValue_thenListIsUnchanged() {
+        try (OffHeapArrayList<Integer> offHeapList = new OffHeapArrayList<>(Codec.ofInt())) {
+            offHeapList.add(1);
+            offHeapList.add(2);
+            offHeapList.add(3);
+
+            //when
+            NullPointerException exception = Assertions.assertThrows(NullPointerException.class, () -> {
+                offHeapList.add(null, 0);
+            });
+            Assertions.assertThrows(NullPointerException.class, () -> {
+                offHeapList.add(null, 1);
+            });
+            Assertions.assertThrows(NullPointerException.class, () -> {
+                offHeapList.add(null);
+            });
+
+            //then
+            assertEquals("Int codec does not take null values", exception.getMessage());
+            assertEquals(3, offHeapList.size());
+            assertEquals("[1,2,3]", offHeapList.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("when Closed then Operations Throw Exception")
+    public void whenClosed_thenOperationsThrowException() {
+        OffHeapArrayList<Integer> offHeapList = new OffHeapArrayList<>(Codec.ofInt());
+        offHeapList.add(1);
+
+        //when
+        offHeapList.close();
+        offHeapList.close();
+
+        //then
+        assertEquals(0, offHeapList.size());
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            offHeapList.add(2);
+        });
+    }
+
+    @Test
+    @DisplayName("when Codec Width Is Not Positive then Throw Exception")
+    public void whenCodecWidthIsNotPositive_thenThrowException() {
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new OffHeapArrayList<>(new StringCodec(-1));
+        });
+    }
+
+    // length prefix followed by up to maxLength chars, length -1 stands for null
+    private static class StringCodec implements Codec<String> {
+        private final int maxLength;
+
+        private StringCodec(int maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public int width() {
+            return Short.BYTES + maxLength * Character.BYTES;
+        }
+
+        @Override
+        public void write(String value, ByteBuffer buffer, int offset) {
+            if (value == null) {
+                buffer.putShort(offset, (short) -1);
+                return;
+            }
+            buffer.putShort(offset, (short) value.length());
+            for (int i = 0; i < value.length(); i++) {
+                buffer.putChar(offset + Short.BYTES + i * Character.BYTES, value.charAt(i));
+            }
+        }
+
+        @Override
+        public String read(ByteBuffer buffer, int offset) {
+            int length = buffer.getShort(offset);
+            if (length == -1) {
+                return null;
+            }
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = buffer.getChar(offset + Short.BYTES + i * Character.BYTES);
+            }
+            return new String(chars);
+        }
+    }
+}
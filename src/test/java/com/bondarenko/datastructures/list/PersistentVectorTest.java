@@ -0,0 +1,115 @@
+package com.bondarenko.datastructures.list;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistentVectorTest {
+
+    @Test
+    @DisplayName("when Append Past Several Trie Levels then Every Value Is Found")
+    public void whenAppendPastSeveralTrieLevels_thenEveryValueIsFound() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+
+        //when
+        for (int i = 0; i < 40_000; i++) {
+            vector = vector.append(i);
+        }
+
+        //then
+        assertEquals(40_000, vector.size());
+        for (int i = 0; i < 40_000; i++) {
+            assertEquals(i, vector.get(i));
+        }
+        int expected = 0;
+        for (Integer value : vector) {
+            assertEquals(expected++, value);
+        }
+        assertEquals(40_000, expected);
+        assertEquals(33_000, vector.indexOf(33_000));
+        assertFalse(vector.contains(40_000));
+    }
+
+    @Test
+    @DisplayName("when Update then Old Version Is Not Changed")
+    public void whenUpdate_thenOldVersionIsNotChanged() {
+        PersistentVector<String> vector = PersistentVector.of("A", "B", "C");
+        for (int i = 0; i < 100; i++) {
+            vector = vector.append("V" + i);
+        }
+
+        //when
+        PersistentVector<String> updated = vector.update("X", 1).update("Y", 102);
+
+        //then
+        assertEquals("B", vector.get(1));
+        assertEquals("V99", vector.get(102));
+        assertEquals("X", updated.get(1));
+        assertEquals("Y", updated.get(102));
+        assertEquals(vector.size(), updated.size());
+    }
+
+    @Test
+    @DisplayName("when Remove Last Down To Empty then Every Version Keeps Its Values")
+    public void whenRemoveLastDownToEmpty_thenEveryVersionKeepsItsValues() {
+        PersistentVector<Integer> full = PersistentVector.empty();
+        for (int i = 0; i < 2_000; i++) {
+            full = full.append(i);
+        }
+
+        //when
+        PersistentVector<Integer> vector = full;
+        for (int size = 2_000; size > 0; size--) {
+            assertEquals(size - 1, vector.get(size - 1));
+            vector = vector.removeLast();
+            assertEquals(size - 1, vector.size());
+        }
+
+        //then
+        assertTrue(vector.isEmpty());
+        assertEquals(1_999, full.get(1_999));
+        assertEquals(1_500, full.removeLast().removeLast().append(-1).lastIndexOf(1_500));
+        Assertions.assertThrows(IllegalStateException.class, vector::removeLast);
+    }
+
+    @Test
+    @DisplayName("when Random Operations then Vector Matches java.util.ArrayList")
+    public void whenRandomOperations_thenVectorMatchesJavaUtilArrayList() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(17);
+
+        for (int i = 0; i < 50_000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 6 || expected.isEmpty()) {
+                vector = vector.append(i);
+                expected.add(i);
+            } else if (operation < 8) {
+                int index = random.nextInt(expected.size());
+                vector = vector.update(-i, index);
+                expected.set(index, -i);
+            } else {
+                vector = vector.removeLast();
+                expected.remove(expected.size() - 1);
+            }
+        }
+
+        assertArrayEquals(expected.toArray(), vector.toArray());
+    }
+
+    @Test
+    @DisplayName("when Change In Place then Throw Exception")
+    public void whenChangeInPlace_thenThrowException() {
+        PersistentVector<String> vector = PersistentVector.of("A");
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> vector.add("B"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> vector.set("B", 0));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> vector.remove(0));
+        Assertions.assertThrows(UnsupportedOperationException.class, vector::clear);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> vector.get(1));
+    }
+}
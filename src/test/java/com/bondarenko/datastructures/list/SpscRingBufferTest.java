@@ -0,0 +1,240 @@
+package com.bondarenko.datastructures.list;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpscRingBufferTest {
+
+    @Test
+    @DisplayName("when Create then Capacity Is Rounded Up To A Power Of Two")
+    public void whenCreate_thenCapacityIsRoundedUpToAPowerOfTwo() {
+        //when //then
+        assertEquals(2, new SpscRingBuffer<String>(0).getCapacity());
+        assertEquals(8, new SpscRingBuffer<String>(8).getCapacity());
+        assertEquals(16, new SpscRingBuffer<String>(9).getCapacity());
+    }
+
+    @Test
+    @DisplayName("when Offer And Poll then Values Come Out In Offer Order")
+    public void whenOfferAndPoll_thenValuesComeOutInOfferOrder() {
+        SpscRingBuffer<String> ringBuffer = new SpscRingBuffer<>(4);
+        assertTrue(ringBuffer.isEmpty());
+        assertNull(ringBuffer.poll());
+        assertNull(ringBuffer.peek());
+
+        //when
+        ringBuffer.offer("A");
+        ringBuffer.offer("B");
+        ringBuffer.offer("C");
+
+        //then
+        assertEquals(3, ringBuffer.size());
+        assertEquals("[A,B,C]", ringBuffer.toString());
+        assertTrue(ringBuffer.contains("B"));
+        assertFalse(ringBuffer.contains("D"));
+        assertEquals("A", ringBuffer.peek());
+        assertEquals("A", ringBuffer.poll());
+        assertEquals("B", ringBuffer.poll());
+        assertEquals("C", ringBuffer.poll());
+        assertNull(ringBuffer.poll());
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("when Buffer Is Full then Offer Returns False Until A Value Is Polled")
+    public void whenBufferIsFull_thenOfferReturnsFalseUntilAValueIsPolled() {
+        SpscRingBuffer<Integer> ringBuffer = new SpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ringBuffer.offer(i));
+        }
+
+        //when //then
+        assertFalse(ringBuffer.offer(4));
+        assertEquals(4, ringBuffer.size());
+        assertEquals(0, ringBuffer.poll());
+        assertTrue(ringBuffer.offer(4));
+        assertEquals("[1,2,3,4]", ringBuffer.toString());
+        assertThrows(NullPointerException.class, () -> ringBuffer.offer(null));
+    }
+
+    @Test
+    @DisplayName("when Values Wrap Around The Array Many Times then Order Is Kept")
+    public void whenValuesWrapAroundTheArrayManyTimes_thenOrderIsKept() {
+        SpscRingBuffer<Integer> ringBuffer = new SpscRingBuffer<>(8);
+        int polled = 0;
+
+        //when
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(ringBuffer.offer(i));
+            if (i % 3 != 0) {
+                assertEquals(polled++, ringBuffer.poll());
+            }
+            if (ringBuffer.size() == ringBuffer.getCapacity()) {
+                assertEquals(polled++, ringBuffer.poll());
+            }
+        }
+
+        //then
+        Integer value;
+        while ((value = ringBuffer.poll()) != null) {
+            assertEquals(polled++, value);
+        }
+        assertEquals(1_000, polled);
+    }
+
+    @Test
+    @DisplayName("when Offer Batch Larger Than Free Space then Only The Values That Fit Are Offered")
+    public void whenOfferBatchLargerThanFreeSpace_thenOnlyTheValuesThatFitAreOffered() {
+        SpscRingBuffer<String> ringBuffer = new SpscRingBuffer<>(4);
+        ringBuffer.offer("A");
+
+        //when
+        int offered = ringBuffer.offerBatch(new String[]{"B", "C", "D", "E", "F"});
+
+        //then
+        assertEquals(3, offered);
+        assertEquals("[A,B,C,D]", ringBuffer.toString());
+        assertEquals(0, ringBuffer.offerBatch(new String[]{"E"}));
+        ringBuffer.poll();
+        assertEquals(1, ringBuffer.offerBatch(new String[]{"X", "E", "F", "Y"}, 1, 2));
+        assertEquals("[B,C,D,E]", ringBuffer.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> ringBuffer.offerBatch(new String[]{"E"}, 1, 1));
+    }
+
+    @Test
+    @DisplayName("when Drain With Limit then At Most Limit Values Are Handed In Order")
+    public void whenDrainWithLimit_thenAtMostLimitValuesAreHandedInOrder() {
+        SpscRingBuffer<Integer> ringBuffer = new SpscRingBuffer<>(8);
+        ringBuffer.offerBatch(new Integer[]{0, 1, 2, 3, 4});
+        List<Integer> drained = new ArrayList<>();
+
+        //when
+        int count = ringBuffer.drain(drained::add, 3);
+
+        //then
+        assertEquals(3, count);
+        assertEquals("[0,1,2]", drained.toString());
+        assertEquals(2, ringBuffer.drainTo(drained, 10));
+        assertEquals("[0,1,2,3,4]", drained.toString());
+        assertEquals(0, ringBuffer.drain(drained::add, 10));
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("when Drain Consumer Throws then Failed Value Stays In Buffer")
+    public void whenDrainConsumerThrows_thenFailedValueStaysInBuffer() {
+        SpscRingBuffer<String> ringBuffer = new SpscRingBuffer<>(8);
+        ringBuffer.offerBatch(new String[]{"A", "B", "C"});
+        List<String> drained = new ArrayList<>();
+
+        //when
+        assertThrows(IllegalStateException.class, () -> ringBuffer.drain(value -> {
+            if (value.equals("B")) {
+                throw new IllegalStateException();
+            }
+            drained.add(value);
+        }, 10));
+
+        //then
+        assertEquals("[A]", drained.toString());
+        assertEquals("[B,C]", ringBuffer.toString());
+        assertEquals(2, ringBuffer.size());
+    }
+
+    @Test
+    @DisplayName("when Clear then Buffer Is Empty And Takes New Values")
+    public void whenClear_thenBufferIsEmptyAndTakesNewValues() {
+        SpscRingBuffer<String> ringBuffer = new SpscRingBuffer<>(2);
+        ringBuffer.offer("A");
+        ringBuffer.offer("B");
+
+        //when
+        ringBuffer.clear();
+
+        //then
+        assertTrue(ringBuffer.isEmpty());
+        assertNull(ringBuffer.peek());
+        assertTrue(ringBuffer.offer("C"));
+        assertTrue(ringBuffer.offer("D"));
+        assertEquals("[C,D]", ringBuffer.toString());
+    }
+
+    @Test
+    @DisplayName("when Iterator Is Exhausted then Throw NoSuchElementException")
+    public void whenIteratorIsExhausted_thenThrowNoSuchElementException() {
+        SpscRingBuffer<String> ringBuffer = new SpscRingBuffer<>(2);
+        ringBuffer.offer("A");
+        Iterator<String> iterator = ringBuffer.iterator();
+
+        //when
+        assertEquals("A", iterator.next());
+
+        //then
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    @DisplayName("when Producer And Consumer Threads Run Concurrently then Every Value Arrives Once In Order")
+    public void whenProducerAndConsumerThreadsRunConcurrently_thenEveryValueArrivesOnceInOrder() throws Exception {
+        SpscRingBuffer<Integer> ringBuffer = new SpscRingBuffer<>(1024);
+        int total = 2_000_000;
+        Integer[] values = new Integer[total];
+        for (int i = 0; i < total; i++) {
+            values[i] = i;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        int[] next = new int[1];
+        try {
+            Future<?> producer = executor.submit(() -> {
+                int offered = 0;
+                while (offered < total) {
+                    // single offers and batches take turns to cover both ways of publishing
+                    int count = (offered & 1) == 0
+                            ? (ringBuffer.offer(values[offered]) ? 1 : 0)
+                            : ringBuffer.offerBatch(values, offered, Math.min(100, total - offered));
+                    if (count == 0) {
+                        Thread.yield();
+                    }
+                    offered += count;
+                }
+            });
+            Future<?> consumer = executor.submit(() -> {
+                while (next[0] < total) {
+                    boolean progressed;
+                    if ((next[0] & 1) == 0) {
+                        Integer value = ringBuffer.poll();
+                        progressed = value != null;
+                        if (progressed) {
+                            assertEquals(next[0]++, value);
+                        }
+                    } else {
+                        progressed = ringBuffer.drain(value -> assertEquals(next[0]++, value), 64) > 0;
+                    }
+                    if (!progressed) {
+                        Thread.yield();
+                    }
+                }
+            });
+
+            //then
+            producer.get(1, TimeUnit.MINUTES);
+            consumer.get(1, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(total, next[0]);
+        assertTrue(ringBuffer.isEmpty());
+    }
+}
@@ -0,0 +1,106 @@
+package com.bondarenko.datastructures.list;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnrolledLinkedListTest<T> extends AbstractListTest<T> {
+
+    @Override
+    List<String> getList() {
+        return new UnrolledLinkedList<>();
+    }
+
+    @Test
+    @DisplayName("when Add More Values Than Chunk Size then Values Are Spread Over Several Nodes")
+    public void whenAddMoreValuesThanChunkSize_thenValuesAreSpreadOverSeveralNodes() {
+        UnrolledLinkedList<Integer> unrolledList = new UnrolledLinkedList<>(4);
+        for (int i = 0; i < 10; i++) {
+            unrolledList.add(i);
+        }
+
+        assertEquals(3, unrolledList.getNodeCount());
+        assertEquals("[0,1,2,3,4,5,6,7,8,9]", unrolledList.toString());
+    }
+
+    @Test
+    @DisplayName("when Add Into Full Node then Node Is Split")
+    public void whenAddIntoFullNode_thenNodeIsSplit() {
+        UnrolledLinkedList<Integer> unrolledList = new UnrolledLinkedList<>(4);
+        for (int i = 0; i < 4; i++) {
+            unrolledList.add(i);
+        }
+
+        unrolledList.add(9, 1);
+        unrolledList.add(8, 0);
+
+        assertEquals("[8,0,9,1,2,3]", unrolledList.toString());
+        assertEquals(2, unrolledList.getNodeCount());
+    }
+
+    @Test
+    @DisplayName("when Remove Values then Half Empty Nodes Are Merged")
+    public void whenRemoveValues_thenHalfEmptyNodesAreMerged() {
+        UnrolledLinkedList<Integer> unrolledList = new UnrolledLinkedList<>(4);
+        for (int i = 0; i < 8; i++) {
+            unrolledList.add(i);
+        }
+        assertEquals(2, unrolledList.getNodeCount());
+
+        unrolledList.remove(0);
+        unrolledList.remove(0);
+        unrolledList.remove(2);
+        unrolledList.remove(2);
+        unrolledList.remove(2);
+
+        assertEquals(1, unrolledList.getNodeCount());
+        assertEquals("[2,3,7]", unrolledList.toString());
+    }
+
+    @Test
+    @DisplayName("when Iterator Removes Every Second Value then Remaining Values Keep Order")
+    public void whenIteratorRemovesEverySecondValue_thenRemainingValuesKeepOrder() {
+        UnrolledLinkedList<Integer> unrolledList = new UnrolledLinkedList<>(4);
+        for (int i = 0; i < 20; i++) {
+            unrolledList.add(i);
+        }
+
+        Iterator<Integer> iterator = unrolledList.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals("[1,3,5,7,9,11,13,15,17,19]", unrolledList.toString());
+    }
+
+    @Test
+    @DisplayName("when Random Adds And Removes then List Behaves Like java.util.ArrayList")
+    public void whenRandomAddsAndRemoves_thenListBehavesLikeJavaUtilArrayList() {
+        UnrolledLinkedList<Integer> unrolledList = new UnrolledLinkedList<>(8);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                unrolledList.add(i, index);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), unrolledList.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), unrolledList.get(index));
+            }
+        }
+
+        assertEquals(expected.size(), unrolledList.size());
+        assertEquals(expected.toString().replace(" ", ""), unrolledList.toString());
+    }
+}
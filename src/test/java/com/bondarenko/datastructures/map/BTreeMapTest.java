@@ -0,0 +1,248 @@
+package com.bondarenko.datastructures.map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BTreeMapTest extends AbstractMapTest {
+
+    @Override
+    Map<String, String> getMap() {
+        return new BTreeMap<>();
+    }
+
+    @Test
+    @DisplayName("when Keys Are Put In Any Order then Iteration Is Sorted")
+    public void whenKeysArePutInAnyOrder_thenIterationIsSorted() {
+        BTreeMap<Integer, Integer> treeMap = new BTreeMap<>(null, 4);
+        for (int i = 0; i < 1_000; i++) {
+            treeMap.put((i * 7919) % 1_000, i);
+        }
+
+        //then
+        int expected = 0;
+        for (Map.Entry<Integer, Integer> entry : treeMap) {
+            assertEquals(expected++, entry.getKey());
+        }
+        assertEquals(1_000, expected);
+        assertTrue(treeMap.getHeight() > 3);
+    }
+
+    @Test
+    @DisplayName("when Floor And Ceiling then Nearest Keys Are Returned")
+    public void whenFloorAndCeiling_thenNearestKeysAreReturned() {
+        BTreeMap<Integer, String> treeMap = new BTreeMap<>(null, 4);
+        for (int i = 0; i < 100; i += 10) {
+            treeMap.put(i, "value" + i);
+        }
+
+        //then
+        assertEquals(0, treeMap.firstKey());
+        assertEquals(90, treeMap.lastKey());
+        assertEquals(40, treeMap.floorKey(45));
+        assertEquals(40, treeMap.floorKey(40));
+        assertEquals(30, treeMap.lowerKey(40));
+        assertEquals(50, treeMap.ceilingKey(45));
+        assertEquals(50, treeMap.ceilingKey(50));
+        assertEquals(60, treeMap.higherKey(50));
+        assertNull(treeMap.floorKey(-1));
+        assertNull(treeMap.ceilingKey(91));
+    }
+
+    @Test
+    @DisplayName("when Map Is Empty then First Key Throws Exception")
+    public void whenMapIsEmpty_thenFirstKeyThrowsException() {
+        BTreeMap<Integer, String> treeMap = new BTreeMap<>();
+
+        Assertions.assertThrows(NoSuchElementException.class, treeMap::firstKey);
+        Assertions.assertThrows(NoSuchElementException.class, treeMap::lastKey);
+    }
+
+    @Test
+    @DisplayName("when Sub Map then Only Keys In Range Are Visible And Changes Go Through")
+    public void whenSubMap_thenOnlyKeysInRangeAreVisibleAndChangesGoThrough() {
+        BTreeMap<Integer, String> treeMap = new BTreeMap<>(null, 4);
+        for (int i = 0; i < 100; i++) {
+            treeMap.put(i, "value" + i);
+        }
+
+        //when
+        SortedMap<Integer, String> subMap = treeMap.subMap(20, 30);
+        subMap.remove(25);
+        subMap.put(29, "changed");
+
+        //then
+        assertEquals(9, subMap.size());
+        assertEquals(20, subMap.firstKey());
+        assertEquals(29, subMap.lastKey());
+        assertEquals(29, subMap.floorKey(50));
+        assertNull(subMap.ceilingKey(30));
+        assertEquals(24, subMap.lowerKey(26));
+        assertNull(subMap.get(30));
+        assertFalse(treeMap.containsKey(25));
+        assertEquals("changed", treeMap.get(29));
+        assertEquals("20,21,22,23,24,26,27,28,29", keys(subMap));
+        assertEquals("22,23", keys(subMap.subMap(22, 24)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            subMap.put(30, "out of range");
+        });
+    }
+
+    @Test
+    @DisplayName("when For Each then Entries Are Visited In Key Order")
+    public void whenForEach_thenEntriesAreVisitedInKeyOrder() {
+        BTreeMap<String, String> treeMap = new BTreeMap<>(Comparator.reverseOrder());
+        treeMap.put("A", "1");
+        treeMap.put("C", "3");
+        treeMap.put("B", "2");
+
+        //when
+        StringJoiner visited = new StringJoiner(",");
+        treeMap.forEach((key, value) -> visited.add(key + value));
+
+        //then
+        assertEquals("C3,B2,A1", visited.toString());
+    }
+
+    @Test
+    @DisplayName("when Iterator Removes Entries then Remaining Entries Are Visited")
+    public void whenIteratorRemovesEntries_thenRemainingEntriesAreVisited() {
+        BTreeMap<Integer, Integer> treeMap = new BTreeMap<>(null, 4);
+        for (int i = 0; i < 200; i++) {
+            treeMap.put(i, i);
+        }
+
+        //when
+        Iterator<Map.Entry<Integer, Integer>> iterator = treeMap.iterator();
+        int visited = 0;
+        while (iterator.hasNext()) {
+            if (iterator.next().getKey() % 3 != 0) {
+                iterator.remove();
+            }
+            visited++;
+        }
+
+        //then
+        assertEquals(200, visited);
+        assertEquals(67, treeMap.size());
+        assertEquals(198, treeMap.lastKey());
+        assertEquals(3, treeMap.higherKey(0));
+    }
+
+    @Test
+    @DisplayName("when Sub Map Cursor Sets Values And Removes then Only Keys In Range Are Walked In Order")
+    public void whenSubMapCursorSetsValuesAndRemoves_thenOnlyKeysInRangeAreWalkedInOrder() {
+        BTreeMap<Integer, Integer> treeMap = new BTreeMap<>(null, 4);
+        for (int i = 0; i < 200; i++) {
+            treeMap.put(i, i);
+        }
+        treeMap.put(null, -1);
+        MapCursor<Integer, Integer> cursor = treeMap.subMap(50, 150).cursor();
+
+        //when
+        int expectedKey = 50;
+        while (cursor.advance()) {
+            assertEquals(expectedKey++, cursor.key());
+            if (cursor.key() % 3 != 0) {
+                cursor.remove();
+            } else {
+                cursor.setValue(-cursor.value());
+            }
+        }
+        cursor.reset();
+        StringJoiner visited = new StringJoiner(",");
+        while (cursor.advance()) {
+            visited.add(String.valueOf(cursor.value()));
+        }
+
+        //then
+        assertEquals(150, expectedKey);
+        assertEquals(200 - 67 + 1, treeMap.size());
+        assertEquals(-51, treeMap.get(51));
+        assertNull(treeMap.get(52));
+        assertNull(treeMap.get(149));
+        assertEquals(150, treeMap.get(150));
+        assertEquals(49, treeMap.get(49));
+        assertEquals(-1, treeMap.get(null));
+        assertTrue(visited.toString().startsWith("-51,-54,-57"));
+        assertTrue(visited.toString().endsWith("-141,-144,-147"));
+    }
+
+    @Test
+    @DisplayName("when Cursor Walks Map With Null Key then Null Key Comes First And Can Be Removed")
+    public void whenCursorWalksMapWithNullKey_thenNullKeyComesFirstAndCanBeRemoved() {
+        BTreeMap<String, String> treeMap = new BTreeMap<>();
+        treeMap.put("B", "2");
+        treeMap.put(null, "0");
+        treeMap.put("A", "1");
+        MapCursor<String, String> cursor = treeMap.cursor();
+
+        //when
+        StringJoiner visited = new StringJoiner(",");
+        while (cursor.advance()) {
+            visited.add(cursor.key() + cursor.value());
+            if (cursor.key() == null) {
+                cursor.remove();
+            }
+        }
+
+        //then
+        assertEquals("null0,A1,B2", visited.toString());
+        assertFalse(treeMap.containsKey(null));
+        assertEquals(2, treeMap.size());
+        Assertions.assertThrows(IllegalStateException.class, cursor::key);
+    }
+
+    @Test
+    @DisplayName("when Random Operations then Map Behaves Like java.util.TreeMap")
+    public void whenRandomOperations_thenMapBehavesLikeJavaUtilTreeMap() {
+        BTreeMap<Integer, Integer> treeMap = new BTreeMap<>(null, 5);
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        Random random = new Random(13);
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(2_000);
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertEquals(expected.remove(key), treeMap.remove(key));
+                    break;
+                case 1:
+                    assertEquals(expected.floorKey(key), treeMap.floorKey(key));
+                    assertEquals(expected.higherKey(key), treeMap.higherKey(key));
+                    SortedMap<Integer, Integer> subMap = treeMap.subMap(500, 1_500);
+                    java.util.NavigableMap<Integer, Integer> expectedSubMap = expected.subMap(500, true, 1_500, false);
+                    assertEquals(expectedSubMap.floorKey(key), subMap.floorKey(key));
+                    assertEquals(expectedSubMap.ceilingKey(key), subMap.ceilingKey(key));
+                    assertEquals(expectedSubMap.lowerKey(key), subMap.lowerKey(key));
+                    assertEquals(expectedSubMap.higherKey(key), subMap.higherKey(key));
+                    break;
+                default:
+                    assertEquals(expected.put(key, i), treeMap.put(key, i));
+            }
+            assertEquals(expected.size(), treeMap.size());
+        }
+
+        StringJoiner expectedKeys = new StringJoiner(",");
+        expected.keySet().forEach(key -> expectedKeys.add(String.valueOf(key)));
+        StringJoiner actualKeys = new StringJoiner(",");
+        treeMap.forEach((key, value) -> actualKeys.add(String.valueOf(key)));
+        assertEquals(expectedKeys.toString(), actualKeys.toString());
+        assertEquals(expected.subMap(500, 700).size(), treeMap.subMap(500, 700).size());
+    }
+
+    private static <K, V> String keys(Map<K, V> map) {
+        StringJoiner keys = new StringJoiner(",");
+        for (Map.Entry<K, V> entry : map) {
+            keys.add(String.valueOf(entry.getKey()));
+        }
+        return keys.toString();
+    }
+}
@@ -0,0 +1,128 @@
+package com.bondarenko.datastructures.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentHashMapTest extends AbstractMapTest {
+    private static final int THREADS = 8;
+
+    @Override
+    Map<String, String> getMap() {
+        return new ConcurrentHashMap<>();
+    }
+
+    @Test
+    @DisplayName("when Threads Put Disjoint Keys Concurrently then Every Key Is Present")
+    public void whenThreadsPutDisjointKeysConcurrently_thenEveryKeyIsPresent() throws Exception {
+        ConcurrentHashMap<Integer, Integer> concurrentMap = new ConcurrentHashMap<>(2);
+        int keysPerThread = 50_000;
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < keysPerThread; i++) {
+                int key = thread * keysPerThread + i;
+                assertNull(concurrentMap.put(key, key));
+            }
+        });
+
+        assertEquals(THREADS * keysPerThread, concurrentMap.size());
+        for (int key = 0; key < THREADS * keysPerThread; key++) {
+            assertEquals(key, concurrentMap.get(key));
+        }
+        int visited = 0;
+        for (Map.Entry<Integer, Integer> entry : concurrentMap) {
+            assertEquals(entry.getKey(), entry.getValue());
+            visited++;
+        }
+        assertEquals(THREADS * keysPerThread, visited);
+    }
+
+    @Test
+    @DisplayName("when Threads Put And Remove The Same Keys then Size Matches Remaining Keys")
+    public void whenThreadsPutAndRemoveTheSameKeys_thenSizeMatchesRemainingKeys() throws Exception {
+        ConcurrentHashMap<Integer, Integer> concurrentMap = new ConcurrentHashMap<>(2);
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < 100_000; i++) {
+                int key = (i * 31 + thread) % 1_000;
+                if ((i + thread) % 2 == 0) {
+                    concurrentMap.put(key, key);
+                } else {
+                    concurrentMap.remove(key);
+                }
+            }
+        });
+
+        int remaining = 0;
+        for (int key = 0; key < 1_000; key++) {
+            if (concurrentMap.containsKey(key)) {
+                assertEquals(key, concurrentMap.get(key));
+                remaining++;
+            }
+        }
+        assertEquals(remaining, concurrentMap.size());
+    }
+
+    @Test
+    @DisplayName("when Readers Run During Resize then They Always See Present Keys")
+    public void whenReadersRunDuringResize_thenTheyAlwaysSeePresentKeys() throws Exception {
+        ConcurrentHashMap<Integer, Integer> concurrentMap = new ConcurrentHashMap<>(2);
+        for (int key = 0; key < 1_000; key++) {
+            concurrentMap.put(key, key);
+        }
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        runConcurrently(thread -> {
+            if (thread == 0) {
+                for (int key = 1_000; key < 500_000; key++) {
+                    concurrentMap.put(key, key);
+                }
+                writing.set(false);
+            } else {
+                while (writing.get()) {
+                    for (int key = 0; key < 1_000; key++) {
+                        assertEquals(key, concurrentMap.get(key));
+                    }
+                }
+            }
+        });
+
+        assertEquals(500_000, concurrentMap.size());
+    }
+
+    private static void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int threadNumber = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(threadNumber);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface ThreadTask {
+        void run(int thread);
+    }
+}
@@ -1,406 +1,475 @@
 package com.bondarenko.datastructures.map;
 
-import org.junit.jupiter.api.Assertions;
+import com.bondarenko.datastructures.GrowthPolicy;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
 import java.util.Iterator;
+import java.util.Random;
+import java.util.Spliterator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-public class HashMapTest {
+public class HashMapTest extends AbstractMapTest {
 
-    Map<String, String> map = new HashMap<>();
-
-    @Test
-    @DisplayName("given Not Null Key When Put Then Size Should Be Equal To One And Value Should Be Equal To Inserted")
-    public void givenNotNullKey_WhenPutThenSize_ShouldBeEqualToOne_AndValueShouldBeEqual_ToInserted() {
-        map.put("key", "value");
-
-        assertEquals(1, map.size());
-        assertEquals("value", map.get("key"));
-    }
-
-    @Test
-    @DisplayName("When Put Then Size Should Be Equal To Size Of Keys And Get By Key Returns Corresponding Value")
-    public void givenMultipleNotNullKeys_WhenPutThenSizeShouldBeEqualToSizeOfKeys_AndGetByKey_ReturnsCorrespondingValue() {
-        map.put("key1", "value1");
-        map.put("key2", "value2");
-
-        assertEquals(2, map.size());
-        assertEquals("value1", map.get("key1"));
-        assertEquals("value2", map.get("key2"));
-    }
-
-    @Test
-    @DisplayName("when put values by different keys then get by key returns corresponding value")
-    public void givenMultipleNodes_InSameBucket_WhenGetByExistingKey_ThenGetByKeyReturnsCorrespondingValue() {
-        map.put("key1", "value1");
-        map.put("key2", "value2");
-        map.put("key3", "value3");
-
-        assertEquals(3, map.size());
-        assertEquals("value1", map.get("key1"));
-        assertEquals("value2", map.get("key2"));
-        assertEquals("value3", map.get("key3"));
-    }
-
-    @Test
-    @DisplayName("update value when put by the same key")
-    public void givenNotNullKey_WhenPutMultipleTimesWithSameKey_ThenSizeShouldBeEqualToOne_AndValueShouldBeOverwrittenWithLast() {
-        map.put("key", "value1");
-        map.put("key", "value2");
-        map.put("key", "value3");
-
-        assertEquals(1, map.size());
-        assertEquals("value3", map.get("key"));
-    }
-
-    @Test
-    @DisplayName("when map is Empty then size equal  to zero")
-    public void whenMapIsEmpty_thenSizeIsZero() {
-        assertEquals(0, map.size());
-    }
-
-    @Test
-    @DisplayName("given Empty Map When Remove Then Size Should Be Equal To Zero")
-    public void givenEmptyMap_WhenRemove_ThenSizeShouldBeEqual_ToZero() {
-        map.remove("key");
-        assertEquals(0, map.size());
-
-    }
-
-    @Test
-    @DisplayName("given Not Empty Map When Remove Then Size Should Be Equal ToZero")
-    public void givenNotEmptyMap_WhenRemove_ThenSizeShould_BeEqualToZero() {
-        map.put("key", "value");
-        assertEquals(1, map.size());
-
-        map.remove("key");
-        assertEquals(0, map.size());
-    }
-
-    @Test
-    @DisplayName("when Remove One By One Then Size Should Decrease After Each Removal ByOne")
-    public void givenNotEmptyMap_WhenRemoveOneByOne_ThenSizeShouldDecreaseAfterEachRemovalByOne() {
-        map.put("key1", "value1");
-        map.put("key2", "value2");
-        map.put("key3", "value3");
-
-        assertEquals(3, map.size());
-
-        map.remove("key1");
-        assertEquals(2, map.size());
-
-        map.remove("key2");
-        assertEquals(1, map.size());
-
-        map.remove("key3");
-        assertEquals(0, map.size());
-    }
-
-    @Test
-    @DisplayName("When Remove First Node Then Size Should Decrease By One")
-    public void givenNotEmptyMap_AndObjectsInSameBucket_WhenRemoveFirstNode_ThenSizeShouldDecreaseByOne() {
-        map.put("key1", "value1");
-        map.put("key2", "value2");
-        map.put("key3", "value3");
-        map.put("key4", "value4");
-
-        assertEquals(4, map.size());
-
-        map.remove("key2");
-        assertEquals(3, map.size());
-    }
-
-    @Test
-    @DisplayName("When Remove Last Node Then Size Should Decrease By One")
-    public void givenNotEmptyMap_AndObjectsInSameBucket_WhenRemoveLastNodeThenSizeShouldDecreaseByOne() {
-        map.put("key1", "value1");
-        map.put("key2", "value2");
-        map.put("key3", "value3");
-        map.put("key4", "value4");
-
-        assertEquals(4, map.size());
-
-        map.remove("key4");
-        assertEquals(3, map.size());
-    }
-
-    @Test
-    @DisplayName("When Remove Node In The Middle Then Size Should Decrease By One")
-    public void givenNotEmptyMapAndObjectsInSameBucket_WhenRemoveNodeInTheMiddle_ThenSizeShouldDecreaseByOne() {
-        map.put("key1", "value1");
-        map.put("key2", "value2");
-        map.put("key3", "value3");
-        map.put("key4", "value4");
-
-        assertEquals(4, map.size());
-
-        map.remove("key3");
-        assertEquals(3, map.size());
-    }
-
-    @Test
-    @DisplayName("given Empty Map When Contains Null Key Then False Should Be Returned")
-    public void givenEmptyMap_WhenContainsNullKey_ThenFalseShouldBeReturned() {
-        assertFalse(map.containsKey(null));
-    }
-
-    @Test
-    @DisplayName("given Empty Map When Contains Not Null Key Then False Should Be Returned")
-    public void givenEmptyMap_WhenContainsNotNullKey_ThenFalseShouldBeReturned() {
-        assertFalse(map.containsKey("key"));
-    }
-
-    @Test
-    @DisplayName("given Map With Existing Null Key When Contains Null Key Then True Should Be Returned")
-    public void givenMapWithExistingNullKey_WhenContainsNullKey_ThenTrueShouldBeReturned() {
-        map.put(null, "value");
-
-        assertTrue(map.containsKey(null));
-    }
-
-    @Test
-    @DisplayName("given Map With Not Existing Null Key When Contains Null Key Then False Should Be Returned")
-    public void givenMapWithNotExistingNullKey_WhenContainsNullKey_ThenFalseShouldBeReturned() {
-        map.put("key", "value");
-
-        assertFalse(map.containsKey(null));
-    }
-
-    @Test
-    @DisplayName("given Not Existing Key When Contains Key Then False Should Be Returned")
-    public void givenNotExistingKey_WhenContainsKey_ThenFalseShouldBeReturned() {
-        map.put("key", "value");
-
-        assertTrue(map.containsKey("key"));
-    }
-
-    @Test
-    @DisplayName("given Not Empty Map When Iterator Has Next Then Should Return True")
-    public void givenNotEmptyMap_WhenIteratorHasNext_ThenShouldReturnTrue() {
-        map.put("key", "value");
-
-        Iterator<Map.Entry<String, String>> iterator = map.iterator();
-        assertTrue(iterator.hasNext());
-        assertTrue(iterator.hasNext());
-
-        map.remove("key");
-        assertFalse(iterator.hasNext());
-
-        map.put("key", "value");
-        assertFalse(iterator.hasNext());
+    @Override
+    Map<String, String> getMap() {
+        return new HashMap<>();
     }
 
     @Test
-    @DisplayName("given Map With One Element When Iterator Next Then Iterator Has Next Should Return False")
-    public void givenMapWithOneElement_WhenIteratorNext_ThenIteratorHasNext_ShouldReturnFalse() {
-        map.put("key", "value");
-
-        Iterator<Map.Entry<String, String>> iterator = map.iterator();
+    @DisplayName("when Size Exceeds Load Factor then Capacity Grows By Growth Factor")
+    public void whenSizeExceedsLoadFactor_thenCapacityGrowsByGrowthFactor() {
+        HashMap<Integer, Integer> hashMap = new HashMap<>(10, 2.5, 0.75);
+        for (int i = 0; i < 9; i++) {
+            hashMap.put(i, i);
+        }
 
-        assertTrue(iterator.hasNext());
-        iterator.next();
+        assertEquals(25, hashMap.getCapacity());
+        assertFalse(hashMap.isRehashing());
     }
 
     @Test
-    @DisplayName("given Iterator When Remove Called After Next Then Size Should Be Decreased By One And Map Should NotContainKey")
-    public void givenIterator_WhenRemoveCalledAfterNext_ThenSizeShouldBeDecreased_ByOne_AndMapShouldNotContainKey() {
-        String key = "key";
-        map.put(key, "value");
-        assertEquals(1, map.size());
+    @DisplayName("when Most Entries Are Removed then Capacity Shrinks But Not Below Initial Capacity")
+    public void whenMostEntriesAreRemoved_thenCapacityShrinksButNotBelowInitialCapacity() {
+        HashMap<Integer, Integer> hashMap = new HashMap<>(10, 2.5, 0.75);
+        for (int i = 0; i < 10_000; i++) {
+            hashMap.put(i, i);
+        }
+        int peakCapacity = hashMap.getCapacity();
 
-        Iterator<Map.Entry<String, String>> iterator = map.iterator();
-        iterator.next();
-        iterator.remove();
+        //when
+        for (int i = 100; i < 10_000; i++) {
+            hashMap.remove(i);
+        }
 
-        assertEquals(0, map.size());
+        //then
+        assertTrue(hashMap.getCapacity() < peakCapacity / 10);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, hashMap.get(i));
+        }
+        for (int i = 0; i < 100; i++) {
+            hashMap.remove(i);
+        }
+        assertEquals(10, hashMap.getCapacity());
     }
 
     @Test
-    @DisplayName("when Add Value then Value Is Present")
-    public void whenAddValue_thenValueIsPresent() {
-        map.put("key1", "value1");
-        Iterator<Map.Entry<String, String>> iterator = map.iterator();
+    @DisplayName("when Compact then Capacity Fits Size Within Load Factor")
+    public void whenCompact_thenCapacityFitsSizeWithinLoadFactor() {
+        HashMap<Integer, Integer> hashMap = new HashMap<>(1_000, 2.5, 0.75, true);
+        for (int i = 0; i < 30; i++) {
+            hashMap.put(i, i);
+        }
 
-        assertTrue(iterator.hasNext());
-    }
+        //when
+        hashMap.compact();
 
-    @Test
-    @DisplayName("when Map Is Empty Then Size Is Zero")
-    public void whenMapIsEmpty_ThenSizeIsZero() {
-        assertEquals(0, map.size());
+        //then
+        assertEquals(40, hashMap.getCapacity());
+        assertFalse(hashMap.isRehashing());
+        for (int i = 0; i < 30; i++) {
+            assertEquals(i, hashMap.get(i));
+        }
     }
 
     @Test
-    @DisplayName("when Map Is Empty Then Size Is Zero")
-    public void whenMapHasOnlyOnePair_ThenSizeIsOne() {
-        map.put("key1", "value1");
-        assertEquals(1, map.size());
-    }
+    @DisplayName("when Growth Policy Is Additive then Capacity Grows By Increment")
+    public void whenGrowthPolicyIsAdditive_thenCapacityGrowsByIncrement() {
+        HashMap<Integer, Integer> hashMap = new HashMap<>(10, GrowthPolicy.additive(10), 0.75, false);
 
-    @Test
-    @DisplayName("when Map Is Empty then Return True")
-    public void whenMapIsEmpty_thenReturnTrue() {
-        assertTrue(map.isEmpty());
-    }
-
-    @Test
-    @DisplayName("when Map Is Not Empty then Return False")
-    public void whenMapIsNotEmpty_thenReturnFalse() {
-        map.put("key2", "value3");
-        assertFalse(map.isEmpty());
-    }
+        //when
+        for (int i = 0; i < 9; i++) {
+            hashMap.put(i, i);
+        }
 
-    @Test
-    @DisplayName("when Remove In Empty Map Then Size Should Be Zero")
-    public void whenRemoveInEmptyMap_ThenSizeShouldBeZero() {
-        map.remove("key1");
-
-        assertEquals(0, map.size());
+        //then
+        assertEquals(20, hashMap.getCapacity());
     }
 
     @Test
-    @DisplayName("when Get By Key In Pair With Null Value Then Null Should Be Returned")
-    public void whenGetByKey_InPairWithNullValueThenNullShouldBeReturned() {
-        map.put("key1", null);
+    @DisplayName("given Incremental Resize when Size Exceeds Load Factor then Old Buckets Are Moved Step By Step")
+    public void givenIncrementalResize_whenSizeExceedsLoadFactor_thenOldBucketsAreMovedStepByStep() {
+        HashMap<Integer, Integer> hashMap = new HashMap<>(100, 2.5, 0.75, true);
+        for (int i = 0; i < 77; i++) {
+            hashMap.put(i, i);
+        }
 
-        map.get("key1");
-
-        assertNull(map.get("key1"));
+        assertTrue(hashMap.isRehashing());
+        assertEquals(250, hashMap.getCapacity());
+        for (int i = 0; i < 77; i++) {
+            assertEquals(i, hashMap.get(i));
+        }
+        for (int i = 0; i < 100 && hashMap.isRehashing(); i++) {
+            hashMap.get(i);
+        }
+        assertFalse(hashMap.isRehashing());
     }
 
     @Test
-    @DisplayName("when Get By Key In Empty Map Then Null Should Be Returned")
-    public void whenGetByKey_InEmptyMap_ThenNullShouldBeReturned() {
-        map.get("key1");
+    @DisplayName("given Incremental Resize when Remove And Put During Rehash then Both Tables Are Consulted")
+    public void givenIncrementalResize_whenRemoveAndPutDuringRehash_thenBothTablesAreConsulted() {
+        HashMap<Integer, Integer> hashMap = new HashMap<>(100, 2.5, 0.75, true);
+        for (int i = 0; i < 77; i++) {
+            hashMap.put(i, i);
+        }
+        assertTrue(hashMap.isRehashing());
 
-        assertNull(map.get("key1"));
+        assertEquals(70, hashMap.remove(70));
+        assertEquals(71, hashMap.put(71, -71));
+        assertEquals(76, hashMap.size());
+
+        assertNull(hashMap.get(70));
+        assertEquals(-71, hashMap.get(71));
+        assertEquals(76, hashMap.size());
     }
 
     @Test
-    @DisplayName("when Remove By Not Existing Key then Size Is Not Change ")
-    public void whenRemoveByNotExistingKey_thenSizeIsNotChange() {
-        map.put("key1", "value1");
-
-        assertEquals(1, map.size());
+    @DisplayName("given Incremental Resize when Iterate During Rehash then Every Entry Is Visited")
+    public void givenIncrementalResize_whenIterateDuringRehash_thenEveryEntryIsVisited() {
+        HashMap<Integer, Integer> hashMap = new HashMap<>(100, 2.5, 0.75, true);
+        for (int i = 0; i < 77; i++) {
+            hashMap.put(i, i);
+        }
+        assertTrue(hashMap.isRehashing());
+
+        Iterator<Map.Entry<Integer, Integer>> iterator = hashMap.iterator();
+        int visited = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            visited++;
+        }
+
+        assertEquals(77, visited);
+        assertFalse(hashMap.isRehashing());
+    }
+
+    @Test
+    @DisplayName("when Spliterator Is Split then Bucket Ranges Cover All Entries")
+    public void whenSpliteratorIsSplit_thenBucketRangesCoverAllEntries() {
+        for (int i = 0; i < 1_000; i++) {
+            map.put("key" + i, "value" + i);
+        }
+        Spliterator<Map.Entry<String, String>> suffix = map.spliterator();
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(1_000, suffix.estimateSize());
+
+        //when
+        Spliterator<Map.Entry<String, String>> prefix = suffix.trySplit();
+
+        //then
+        assertNotNull(prefix);
+        assertFalse(suffix.hasCharacteristics(Spliterator.SIZED));
+        int[] count = new int[1];
+        prefix.forEachRemaining(entry -> count[0]++);
+        while (suffix.tryAdvance(entry -> count[0]++)) {
+        }
+        assertEquals(1_000, count[0]);
+    }
+
+    @Test
+    @DisplayName("when Many Keys Have The Same Hash Code then Bucket Becomes Tree And Lookups Work")
+    public void whenManyKeysHaveTheSameHashCode_thenBucketBecomesTreeAndLookupsWork() {
+        HashMap<CollidingKey, Integer> collidingMap = new HashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            collidingMap.put(new CollidingKey(i), i);
+        }
+
+        //then
+        assertTrue(collidingMap.isTreeified(new CollidingKey(0)));
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i, collidingMap.get(new CollidingKey(i)));
+        }
+        assertNull(collidingMap.get(new CollidingKey(1_000)));
+    }
+
+    @Test
+    @DisplayName("when Long Chain In Small Table then Table Grows Before Bucket Becomes Tree")
+    public void whenLongChainInSmallTable_thenTableGrowsBeforeBucketBecomesTree() {
+        HashMap<CollidingKey, Integer> collidingMap = new HashMap<>(40, 2.5, 0.75);
+        for (int i = 0; i < 7; i++) {
+            collidingMap.put(new CollidingKey(i), i);
+        }
+        assertEquals(40, collidingMap.getCapacity());
+        assertFalse(collidingMap.isTreeified(new CollidingKey(0)));
+
+        //when
+        collidingMap.put(new CollidingKey(7), 7);
+
+        //then
+        assertEquals(100, collidingMap.getCapacity());
+        assertTrue(collidingMap.isTreeified(new CollidingKey(0)));
+        for (int i = 0; i < 8; i++) {
+            assertEquals(i, collidingMap.get(new CollidingKey(i)));
+        }
+    }
+
+    @Test
+    @DisplayName("when Tree Bucket Shrinks then It Becomes List Again")
+    public void whenTreeBucketShrinks_thenItBecomesListAgain() {
+        HashMap<CollidingKey, Integer> collidingMap = new HashMap<>(100, 2.5, 0.75);
+        for (int i = 0; i < 10; i++) {
+            collidingMap.put(new CollidingKey(i), i);
+        }
+        assertTrue(collidingMap.isTreeified(new CollidingKey(0)));
+
+        //when
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, collidingMap.remove(new CollidingKey(i)));
+        }
+
+        //then
+        assertFalse(collidingMap.isTreeified(new CollidingKey(0)));
+        assertEquals(6, collidingMap.size());
+        assertEquals(9, collidingMap.get(new CollidingKey(9)));
+    }
+
+    @Test
+    @DisplayName("when Keys Collide And Are Not Comparable then Map Behaves Like java.util.HashMap")
+    public void whenKeysCollideAndAreNotComparable_thenMapBehavesLikeJavaUtilHashMap() {
+        HashMap<Object, Integer> collidingMap = new HashMap<>();
+        java.util.Map<Object, Integer> expected = new java.util.HashMap<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 20_000; i++) {
+            int id = random.nextInt(300);
+            Object key = id % 2 == 0 ? new CollidingKey(id) : new NotComparableCollidingKey(id);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), collidingMap.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), collidingMap.put(key, i));
+            }
+        }
+        int removedByIterator = 0;
+        Iterator<Map.Entry<Object, Integer>> iterator = collidingMap.iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, Integer> entry = iterator.next();
+            assertEquals(expected.get(entry.getKey()), entry.getValue());
+            if (entry.getValue() % 2 == 0) {
+                iterator.remove();
+                expected.remove(entry.getKey());
+                removedByIterator++;
+            }
+        }
+
+        assertTrue(removedByIterator > 0);
+        assertEquals(expected.size(), collidingMap.size());
+        for (java.util.Map.Entry<Object, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), collidingMap.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    @DisplayName("when Cursor Walks Tree Bucket then Set Value And Remove Work")
+    public void whenCursorWalksTreeBucket_thenSetValueAndRemoveWork() {
+        HashMap<CollidingKey, Integer> collidingMap = new HashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            collidingMap.put(new CollidingKey(i), i);
+        }
+        MapCursor<CollidingKey, Integer> cursor = collidingMap.cursor();
+
+        //when
+        while (cursor.advance()) {
+            if (cursor.value() % 3 == 0) {
+                cursor.remove();
+            } else {
+                cursor.setValue(-cursor.value());
+            }
+        }
+
+        //then
+        assertEquals(666, collidingMap.size());
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i % 3 == 0 ? null : -i, collidingMap.get(new CollidingKey(i)));
+        }
+        int[] sum = new int[1];
+        collidingMap.forEach((key, value) -> sum[0] += value);
+        assertEquals(-(499_500 - 166_833), sum[0]);
+    }
+
+    @Test
+    @DisplayName("when Stats Are Not Enabled then Map Has No Stats")
+    public void whenStatsAreNotEnabled_thenMapHasNoStats() {
+        HashMap<Integer, Integer> hashMap = new HashMap<>();
+
+        //when
+        hashMap.put(1, 1);
+        hashMap.get(1);
+
+        //then
+        assertNull(hashMap.getStats());
+        MapStats stats = hashMap.enableStats();
+        assertSame(stats, hashMap.enableStats());
+        assertEquals(0, stats.getHits());
+        hashMap.disableStats();
+        assertNull(hashMap.getStats());
+    }
+
+    @Test
+    @DisplayName("when Stats Are Enabled then Gets And Resizes Are Counted")
+    public void whenStatsAreEnabled_thenGetsAndResizesAreCounted() {
+        HashMap<Integer, Integer> hashMap = new HashMap<>(10, 2.5, 0.75);
+        MapStats stats = hashMap.enableStats();
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            hashMap.put(i, i);
+        }
+        for (int i = 0; i < 200; i++) {
+            hashMap.get(i);
+        }
+
+        //then
+        MapStats.Snapshot snapshot = stats.snapshot();
+        assertEquals(100, snapshot.getHits());
+        assertEquals(100, snapshot.getMisses());
+        assertEquals(0.5, snapshot.getHitRatio());
+        assertEquals(3, snapshot.getResizes());
+        assertTrue(snapshot.getResizeTimeNanos() > 0);
+        assertEquals(100, snapshot.getSize());
+        assertEquals(hashMap.getCapacity(), snapshot.getCapacity());
+        assertEquals(100.0 / hashMap.getCapacity(), snapshot.getLoadFactor());
+
+        stats.reset();
+        assertEquals(0, stats.getHits());
+        assertEquals(0, stats.getResizes());
+        assertEquals(0, stats.getHitRatio());
+    }
+
+    @Test
+    @DisplayName("when Colliding Keys Are Removed And Put Again then Table Is Not Resized Every Time")
+    public void whenCollidingKeysAreRemovedAndPutAgain_thenTableIsNotResizedEveryTime() {
+        HashMap<CollidingKey, Integer> collidingMap = new HashMap<>();
+        for (int i = 0; i < 12; i++) {
+            collidingMap.put(new CollidingKey(i), i);
+        }
+        MapStats stats = collidingMap.enableStats();
+
+        //when
+        for (int i = 0; i < 1_000; i++) {
+            collidingMap.remove(new CollidingKey(i % 12));
+            collidingMap.put(new CollidingKey(i % 12), i);
+        }
+
+        //then
+        assertTrue(stats.getResizes() <= 1, "resizes " + stats.getResizes());
+        assertTrue(collidingMap.getCapacity() >= 64);
+        assertTrue(collidingMap.isTreeified(new CollidingKey(0)));
+        assertEquals(12, collidingMap.size());
+    }
+
+    @Test
+    @DisplayName("when Snapshot then Bucket Length Histogram Covers Every Bucket And Entry")
+    public void whenSnapshot_thenBucketLengthHistogramCoversEveryBucketAndEntry() {
+        HashMap<Integer, Integer> hashMap = new HashMap<>(10, 2.5, 0.75, true);
+        MapStats stats = hashMap.enableStats();
+        for (int i = 0; i < 1_000; i++) {
+            hashMap.put(i * 7, i);
+        }
+
+        //when
+        MapStats.Snapshot snapshot = stats.snapshot();
+
+        //then
+        long[] histogram = snapshot.getBucketLengthHistogram();
+        assertEquals(MapStats.HISTOGRAM_LENGTH, histogram.length);
+        long entries = 0;
+        long buckets = 0;
+        for (int length = 0; length < histogram.length; length++) {
+            entries += length * histogram[length];
+            buckets += histogram[length];
+        }
+        assertEquals(1_000, entries);
+        assertTrue(buckets >= hashMap.getCapacity());
+        assertTrue(histogram[snapshot.getMaxChainLength()] > 0);
+        assertEquals(0, snapshot.getTreeBuckets());
+    }
+
+    @Test
+    @DisplayName("when Keys Share One Hash Code then Stats Show A Tree Bucket Holding All Of Them")
+    public void whenKeysShareOneHashCode_thenStatsShowATreeBucketHoldingAllOfThem() {
+        HashMap<CollidingKey, Integer> collidingMap = new HashMap<>();
+        MapStats stats = collidingMap.enableStats();
+
+        //when
+        for (int i = 0; i < 1_000; i++) {
+            collidingMap.put(new CollidingKey(i), i);
+        }
+
+        //then
+        MapStats.Snapshot snapshot = stats.snapshot();
+        assertEquals(1_000, snapshot.getMaxChainLength());
+        assertEquals(1, snapshot.getTreeBuckets());
+        assertEquals(1, snapshot.getBucketLengthHistogram()[MapStats.HISTOGRAM_LENGTH - 1]);
+        assertTrue(snapshot.toString().contains("maxChainLength=1000"));
+    }
+
+    @Test
+    @DisplayName("when Stats Are Registered then They Are Readable Through JMX")
+    public void whenStatsAreRegistered_thenTheyAreReadableThroughJmx() throws Exception {
+        HashMap<Integer, Integer> hashMap = new HashMap<>();
+        MapStats stats = hashMap.enableStats();
+        hashMap.put(1, 1);
+        hashMap.get(1);
+        hashMap.get(2);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        //when
+        stats.register("orders, by id");
+
+        //then
+        ObjectName objectName = stats.getObjectName();
+        assertTrue(server.isRegistered(objectName));
+        assertEquals(1L, server.getAttribute(objectName, "Hits"));
+        assertEquals(0.5, server.getAttribute(objectName, "HitRatio"));
+        assertEquals(1, server.getAttribute(objectName, "MaxChainLength"));
+        assertArrayEquals(stats.getBucketLengthHistogram(), (long[]) server.getAttribute(objectName, "BucketLengthHistogram"));
+        assertThrows(IllegalStateException.class, () -> stats.register("orders, by id"));
+
+        hashMap.disableStats();
+        assertFalse(server.isRegistered(objectName));
+    }
+
+    private static class CollidingKey implements Comparable<CollidingKey> {
+        private final int id;
+
+        private CollidingKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(CollidingKey other) {
+            return Integer.compare(id, other.id);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CollidingKey && ((CollidingKey) other).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    private static class NotComparableCollidingKey {
+        private final int id;
 
-        map.remove("key2");
-        assertEquals(1, map.size());
-    }
-
-    @Test
-    @DisplayName("when Map Is Empty then Contains Key Return False")
-    public void whenMapIsEmpty_thenContainsKey_ReturnFalse() {
-        assertFalse(map.containsKey("key1"));
-    }
-
-    @Test
-    @DisplayName("when Contains Existing Key then Return True")
-    public void whenContainsExistingKey_thenReturnTrue() {
-        map.put("key1", "value");
-
-        assertTrue(map.containsKey("key1"));
-    }
-
-    @Test
-    @DisplayName("when Contains Not Existing Key then Return False")
-    public void whenContainsNotExistingKey_thenReturnFalse() {
-        map.put("key1", "value1");
-
-        assertFalse(map.containsKey("key3"));
-    }
-
-    @Test
-    @DisplayName("whenGet By Existing Key then Get By Key Returns Corresponding Value()")
-    public void whenGetByExistingKey_thenGetByKeyReturnsCorrespondingValue() {
-        map.put("key1", "value1");
-        map.put("key2", "value2");
-        map.put("key3", "value3");
-
-        assertEquals("value1", map.get("key1"));
-        assertEquals("value2", map.get("key2"));
-        assertEquals("value3", map.get("key3"));
-        assertEquals(3, map.size());
-    }
-
-    @Test
-    @DisplayName("when Remove Value then Value Is Removed")
-    public void whenRemoveValue_thenValueIsRemoved() {
-        map.put("key1", "value1");
-        map.put("key2", "value2");
-        Iterator<Map.Entry<String, String>> iterator = map.iterator();
-
-        Map.Entry<String, String> e1 = iterator.next();
-        iterator.remove();
-        Map.Entry<String, String> e2 = iterator.next();
-        iterator.remove();
-
-        assertEquals("key1", e1.getKey());
-        assertEquals("key2", e2.getKey());
-        assertFalse(iterator.hasNext());
-    }
-
-    @Test
-    @DisplayName("when Iterator Next then Iterator Has Next Should Returned True")
-    public void whenIteratorNext_thenIteratorHasNextShouldReturnedTrue() {
-        map.put("key1", "value1");
-        map.put("key2", "value2");
-
-        Iterator<Map.Entry<String, String>> iterator = map.iterator();
-
-        assertTrue(iterator.hasNext());
-        iterator.hasNext();
-        assertTrue(iterator.hasNext());
-    }
-
-    @Test
-    @DisplayName("when Iterator Next then Iterator Has Next Should Returned False")
-    public void whenIteratorNext_thenIteratorHasNextShouldReturnedFalse() {
-        map.put("key1", "value1");
-
-        Iterator<Map.Entry<String, String>> iterator = map.iterator();
-
-        assertTrue(iterator.hasNext());
-        iterator.next();
-    }
-
-    @Test
-    @DisplayName("when Remove Without Next then Array Index Out Of Bounds Exception")
-    public void whenRemoveWithoutNext_thenArrayIndexOutOfBoundsException() {
-        Assertions.assertThrows(IllegalStateException.class, () -> {
-
-            map.put("key1", "value1");
-
-            assertEquals(1, map.size());
-
-            Iterator<Map.Entry<String, String>> iterator = map.iterator();
-
-            iterator.remove();
-        });
-    }
-
-    @Test
-    @DisplayName("when Remove Called After Next then Size Should Be Decreased and Map Not Contains Key")
-    public void whenRemoveCalledAfterNext_thenSizeShouldBeDecreased_andMapNotContainsKey() {
-        map.put("key1", "value1");
-
-        Iterator<Map.Entry<String, String>> iterator = map.iterator();
-
-        assertEquals(1, map.size());
-
-        iterator.next();
-        iterator.remove();
-        assertFalse(map.containsKey("key1"));
-        assertEquals(0, map.size());
+        private NotComparableCollidingKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof NotComparableCollidingKey && ((NotComparableCollidingKey) other).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
     }
 }
-
-
-
-
-
-
-
-
@@ -0,0 +1,9 @@
+package com.bondarenko.datastructures.map;
+
+public class IncrementalResizeHashMapTest extends AbstractMapTest {
+
+    @Override
+    Map<String, String> getMap() {
+        return new HashMap<>(5, 2.5, 0.75, true);
+    }
+}
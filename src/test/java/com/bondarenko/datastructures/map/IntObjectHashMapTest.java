@@ -0,0 +1,109 @@
+package com.bondarenko.datastructures.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntObjectHashMapTest {
+
+    IntObjectMap<String> map = new IntObjectHashMap<>();
+
+    @Test
+    @DisplayName("when Put then Get By Key Returns Corresponding Value")
+    public void whenPut_thenGetByKeyReturnsCorrespondingValue() {
+        map.put(1, "value1");
+        map.put(2, "value2");
+
+        assertEquals(2, map.size());
+        assertEquals("value1", map.get(1));
+        assertEquals("value2", map.get(2));
+        assertNull(map.get(3));
+    }
+
+    @Test
+    @DisplayName("when Put By The Same Key then Value Is Overwritten And Old Value Returned")
+    public void whenPutByTheSameKey_thenValueIsOverwritten_AndOldValueReturned() {
+        map.put(1, "value1");
+
+        assertEquals("value1", map.put(1, "value2"));
+        assertEquals(1, map.size());
+        assertEquals("value2", map.get(1));
+    }
+
+    @Test
+    @DisplayName("when Put Zero Key then It Is Stored Like Any Other Key")
+    public void whenPutZeroKey_thenItIsStoredLikeAnyOtherKey() {
+        assertFalse(map.containsKey(0));
+
+        map.put(0, "zero");
+
+        assertTrue(map.containsKey(0));
+        assertEquals("zero", map.get(0));
+        assertEquals(1, map.size());
+        assertEquals("zero", map.remove(0));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    @DisplayName("when Remove then Key Is Not Present And Removed Value Returned")
+    public void whenRemove_thenKeyIsNotPresent_AndRemovedValueReturned() {
+        map.put(1, "value1");
+        map.put(2, "value2");
+
+        assertEquals("value1", map.remove(1));
+        assertNull(map.remove(1));
+        assertFalse(map.containsKey(1));
+        assertTrue(map.containsKey(2));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    @DisplayName("when For Each then Every Pair Is Visited")
+    public void whenForEach_thenEveryPairIsVisited() {
+        for (int i = -50; i < 50; i++) {
+            map.put(i, "value" + i);
+        }
+
+        int[] visited = new int[1];
+        map.forEach((key, value) -> {
+            assertEquals("value" + key, value);
+            visited[0]++;
+        });
+
+        assertEquals(100, visited[0]);
+    }
+
+    @Test
+    @DisplayName("when Put Over Threshold then Capacity Doubles")
+    public void whenPutOverThreshold_thenCapacityDoubles() {
+        IntObjectHashMap<String> intObjectHashMap = new IntObjectHashMap<>(16);
+        for (int i = 1; i <= 13; i++) {
+            intObjectHashMap.put(i, "value" + i);
+        }
+
+        assertEquals(32, intObjectHashMap.getCapacity());
+    }
+
+    @Test
+    @DisplayName("when Random Puts And Removes then Map Behaves Like java.util.HashMap")
+    public void whenRandomPutsAndRemoves_thenMapBehavesLikeJavaUtilHashMap() {
+        java.util.Map<Integer, String> expected = new java.util.HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2_000) - 1_000;
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, "value" + i), map.put(key, "value" + i));
+            } else {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int key = -1_000; key < 1_000; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+}
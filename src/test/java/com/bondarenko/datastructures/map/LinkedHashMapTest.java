@@ -0,0 +1,107 @@
+package com.bondarenko.datastructures.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.StringJoiner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LinkedHashMapTest extends AbstractMapTest {
+
+    @Override
+    Map<String, String> getMap() {
+        return new LinkedHashMap<>();
+    }
+
+    @Test
+    @DisplayName("when Capacity Grows then Iteration Keeps Insertion Order")
+    public void whenCapacityGrows_thenIterationKeepsInsertionOrder() {
+        LinkedHashMap<Integer, Integer> linkedMap = new LinkedHashMap<>();
+        for (int i = 99; i >= 0; i--) {
+            linkedMap.put(i, i);
+        }
+
+        //when
+        linkedMap.put(50, -50);
+        linkedMap.remove(98);
+
+        //then
+        int expected = 99;
+        for (Map.Entry<Integer, Integer> entry : linkedMap) {
+            assertEquals(expected, entry.getKey());
+            expected -= expected == 99 ? 2 : 1;
+        }
+        assertEquals(-1, expected);
+        assertEquals(-50, linkedMap.get(50));
+    }
+
+    @Test
+    @DisplayName("when Access Order then Get Moves Entry To The End")
+    public void whenAccessOrder_thenGetMovesEntryToTheEnd() {
+        LinkedHashMap<String, String> linkedMap = new LinkedHashMap<>(5, 2.5, 0.75, true);
+        linkedMap.put("A", "1");
+        linkedMap.put("B", "2");
+        linkedMap.put("C", "3");
+
+        //when
+        linkedMap.get("A");
+        linkedMap.put("B", "22");
+
+        //then
+        assertEquals("C,A,B", keys(linkedMap));
+    }
+
+    @Test
+    @DisplayName("when Remove Eldest Entry Returns True then Map Stays Bounded")
+    public void whenRemoveEldestEntryReturnsTrue_thenMapStaysBounded() {
+        LinkedHashMap<String, String> linkedMap = new LinkedHashMap<>(5, 2.5, 0.75, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > 2;
+            }
+        };
+
+        //when
+        linkedMap.put("A", "1");
+        linkedMap.put("B", "2");
+        linkedMap.get("A");
+        linkedMap.put("C", "3");
+
+        //then
+        assertEquals(2, linkedMap.size());
+        assertFalse(linkedMap.containsKey("B"));
+        assertEquals("A,C", keys(linkedMap));
+    }
+
+    @Test
+    @DisplayName("when Iterator Removes Every Other Entry then Order Of The Rest Is Kept")
+    public void whenIteratorRemovesEveryOtherEntry_thenOrderOfTheRestIsKept() {
+        for (int i = 0; i < 10; i++) {
+            map.put("key" + i, "value" + i);
+        }
+        Iterator<Map.Entry<String, String>> iterator = map.iterator();
+
+        //when
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            if (iterator.hasNext()) {
+                iterator.next();
+            }
+        }
+
+        //then
+        assertEquals(5, map.size());
+        assertEquals("key1,key3,key5,key7,key9", keys(map));
+    }
+
+    private static String keys(Map<String, String> map) {
+        StringJoiner keys = new StringJoiner(",");
+        for (Map.Entry<String, String> entry : map) {
+            keys.add(entry.getKey());
+        }
+        return keys.toString();
+    }
+}
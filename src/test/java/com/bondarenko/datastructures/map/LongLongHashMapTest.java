@@ -0,0 +1,108 @@
+package com.bondarenko.datastructures.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongLongHashMapTest {
+
+    LongLongMap map = new LongLongHashMap();
+
+    @Test
+    @DisplayName("when Put then Get By Key Returns Corresponding Value")
+    public void whenPut_thenGetByKeyReturnsCorrespondingValue() {
+        map.put(1L, 10L);
+        map.put(Long.MAX_VALUE, 20L);
+
+        assertEquals(2, map.size());
+        assertEquals(10L, map.get(1L));
+        assertEquals(20L, map.get(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("when Get Missing Key then Zero Or Default Value Returned")
+    public void whenGetMissingKey_thenZeroOrDefaultValueReturned() {
+        assertEquals(0L, map.get(1L));
+        assertEquals(-1L, map.getOrDefault(1L, -1L));
+        assertFalse(map.containsKey(1L));
+    }
+
+    @Test
+    @DisplayName("when Put By The Same Key then Old Value Returned")
+    public void whenPutByTheSameKey_thenOldValueReturned() {
+        map.put(1L, 10L);
+
+        assertEquals(10L, map.put(1L, 20L));
+        assertEquals(20L, map.get(1L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    @DisplayName("when Add To then Counter Is Incremented")
+    public void whenAddTo_thenCounterIsIncremented() {
+        assertEquals(1L, map.addTo(42L, 1L));
+        assertEquals(3L, map.addTo(42L, 2L));
+        assertEquals(5L, map.addTo(0L, 5L));
+        assertEquals(6L, map.addTo(0L, 1L));
+
+        assertEquals(2, map.size());
+        assertEquals(3L, map.get(42L));
+        assertEquals(6L, map.get(0L));
+    }
+
+    @Test
+    @DisplayName("when Put Zero Key then It Is Stored Like Any Other Key")
+    public void whenPutZeroKey_thenItIsStoredLikeAnyOtherKey() {
+        map.put(0L, 7L);
+
+        assertTrue(map.containsKey(0L));
+        assertEquals(7L, map.get(0L));
+        assertEquals(7L, map.remove(0L));
+        assertFalse(map.containsKey(0L));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    @DisplayName("when For Each then Every Pair Is Visited")
+    public void whenForEach_thenEveryPairIsVisited() {
+        for (long i = 0; i < 100; i++) {
+            map.put(i, i * 10);
+        }
+
+        long[] sum = new long[2];
+        map.forEach((key, value) -> {
+            assertEquals(key * 10, value);
+            sum[0] += key;
+            sum[1]++;
+        });
+
+        assertEquals(4950L, sum[0]);
+        assertEquals(100L, sum[1]);
+    }
+
+    @Test
+    @DisplayName("when Random Puts And Removes then Map Behaves Like java.util.HashMap")
+    public void whenRandomPutsAndRemoves_thenMapBehavesLikeJavaUtilHashMap() {
+        java.util.Map<Long, Long> expected = new java.util.HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2_000) - 1_000;
+            if (random.nextBoolean()) {
+                Long previous = expected.put(key, (long) i);
+                assertEquals(previous == null ? 0L : previous, map.put(key, i));
+            } else {
+                Long previous = expected.remove(key);
+                assertEquals(previous == null ? 0L : previous, map.remove(key));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = -1_000; key < 1_000; key++) {
+            assertEquals(expected.containsKey(key), map.containsKey(key));
+            assertEquals(expected.getOrDefault(key, 0L), map.get(key));
+        }
+    }
+}
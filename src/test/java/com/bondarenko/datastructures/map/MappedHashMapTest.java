@@ -0,0 +1,175 @@
+package com.bondarenko.datastructures.map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedHashMapTest extends AbstractMapTest {
+
+    @Override
+    Map<String, String> getMap() {
+        try {
+            return new MappedHashMap<>(createFile(), Serializer.ofString(), Serializer.ofString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    @DisplayName("when Map Is Closed And Opened Again then Entries Are Kept Without Rehash")
+    public void whenMapIsClosedAndOpenedAgain_thenEntriesAreKeptWithoutRehash() throws IOException {
+        Path file = createFile();
+        MappedHashMap<String, String> mappedMap = new MappedHashMap<>(file, Serializer.ofString(), Serializer.ofString());
+        for (int i = 0; i < 1_000; i++) {
+            mappedMap.put("key" + i, "value" + i);
+        }
+        mappedMap.put("key5", "updated");
+        mappedMap.remove("key7");
+        mappedMap.put(null, "null key");
+        int capacity = mappedMap.getCapacity();
+
+        //when
+        mappedMap.close();
+        MappedHashMap<String, String> reopenedMap = new MappedHashMap<>(file, Serializer.ofString(), Serializer.ofString());
+
+        //then
+        assertEquals(1_000, reopenedMap.size());
+        assertEquals(capacity, reopenedMap.getCapacity());
+        assertEquals("updated", reopenedMap.get("key5"));
+        assertFalse(reopenedMap.containsKey("key7"));
+        assertEquals("null key", reopenedMap.get(null));
+        assertEquals("value999", reopenedMap.get("key999"));
+        reopenedMap.close();
+    }
+
+    @Test
+    @DisplayName("when Map Is Not Closed then Reopen Verifies Records And Keeps Entries")
+    public void whenMapIsNotClosed_thenReopenVerifiesRecordsAndKeepsEntries() throws IOException {
+        Path file = createFile();
+        MappedHashMap<String, String> mappedMap = new MappedHashMap<>(file, Serializer.ofString(), Serializer.ofString());
+        for (int i = 0; i < 100; i++) {
+            mappedMap.put("key" + i, "value" + i);
+        }
+
+        //when
+        MappedHashMap<String, String> reopenedMap = new MappedHashMap<>(file, Serializer.ofString(), Serializer.ofString());
+
+        //then
+        assertEquals(100, reopenedMap.size());
+        assertEquals("value42", reopenedMap.get("key42"));
+        reopenedMap.verify();
+    }
+
+    @Test
+    @DisplayName("when Record Is Torn And Map Is Not Closed then Reopen Throws Exception")
+    public void whenRecordIsTornAndMapIsNotClosed_thenReopenThrowsException() throws IOException {
+        Path file = createFile();
+        MappedHashMap<String, String> mappedMap = new MappedHashMap<>(file, Serializer.ofString(), Serializer.ofString(), 4);
+        mappedMap.put("key", "value");
+        int firstRecord = 64 + 4 * Long.BYTES;
+
+        //when
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap("XXXXX".getBytes()), firstRecord + 24 + 3);
+        }
+
+        //then
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            new MappedHashMap<>(file, Serializer.ofString(), Serializer.ofString());
+        });
+    }
+
+    @Test
+    @DisplayName("when Header Is Torn then Open Throws Exception")
+    public void whenHeaderIsTorn_thenOpenThrowsException() throws IOException {
+        Path file = createFile();
+        MappedHashMap<String, String> mappedMap = new MappedHashMap<>(file, Serializer.ofString(), Serializer.ofString());
+        mappedMap.put("key", "value");
+        mappedMap.close();
+
+        //when
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), 16);
+        }
+
+        //then
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            new MappedHashMap<>(file, Serializer.ofString(), Serializer.ofString());
+        });
+    }
+
+    @Test
+    @DisplayName("when File Spans Many Segments then Entries Survive Reopen")
+    public void whenFileSpansManySegments_thenEntriesSurviveReopen() throws IOException {
+        Path file = createFile();
+        MappedHashMap<String, String> mappedMap = new MappedHashMap<>(file, Serializer.ofString(), Serializer.ofString(), 4, 256);
+
+        //when
+        for (int i = 0; i < 2_000; i++) {
+            mappedMap.put("key" + i, "value" + i);
+        }
+        mappedMap.remove("key7");
+        mappedMap.put("key8", "replaced");
+
+        //then
+        assertTrue(mappedMap.getSegmentCount() > 100);
+        mappedMap.verify();
+        // not closed, so the reopened map verifies every record, the segment size is read from the header
+        MappedHashMap<String, String> reopenedMap = new MappedHashMap<>(file, Serializer.ofString(), Serializer.ofString());
+        assertEquals(1_999, reopenedMap.size());
+        assertNull(reopenedMap.get("key7"));
+        assertEquals("replaced", reopenedMap.get("key8"));
+        for (int i = 9; i < 2_000; i++) {
+            assertEquals("value" + i, reopenedMap.get("key" + i));
+        }
+        reopenedMap.close();
+    }
+
+    @Test
+    @DisplayName("when Record Is Larger Then Segment then Throw Exception And Map Is Unchanged")
+    public void whenRecordIsLargerThenSegment_thenThrowExceptionAndMapIsUnchanged() throws IOException {
+        MappedHashMap<String, String> mappedMap = new MappedHashMap<>(createFile(), Serializer.ofString(), Serializer.ofString(), 4, 64);
+        mappedMap.put("key", "value");
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            mappedMap.put("key", "x".repeat(64));
+        });
+
+        //then
+        assertEquals(1, mappedMap.size());
+        assertEquals("value", mappedMap.get("key"));
+        mappedMap.close();
+    }
+
+    @Test
+    @DisplayName("when Map Is Closed then Operations Throw Exception")
+    public void whenMapIsClosed_thenOperationsThrowException() throws IOException {
+        MappedHashMap<String, String> mappedMap = new MappedHashMap<>(createFile(), Serializer.ofString(), Serializer.ofString());
+
+        //when
+        mappedMap.close();
+        mappedMap.close();
+
+        //then
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            mappedMap.get("key");
+        });
+    }
+
+    private static Path createFile() throws IOException {
+        Path file = Files.createTempFile("mapped-hash-map", ".map");
+        file.toFile().deleteOnExit();
+        return file;
+    }
+}
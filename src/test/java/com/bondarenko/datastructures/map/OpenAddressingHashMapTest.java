@@ -0,0 +1,62 @@
+package com.bondarenko.datastructures.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OpenAddressingHashMapTest extends AbstractMapTest {
+
+    @Override
+    Map<String, String> getMap() {
+        return new OpenAddressingHashMap<>();
+    }
+
+    @Test
+    @DisplayName("when Capacity Is Not Power Of Two then Round It Up")
+    public void whenCapacityIsNotPowerOfTwo_thenRoundItUp() {
+        assertEquals(16, new OpenAddressingHashMap<String, String>(10).getCapacity());
+        assertEquals(2, new OpenAddressingHashMap<String, String>(0).getCapacity());
+    }
+
+    @Test
+    @DisplayName("when Size Exceeds Load Factor then Capacity Doubles")
+    public void whenSizeExceedsLoadFactor_thenCapacityDoubles() {
+        OpenAddressingHashMap<Integer, Integer> openMap = new OpenAddressingHashMap<>(16);
+        for (int i = 0; i < 13; i++) {
+            openMap.put(i, i);
+        }
+
+        assertEquals(32, openMap.getCapacity());
+    }
+
+    @Test
+    @DisplayName("when Put And Remove Repeatedly then Capacity Does Not Grow")
+    public void whenPutAndRemoveRepeatedly_thenCapacityDoesNotGrow() {
+        OpenAddressingHashMap<Integer, Integer> openMap = new OpenAddressingHashMap<>(16);
+        for (int i = 0; i < 10_000; i++) {
+            openMap.put(i, i);
+            openMap.put(i + 1, i);
+            openMap.remove(i);
+            openMap.remove(i + 1);
+        }
+
+        assertEquals(16, openMap.getCapacity());
+        assertTrue(openMap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("when Keys Collide then All Of Them Are Found")
+    public void whenKeysCollide_thenAllOfThemAreFound() {
+        OpenAddressingHashMap<Integer, String> openMap = new OpenAddressingHashMap<>(16);
+        for (int i = 0; i < 10; i++) {
+            openMap.put(i << 20, "value" + i);
+        }
+        openMap.remove(3 << 20);
+
+        assertEquals(9, openMap.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i == 3 ? null : "value" + i, openMap.get(i << 20));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.bondarenko.datastructures.map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistentHashMapTest {
+
+    @Test
+    @DisplayName("when With And Without then Old Versions Are Not Changed")
+    public void whenWithAndWithout_thenOldVersionsAreNotChanged() {
+        PersistentHashMap<String, String> empty = PersistentHashMap.empty();
+
+        //when
+        PersistentHashMap<String, String> first = empty.with("key1", "value1");
+        PersistentHashMap<String, String> second = first.with("key2", "value2").with("key1", "value3");
+        PersistentHashMap<String, String> third = second.without("key2");
+
+        //then
+        assertTrue(empty.isEmpty());
+        assertEquals(1, first.size());
+        assertEquals("value1", first.get("key1"));
+        assertNull(first.get("key2"));
+        assertEquals(2, second.size());
+        assertEquals("value3", second.get("key1"));
+        assertEquals("value2", second.get("key2"));
+        assertEquals(1, third.size());
+        assertFalse(third.containsKey("key2"));
+    }
+
+    @Test
+    @DisplayName("when Nothing Changes then Same Map Is Returned")
+    public void whenNothingChanges_thenSameMapIsReturned() {
+        String value = "value";
+        PersistentHashMap<String, String> map = PersistentHashMap.<String, String>empty().with("key", value);
+
+        //then
+        assertSame(map, map.with("key", value));
+        assertSame(map, map.without("missing"));
+    }
+
+    @Test
+    @DisplayName("when Null Key And Null Value then They Are Stored")
+    public void whenNullKeyAndNullValue_thenTheyAreStored() {
+        //when
+        PersistentHashMap<String, String> map = PersistentHashMap.<String, String>empty()
+                .with(null, "value")
+                .with("key", null);
+
+        //then
+        assertEquals(2, map.size());
+        assertEquals("value", map.get(null));
+        assertTrue(map.containsKey("key"));
+        assertNull(map.get("key"));
+        assertEquals(1, map.without(null).size());
+    }
+
+    @Test
+    @DisplayName("when Random Operations With Colliding Keys then Every Version Matches java.util.HashMap")
+    public void whenRandomOperationsWithCollidingKeys_thenEveryVersionMatchesJavaUtilHashMap() {
+        PersistentHashMap<Object, Integer> map = PersistentHashMap.empty();
+        java.util.Map<Object, Integer> expected = new java.util.HashMap<>();
+        Random random = new Random(19);
+
+        for (int i = 0; i < 50_000; i++) {
+            int id = random.nextInt(2_000);
+            // equal hash codes for ids 0..99, hash codes equal in the low bits for the rest
+            Object key = id < 100 ? new Key(id, 7) : new Key(id, (id % 50) << 20 | 3);
+            if (random.nextInt(3) == 0) {
+                map = map.without(key);
+                expected.remove(key);
+            } else {
+                map = map.with(key, i);
+                expected.put(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        for (java.util.Map.Entry<Object, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        java.util.Map<Object, Integer> iterated = new java.util.HashMap<>();
+        for (Map.Entry<Object, Integer> entry : map) {
+            assertNull(iterated.put(entry.getKey(), entry.getValue()));
+        }
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    @DisplayName("when Every Key Is Removed then Map Is Empty")
+    public void whenEveryKeyIsRemoved_thenMapIsEmpty() {
+        PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < 10_000; i++) {
+            map = map.with(i, i);
+        }
+
+        //when
+        for (int i = 0; i < 10_000; i++) {
+            map = map.without(i);
+        }
+
+        //then
+        assertTrue(map.isEmpty());
+        assertFalse(map.iterator().hasNext());
+    }
+
+    @Test
+    @DisplayName("when Change In Place then Throw Exception")
+    public void whenChangeInPlace_thenThrowException() {
+        PersistentHashMap<String, String> map = PersistentHashMap.<String, String>empty().with("key", "value");
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> map.put("key", "value2"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> map.remove("key"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> map.iterator().next().setValue("value2"));
+        assertEquals("value", map.get("key"));
+    }
+
+    static class Key {
+        private final int id;
+        private final int hashCode;
+
+        Key(int id, int hashCode) {
+            this.id = id;
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && ((Key) other).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
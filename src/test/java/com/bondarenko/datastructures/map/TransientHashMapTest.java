@@ -0,0 +1,102 @@
+package com.bondarenko.datastructures.map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransientHashMapTest {
+
+    @Test
+    @DisplayName("when Bulk Load And Persistent then Persistent Map Has Every Entry")
+    public void whenBulkLoadAndPersistent_thenPersistentMapHasEveryEntry() {
+        TransientHashMap<Integer, String> transientMap = new TransientHashMap<>();
+
+        //when
+        for (int i = 0; i < 100_000; i++) {
+            assertNull(transientMap.put(i, "value" + i));
+        }
+        assertEquals("value5", transientMap.put(5, "five"));
+        assertEquals("value6", transientMap.remove(6));
+        PersistentHashMap<Integer, String> map = transientMap.persistent();
+
+        //then
+        assertEquals(99_999, map.size());
+        assertEquals("five", map.get(5));
+        assertFalse(map.containsKey(6));
+        for (int i = 7; i < 100_000; i++) {
+            assertEquals("value" + i, map.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("when As Transient Changes then Source Map Is Not Changed")
+    public void whenAsTransientChanges_thenSourceMapIsNotChanged() {
+        PersistentHashMap<Integer, Integer> source = PersistentHashMap.empty();
+        for (int i = 0; i < 1_000; i++) {
+            source = source.with(i, i);
+        }
+
+        //when
+        TransientHashMap<Integer, Integer> transientMap = source.asTransient();
+        for (int i = 0; i < 1_000; i += 2) {
+            transientMap.remove(i);
+            transientMap.put(i + 1, -i);
+        }
+        PersistentHashMap<Integer, Integer> changed = transientMap.persistent();
+
+        //then
+        assertEquals(1_000, source.size());
+        assertEquals(500, changed.size());
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i, source.get(i));
+            assertEquals(i % 2 == 0 ? null : Integer.valueOf(1 - i), changed.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("when Changed After Persistent then Throw Exception")
+    public void whenChangedAfterPersistent_thenThrowException() {
+        TransientHashMap<String, String> transientMap = new TransientHashMap<>();
+        transientMap.put("key", "value");
+        PersistentHashMap<String, String> map = transientMap.persistent();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> transientMap.put("key", "value2"));
+        Assertions.assertThrows(IllegalStateException.class, () -> transientMap.remove("key"));
+        Assertions.assertThrows(IllegalStateException.class, transientMap::persistent);
+        assertEquals("value", map.get("key"));
+        assertEquals("value", transientMap.get("key"));
+    }
+
+    @Test
+    @DisplayName("when Iterator Removes And Sets Values then Iteration Is Not Disturbed")
+    public void whenIteratorRemovesAndSetsValues_thenIterationIsNotDisturbed() {
+        TransientHashMap<Integer, Integer> transientMap = new TransientHashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            transientMap.put(i, i);
+        }
+
+        //when
+        int visited = 0;
+        Iterator<Map.Entry<Integer, Integer>> iterator = transientMap.iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, Integer> entry = iterator.next();
+            visited++;
+            if (entry.getKey() % 2 == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue(-entry.getValue());
+            }
+        }
+
+        //then
+        assertEquals(1_000, visited);
+        assertEquals(500, transientMap.size());
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i % 2 == 0 ? null : Integer.valueOf(-i), transientMap.get(i));
+        }
+    }
+}